@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.benchmarks.model.Department;
+import org.hibernate.benchmarks.model.Employee;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures inserting {@link #entities} entities in one transaction,
+ * with and without JDBC batching through {@code BatchImpl}.
+ */
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "1000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void createSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.of( BatchSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) )
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void createDepartment() {
+		sessionFactory.inTransaction( session -> session.persist( new Department( 0L, "department" ) ) );
+		nextId = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void truncate() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+	}
+
+	@Benchmark
+	public void persist() {
+		sessionFactory.inTransaction( session -> {
+			final Department department = session.getReference( Department.class, 0L );
+			for ( int i = 0; i < entities; i++ ) {
+				session.persist( new Employee( nextId++, department ) );
+			}
+		} );
+	}
+
+	@Benchmark
+	public void insertMultiple() {
+		sessionFactory.inStatelessTransaction( session -> {
+			final Department department = session.get( Department.class, 0L );
+			final Employee[] employees = new Employee[entities];
+			for ( int i = 0; i < entities; i++ ) {
+				employees[i] = new Employee( nextId++, department );
+			}
+			session.insertMultiple( List.of( employees ) );
+		} );
+	}
+}
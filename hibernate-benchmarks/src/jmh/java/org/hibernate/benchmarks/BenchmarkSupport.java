@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Department;
+import org.hibernate.benchmarks.model.Employee;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Bootstraps the {@link SessionFactory} shared by the benchmarks, backed by
+ * a private in-memory H2 database.
+ */
+final class BenchmarkSupport {
+	static final int DEPARTMENTS = 10;
+
+	private BenchmarkSupport() {
+	}
+
+	static SessionFactoryImplementor buildSessionFactory(Map<String, String> settings) {
+		return buildSessionFactory( settings, Department.class, Employee.class );
+	}
+
+	static SessionFactoryImplementor buildSessionFactory(Map<String, String> settings, Class<?>... annotatedClasses) {
+		final Configuration configuration = new Configuration();
+		for ( Class<?> annotatedClass : annotatedClasses ) {
+			configuration.addAnnotatedClass( annotatedClass );
+		}
+		configuration
+				.setProperty( AvailableSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:bench" + System.nanoTime() + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.SHOW_SQL, false )
+				.setProperty( AvailableSettings.GENERATE_STATISTICS, false );
+		settings.forEach( configuration::setProperty );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( Map.of() );
+	}
+
+	/**
+	 * Inserts {@link #DEPARTMENTS} departments and the given number of
+	 * employees spread evenly across them.
+	 */
+	static void populate(SessionFactory sessionFactory, int employees) {
+		sessionFactory.inStatelessTransaction( session -> {
+			final Department[] departments = new Department[DEPARTMENTS];
+			for ( int d = 0; d < DEPARTMENTS; d++ ) {
+				departments[d] = new Department( (long) d, "department" + d );
+				session.insert( departments[d] );
+			}
+			for ( long e = 0; e < employees; e++ ) {
+				session.insert( new Employee( e, departments[(int) ( e % DEPARTMENTS )] ) );
+			}
+		} );
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures building a {@code SessionFactory} for a domain model of
+ * {@link #entities} generated entity classes, each with a few basic
+ * attributes, an element collection, and an association to the
+ * previous entity, with and without
+ * {@linkplain AvailableSettings#PARALLEL_PERSISTER_CREATION parallel
+ * persister creation}.
+ */
+@State(Scope.Benchmark)
+public class BootBenchmark {
+	private static final String PACKAGE = BootBenchmark.class.getPackageName() + ".generated";
+
+	@Param({ "100", "500" })
+	public int entities;
+
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	private ClassLoader classLoader;
+	private Class<?>[] entityClasses;
+
+	@Setup(Level.Trial)
+	public void generateEntityClasses() throws ClassNotFoundException {
+		final ByteBuddy byteBuddy = new ByteBuddy();
+		final Map<String, byte[]> typeDefinitions = new LinkedHashMap<>();
+		final TypeDescription.Generic tags =
+				TypeDescription.Generic.Builder.parameterizedType( Set.class, String.class ).build();
+		TypeDescription previous = null;
+		for ( int i = 0; i < entities; i++ ) {
+			DynamicType.Builder<Object> builder = byteBuddy.subclass( Object.class )
+					.name( PACKAGE + ".Entity" + i )
+					.annotateType( AnnotationDescription.Builder.ofType( Entity.class ).build() )
+					.defineField( "id", Long.class, Visibility.PRIVATE )
+					.annotateField( AnnotationDescription.Builder.ofType( Id.class ).build() )
+					.defineField( "name", String.class, Visibility.PRIVATE )
+					.defineField( "created", LocalDateTime.class, Visibility.PRIVATE )
+					.defineField( "amount", BigDecimal.class, Visibility.PRIVATE )
+					.defineField( "tags", tags, Visibility.PRIVATE )
+					.annotateField( AnnotationDescription.Builder.ofType( ElementCollection.class ).build() );
+			if ( previous != null ) {
+				builder = builder.defineField( "previous", previous, Visibility.PRIVATE )
+						.annotateField( AnnotationDescription.Builder.ofType( ManyToOne.class )
+								.define( "fetch", FetchType.LAZY )
+								.build() );
+			}
+			final DynamicType.Unloaded<Object> type = builder.make();
+			typeDefinitions.put( type.getTypeDescription().getName(), type.getBytes() );
+			previous = type.getTypeDescription();
+		}
+
+		classLoader = new ByteArrayClassLoader( BootBenchmark.class.getClassLoader(), typeDefinitions );
+		entityClasses = new Class<?>[entities];
+		int i = 0;
+		for ( String name : typeDefinitions.keySet() ) {
+			entityClasses[i++] = classLoader.loadClass( name );
+		}
+	}
+
+	@Benchmark
+	public void buildSessionFactory() {
+		// the generated classes must be visible to the ClassLoaderService
+		final Thread thread = Thread.currentThread();
+		final ClassLoader original = thread.getContextClassLoader();
+		thread.setContextClassLoader( classLoader );
+		try {
+			final SessionFactoryImplementor sessionFactory = BenchmarkSupport.buildSessionFactory(
+					Map.of(
+							AvailableSettings.HBM2DDL_AUTO, "none",
+							AvailableSettings.PARALLEL_PERSISTER_CREATION, Boolean.toString( parallel )
+					),
+					entityClasses
+			);
+			sessionFactory.close();
+		}
+		finally {
+			thread.setContextClassLoader( original );
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Employee;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of flushing a persistence context holding
+ * {@link #managedEntities} entities of which {@link #dirtyEntities}
+ * were modified, which is dominated by the dirty checking performed
+ * by {@code DefaultFlushEntityEventListener}.
+ */
+@State(Scope.Benchmark)
+public class FlushDirtyCheckingBenchmark {
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	@Param({ "0", "10" })
+	public int dirtyEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void createSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, managedEntities );
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void loadEntities() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		final List<Employee> employees =
+				session.createSelectionQuery( "from Employee", Employee.class ).getResultList();
+		for ( int i = 0; i < dirtyEntities; i++ ) {
+			final Employee employee = employees.get( i * ( employees.size() / dirtyEntities ) );
+			employee.setSalary( employee.getSalary().add( BigDecimal.ONE ) );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
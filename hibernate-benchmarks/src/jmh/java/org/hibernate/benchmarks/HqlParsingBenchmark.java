@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures parsing HQL with ANTLR and interpreting the parse tree as
+ * an SQM tree with {@code SemanticQueryBuilder}, bypassing the query
+ * plan cache.
+ */
+@State(Scope.Benchmark)
+public class HqlParsingBenchmark {
+	@Param({
+			"from Employee",
+			"select e.firstName, e.lastName from Employee e where e.salary > :salary and e.active = true order by e.lastName",
+			"select d.name, count(e), avg(e.salary) from Department d join d.employees e where e.hired between :from and :to group by d.name having count(e) > 1"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private HqlTranslator hqlTranslator;
+
+	@Setup(Level.Trial)
+	public void createSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<?> parse() {
+		return hqlTranslator.translate( hql, null );
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+
+import org.hibernate.benchmarks.model.Employee;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of reading rows into managed entities and into
+ * scalar tuples, exercising {@code StandardRowReader} and
+ * {@code EntityInitializerImpl}.
+ */
+@State(Scope.Benchmark)
+public class HydrationBenchmark {
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void createSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, rows );
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Employee> entities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Employee", Employee.class )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Employee> entitiesWithJoinFetch() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Employee e join fetch e.department", Employee.class )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Employee> readOnlyEntities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Employee", Employee.class )
+						.setReadOnly( true )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "select e.id, e.firstName, e.salary, e.hired from Employee e", Object[].class )
+						.getResultList()
+		);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the conversion of SQM trees into SQL AST trees by
+ * {@code BaseSqmToSqlAstConverter}, and the rendering of SQL AST
+ * trees into SQL strings by {@code AbstractSqlAstTranslator}.
+ */
+@State(Scope.Benchmark)
+public class SqlRenderingBenchmark {
+	@Param({
+			"from Employee",
+			"select e.firstName, e.lastName from Employee e where e.salary > 1000 and e.active = true order by e.lastName",
+			"select d.name, count(e), avg(e.salary) from Department d join d.employees e group by d.name having count(e) > 1"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory sqlAstTranslatorFactory;
+	private SqmSelectStatement<Object> sqm;
+	private SelectStatement sqlAst;
+
+	@Setup(Level.Trial)
+	public void createSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		sqlAstTranslatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+		//noinspection unchecked
+		sqm = (SqmSelectStatement<Object>) sessionFactory.getQueryEngine().getHqlTranslator().translate( hql, null );
+		sqlAst = convert();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SelectStatement convert() {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		return queryEngine.getSqmTranslatorFactory()
+				.createSelectTranslator(
+						sqm,
+						QueryOptions.NONE,
+						DomainParameterXref.from( sqm ),
+						QueryParameterBindingsImpl.EMPTY,
+						new LoadQueryInfluencers( sessionFactory ),
+						sessionFactory.getSqlTranslationEngine(),
+						true
+				)
+				.translate()
+				.getSqlAst();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect render() {
+		return sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+}
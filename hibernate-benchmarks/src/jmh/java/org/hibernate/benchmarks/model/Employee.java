@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Employee {
+	@Id
+	private Long id;
+	private String firstName;
+	private String lastName;
+	private String email;
+	private int grade;
+	private boolean active;
+	private BigDecimal salary;
+	private LocalDate hired;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Department department;
+
+	protected Employee() {
+	}
+
+	public Employee(Long id, Department department) {
+		this.id = id;
+		this.department = department;
+		this.firstName = "first" + id;
+		this.lastName = "last" + id;
+		this.email = "employee" + id + "@hibernate.org";
+		this.grade = (int) ( id % 10 );
+		this.active = id % 2 == 0;
+		this.salary = BigDecimal.valueOf( 1000 + id );
+		this.hired = LocalDate.of( 2000, 1, 1 ).plusDays( id % 5000 );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public int getGrade() {
+		return grade;
+	}
+
+	public void setGrade(int grade) {
+		this.grade = grade;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public BigDecimal getSalary() {
+		return salary;
+	}
+
+	public void setSalary(BigDecimal salary) {
+		this.salary = salary;
+	}
+
+	public LocalDate getHired() {
+		return hired;
+	}
+
+	public Department getDepartment() {
+		return department;
+	}
+}
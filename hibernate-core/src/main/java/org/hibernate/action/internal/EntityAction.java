@@ -187,7 +187,7 @@ public void afterDeserialize(EventSource session) {
 							.getEntityDescriptor( entityName );
 			this.instance =
 					session.getPersistenceContext()
-							.getEntity( session.generateEntityKey( id, persister ) );
+							.getEntity( persister, id );
 		}
 	}
 
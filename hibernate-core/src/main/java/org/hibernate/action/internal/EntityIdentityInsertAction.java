@@ -4,6 +4,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.EntityKey;
@@ -70,48 +73,122 @@ public EntityIdentityInsertAction(
 
 	@Override
 	public void execute() throws HibernateException {
-		nullifyTransientReferencesIfNotAlready();
-
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-
-		setVeto( preInsert() );
-
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
-
-		if ( !isVeto() ) {
+		if ( prepareInsert() ) {
+			final EntityPersister persister = getPersister();
+			final SharedSessionContractImplementor session = getSession();
 			final EventMonitor eventMonitor = session.getEventMonitor();
 			final DiagnosticEvent event = eventMonitor.beginEntityInsertEvent();
 			boolean success = false;
 			final GeneratedValues generatedValues;
 			try {
-				generatedValues = persister.getInsertCoordinator().insert( instance, getState(), session );
+				generatedValues = persister.getInsertCoordinator().insert( getInstance(), getState(), session );
 				generatedId = castNonNull( generatedValues ).getGeneratedValue( persister.getIdentifierMapping() );
 				success = true;
 			}
 			finally {
 				eventMonitor.completeEntityInsertEvent( event, generatedId, persister.getEntityName(), success, session );
 			}
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			if ( persister.getRowIdMapping() != null ) {
-				rowId = generatedValues.getGeneratedValue( persister.getRowIdMapping() );
-				if ( rowId != null && isDelayed ) {
-					persistenceContext.replaceEntityEntryRowId( getInstance(), rowId );
+			handleGeneratedValues( generatedValues );
+		}
+		completeInsert();
+	}
+
+	/**
+	 * Execute the given delayed insertions of instances of the same entity, using a
+	 * single JDBC batch. None of the instances may reference another instance being
+	 * inserted by the same batch, since its identifier is only known after the batch
+	 * is executed.
+	 *
+	 * @see org.hibernate.persister.entity.mutation.InsertCoordinator#insertBatch
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			assert action.isDelayed && action.getPersister() == actions.get( 0 ).getPersister();
+			if ( action.prepareInsert() ) {
+				inserts.add( action );
+			}
+		}
+
+		if ( !inserts.isEmpty() ) {
+			final EntityPersister persister = inserts.get( 0 ).getPersister();
+			final SharedSessionContractImplementor session = inserts.get( 0 ).getSession();
+			final List<Object> instances = new ArrayList<>( inserts.size() );
+			final List<Object[]> states = new ArrayList<>( inserts.size() );
+			for ( EntityIdentityInsertAction insert : inserts ) {
+				instances.add( insert.getInstance() );
+				states.add( insert.getState() );
+			}
+
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent[] events = new DiagnosticEvent[inserts.size()];
+			for ( int i = 0; i < events.length; i++ ) {
+				events[i] = eventMonitor.beginEntityInsertEvent();
+			}
+			boolean success = false;
+			final List<GeneratedValues> generatedValues;
+			try {
+				generatedValues = persister.getInsertCoordinator().insertBatch( instances, states, session );
+				for ( int i = 0; i < inserts.size(); i++ ) {
+					inserts.get( i ).generatedId = generatedValues.get( i ).getGeneratedValue( persister.getIdentifierMapping() );
 				}
+				success = true;
 			}
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), generatedValues, session );
+			finally {
+				for ( int i = 0; i < events.length; i++ ) {
+					eventMonitor.completeEntityInsertEvent(
+							events[i],
+							inserts.get( i ).generatedId,
+							persister.getEntityName(),
+							success,
+							session
+					);
+				}
+			}
+			for ( int i = 0; i < inserts.size(); i++ ) {
+				inserts.get( i ).handleGeneratedValues( generatedValues.get( i ) );
 			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have an id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
 		}
 
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeInsert();
+		}
+	}
+
+	/**
+	 * @return {@code true} if the insertion was not vetoed
+	 */
+	private boolean prepareInsert() {
+		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
+		// Don't need to lock the cache here, since if someone
+		// else inserted the same pk first, the insert would fail
+		return !isVeto();
+	}
+
+	private void handleGeneratedValues(GeneratedValues generatedValues) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persister.getRowIdMapping() != null ) {
+			rowId = generatedValues.getGeneratedValue( persister.getRowIdMapping() );
+			if ( rowId != null && isDelayed ) {
+				persistenceContext.replaceEntityEntryRowId( instance, rowId );
+			}
+		}
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), generatedValues, session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have an id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		persistenceContext.registerInsertedKey( persister, generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, instance );
+	}
+
+	private void completeInsert() {
 		//TODO: this bit actually has to be called after all cascades!
 		//      but since identity insert is called *synchronously*,
 		//      instead of asynchronously as other actions, it isn't
@@ -122,7 +199,7 @@ public void execute() throws HibernateException {
 
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
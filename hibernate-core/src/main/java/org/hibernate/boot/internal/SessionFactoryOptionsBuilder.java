@@ -90,18 +90,23 @@
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
+import static org.hibernate.cfg.BatchSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_OSON_DISABLED;
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_DIRTY_CHECK_THRESHOLD;
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_CREATION;
+import static org.hibernate.cfg.PersistenceSettings.PARTITIONED_ENTITY_MAP;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
+import static org.hibernate.engine.config.spi.StandardConverters.INTEGER;
 import static org.hibernate.internal.CoreLogging.messageLogger;
 import static org.hibernate.internal.LockOptionsHelper.applyPropertiesToLockOptions;
 import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
@@ -174,11 +179,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final int nPlusOneThreshold;
+	private final int adaptiveBatchFetchSize;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private final boolean identityInsertBatchingEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
+	private final boolean partitionedEntityMapEnabled;
+	private final int parallelDirtyCheckThreshold;
+	private final boolean parallelPersisterCreationEnabled;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -215,6 +226,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
+	private boolean cacheMissCoalescingEnabled;
+	private int timestampsCacheLocalTtl;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -383,11 +397,14 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
+		nPlusOneThreshold = getInt( N_PLUS_ONE_THRESHOLD, settings, 0 );
+		adaptiveBatchFetchSize = getInt( ADAPTIVE_BATCH_FETCH_SIZE, settings, 0 );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		identityInsertBatchingEnabled = getBoolean( BATCH_IDENTITY_INSERTS, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -443,6 +460,12 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( USE_MINIMAL_PUTS, BOOLEAN, regionFactory.isMinimalPutsEnabledByDefault() );
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			compactCacheEntriesEnabled =
+					configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
+			cacheMissCoalescingEnabled =
+					configurationService.getSetting( COALESCE_CACHE_MISSES, BOOLEAN, false );
+			timestampsCacheLocalTtl =
+					configurationService.getSetting( TIMESTAMPS_CACHE_LOCAL_TTL, INTEGER, 0 );
 			directReferenceCacheEntriesEnabled =
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
@@ -456,6 +479,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
+			compactCacheEntriesEnabled = false;
+			cacheMissCoalescingEnabled = false;
+			timestampsCacheLocalTtl = 0;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
@@ -540,6 +566,10 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
 
+		partitionedEntityMapEnabled = getBoolean( PARTITIONED_ENTITY_MAP, settings );
+		parallelDirtyCheckThreshold = getInt( PARALLEL_DIRTY_CHECK_THRESHOLD, settings, 0 );
+		parallelPersisterCreationEnabled = getBoolean( PARALLEL_PERSISTER_CREATION, settings );
+
 		passProcedureParameterNames =
 				getBoolean( AvailableSettings.QUERY_PASS_PROCEDURE_PARAMETER_NAMES, settings, false );
 
@@ -988,6 +1018,16 @@ public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return nPlusOneThreshold;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchSize() {
+		return adaptiveBatchFetchSize;
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -1003,6 +1043,11 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1063,6 +1108,21 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isCacheMissCoalescingEnabled() {
+		return cacheMissCoalescingEnabled;
+	}
+
+	@Override
+	public int getTimestampsCacheLocalTtl() {
+		return timestampsCacheLocalTtl;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1238,6 +1298,21 @@ public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isPartitionedEntityMapEnabled() {
+		return partitionedEntityMapEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return parallelPersisterCreationEnabled;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
@@ -156,6 +156,12 @@ static void collectBaselineProperties(
 					(String) settings.get( AvailableSettings.PREFERRED_POOLED_OPTIMIZER )
 			);
 		}
+		if ( settings.containsKey( AvailableSettings.PREFETCH_LOW_WATER_MARK ) ) {
+			parameterCollector.accept(
+					AvailableSettings.PREFETCH_LOW_WATER_MARK,
+					settings.get( AvailableSettings.PREFETCH_LOW_WATER_MARK ).toString()
+			);
+		}
 	}
 
 	public static String identityTablesString(Dialect dialect, RootClass rootClass) {
@@ -112,38 +112,62 @@ protected void applyServiceRegistrations(
 	 * to allow experimentation with technologies such as GraalVM, Quarkus and Cri-O.
 	 */
 	@Internal
-	public synchronized void resetAndReactivate(
+	public void resetAndReactivate(
 			BootstrapServiceRegistry bootstrapServiceRegistry,
 			List<StandardServiceInitiator<?>> serviceInitiators,
 			List<ProvidedService<?>> providedServices,
 			Map<?, ?> configurationValues) {
-		if ( super.isActive() ) {
-			throw new IllegalStateException( "Can't reactivate an active registry" );
+		getLock().lock();
+		try {
+			if ( super.isActive() ) {
+				throw new IllegalStateException( "Can't reactivate an active registry" );
+			}
+			super.resetParent( bootstrapServiceRegistry );
+			this.configurationValues = new HashMap( configurationValues );
+			super.reactivate();
+			applyServiceRegistrations( serviceInitiators, providedServices );
+		}
+		finally {
+			getLock().unlock();
 		}
-		super.resetParent( bootstrapServiceRegistry );
-		this.configurationValues = new HashMap( configurationValues );
-		super.reactivate();
-		applyServiceRegistrations( serviceInitiators, providedServices );
 	}
 
 
 	@Override
-	public synchronized <R extends Service> R initiateService(ServiceInitiator<R> serviceInitiator) {
-		// todo : add check/error for unexpected initiator types?
-		return ( (StandardServiceInitiator<R>) serviceInitiator ).initiateService( configurationValues, this );
+	public <R extends Service> R initiateService(ServiceInitiator<R> serviceInitiator) {
+		getLock().lock();
+		try {
+			// todo : add check/error for unexpected initiator types?
+			return ( (StandardServiceInitiator<R>) serviceInitiator ).initiateService( configurationValues, this );
+		}
+		finally {
+			getLock().unlock();
+		}
 	}
 
 	@Override
-	public synchronized <R extends Service> void configureService(ServiceBinding<R> serviceBinding) {
-		if ( serviceBinding.getService() instanceof Configurable configurable ) {
-			configurable.configure( configurationValues );
+	public <R extends Service> void configureService(ServiceBinding<R> serviceBinding) {
+		getLock().lock();
+		try {
+			if ( serviceBinding.getService() instanceof Configurable configurable ) {
+				configurable.configure( configurationValues );
+			}
+		}
+		finally {
+			getLock().unlock();
 		}
 	}
 
 	@Override
-	public synchronized void destroy() {
-		super.destroy();
-		this.configurationValues = null;
+	public void destroy() {
+		getLock().lock();
+		try {
+			super.destroy();
+			this.configurationValues = null;
+		}
+		finally {
+			getLock().unlock();
+		}
 	}
 
 	private static Map<String, Object> normalize(Map<String, Object> configurationValues) {
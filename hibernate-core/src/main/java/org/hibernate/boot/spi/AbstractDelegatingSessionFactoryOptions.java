@@ -200,6 +200,16 @@ public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return delegate.getNPlusOneThreshold();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchSize() {
+		return delegate.getAdaptiveBatchFetchSize();
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -215,6 +225,11 @@ public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -290,6 +305,21 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isCacheMissCoalescingEnabled() {
+		return delegate.isCacheMissCoalescingEnabled();
+	}
+
+	@Override
+	public int getTimestampsCacheLocalTtl() {
+		return delegate.getTimestampsCacheLocalTtl();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -479,6 +509,21 @@ public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isPartitionedEntityMapEnabled() {
+		return delegate.isPartitionedEntityMapEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return delegate.isParallelPersisterCreationEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
@@ -279,6 +279,31 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * The number of times a session may fetch an association one row at a time
+	 * before an N+1 selects problem is reported, or {@code 0} if such problems
+	 * are not detected.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	default int getNPlusOneThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The batch size for batch fetching enabled automatically after an N+1
+	 * selects problem was detected, or {@code 0} if it is never enabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.1
+	 */
+	default int getAdaptiveBatchFetchSize() {
+		return 0;
+	}
+
 	/**
 	 * The default {@linkplain Nulls precedence of null values} in sorted query results.
 	 *
@@ -296,6 +321,15 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
 	/**
 	 * Is there a
 	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider
@@ -394,6 +428,40 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Are second-level cache entries for entities stored in a compact binary format.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+	 *
+	 * @since 7.1
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Are concurrent loads of data missing from the second-level cache coalesced.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#COALESCE_CACHE_MISSES
+	 *
+	 * @since 7.1
+	 */
+	default boolean isCacheMissCoalescingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The time, in milliseconds, for which last update timestamps of query
+	 * spaces are remembered locally, or {@code 0} if they are not remembered.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_CACHE_LOCAL_TTL
+	 *
+	 * @since 7.1
+	 */
+	default int getTimestampsCacheLocalTtl() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
 	 */
@@ -636,6 +704,33 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PARTITIONED_ENTITY_MAP
+	 *
+	 * @since 7.1
+	 */
+	default boolean isPartitionedEntityMapEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_PERSISTER_CREATION
+	 *
+	 * @since 7.1
+	 */
+	default boolean isParallelPersisterCreationEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.MappingSettings#PREFERRED_BOOLEAN_JDBC_TYPE
 	 */
@@ -240,6 +240,31 @@ public Class<?> load(Class<?> referenceClass, String className, BiFunction<ByteB
 		}
 	}
 
+	/**
+	 * Define a hidden class generated by ByteBuddy as a member of the nest of the given host class,
+	 * so that it may access the private members of the host. Hidden classes cannot be looked up by
+	 * name, and are unloaded as soon as they are no longer referenced.
+	 *
+	 * @param hostClass The class whose nest the hidden class joins.
+	 * @param className The name of the class, which must be in the package of the host class.
+	 * @param makeClassFunction A function building the class.
+	 * @return The defined hidden class.
+	 */
+	public Class<?> defineHiddenNestmate(Class<?> hostClass, String className,
+			BiFunction<ByteBuddy, NamingStrategy, DynamicType.Builder<?>> makeClassFunction) {
+		final byte[] bytes = make( makeClassFunction.apply( byteBuddy, new FixedNamingStrategy( className ) ) )
+				.getBytes();
+		try {
+			return MethodHandles.privateLookupIn( hostClass, LOOKUP )
+					.defineHiddenClass( bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE )
+					.lookupClass();
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to define a hidden class in the nest of '" + hostClass.getName()
+					+ "' (the package might have to be opened to Hibernate ORM)", e );
+		}
+	}
+
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
 			TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return cache.findOrInsert(
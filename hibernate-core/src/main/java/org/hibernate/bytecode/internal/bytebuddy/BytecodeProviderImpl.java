@@ -14,8 +14,10 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -74,6 +76,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
 	private static final String OPTIMIZER_PROXY_BRIDGE_NAMING_SUFFIX = "HibernateAccessOptimizerBridge";
+	private static final String OPTIMIZER_NESTMATE_NAMING_SUFFIX = "HibernateAccessOptimizerNestmate";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -225,7 +228,10 @@ public ReflectionOptimizer getReflectionOptimizer(
 		final Member[] getters = new Member[propertyAccessMap.size()];
 		final Member[] setters = new Member[propertyAccessMap.size()];
 		try {
-			findAccessors( clazz, propertyAccessMap, getters, setters );
+			findAccessors( clazz, propertyAccessMap, getters, setters, false );
+		}
+		catch (PrivateAccessorException ex) {
+			return getNestmateReflectionOptimizer( clazz, propertyAccessMap, fastClass, ex );
 		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
@@ -279,6 +285,90 @@ public ReflectionOptimizer getReflectionOptimizer(
 		}
 	}
 
+	/**
+	 * Build a {@link ReflectionOptimizer} for a class with private persistent attributes.
+	 * A generated class can only access these attributes if it is a nestmate of the class
+	 * declaring them, so we define one hidden class per declaring class, each of which
+	 * reads and writes the values of the attributes declared by that class.
+	 */
+	private @Nullable ReflectionOptimizer getNestmateReflectionOptimizer(
+			Class<?> clazz,
+			Map<String, PropertyAccess> propertyAccessMap,
+			@Nullable Class<?> fastClass,
+			PrivateAccessorException privateAccessorException) {
+		if ( Managed.class.isAssignableFrom( clazz ) ) {
+			// Lazy loading and dirty tracking of enhanced classes are only handled by GetPropertyValues/SetPropertyValues
+			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), privateAccessorException.getMessage() );
+			return null;
+		}
+
+		final Member[] getters = new Member[propertyAccessMap.size()];
+		final Member[] setters = new Member[propertyAccessMap.size()];
+		try {
+			findAccessors( clazz, propertyAccessMap, getters, setters, true );
+		}
+		catch (InvalidPropertyAccessorException ex) {
+			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
+			return null;
+		}
+
+		final Set<Class<?>> declaringClasses = new LinkedHashSet<>();
+		final List<Integer> embeddedIndexes = new ArrayList<>();
+		for ( int i = 0; i < getters.length; i++ ) {
+			if ( getters[i] == EMBEDDED_MEMBER ) {
+				embeddedIndexes.add( i );
+			}
+			else {
+				declaringClasses.add( getters[i].getDeclaringClass() );
+				declaringClasses.add( setters[i].getDeclaringClass() );
+			}
+		}
+
+		final NestmateAccessor[] accessors = new NestmateAccessor[declaringClasses.size()];
+		int i = 0;
+		for ( Class<?> declaringClass : declaringClasses ) {
+			final Class<?> accessorClass;
+			try {
+				accessorClass = byteBuddyState.defineHiddenNestmate(
+						declaringClass,
+						declaringClass.getName() + "$" + OPTIMIZER_NESTMATE_NAMING_SUFFIX,
+						(byteBuddy, namingStrategy) -> byteBuddy
+								.with( namingStrategy )
+								.subclass( Object.class )
+								.implement( NestmateAccessor.class )
+								.method( getPropertyValuesMethodName )
+								.intercept( new Implementation.Simple( new GetNestmatePropertyValues( declaringClass, getters ) ) )
+								.method( setPropertyValuesMethodName )
+								.intercept( new Implementation.Simple( new SetNestmatePropertyValues( declaringClass, setters ) ) )
+				);
+			}
+			catch (HibernateException ex) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
+				return null;
+			}
+			try {
+				accessors[i++] = (NestmateAccessor) accessorClass.getDeclaredConstructor().newInstance();
+			}
+			catch (Exception exception) {
+				throw new HibernateException( exception );
+			}
+		}
+
+		try {
+			return new ReflectionOptimizerImpl(
+					fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
+					new NestmateAccessOptimizer(
+							propertyAccessMap.keySet().toArray( new String[0] ),
+							embeddedIndexes.stream().mapToInt( Integer::intValue ).toArray(),
+							accessors
+					)
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	private static class BridgeMembersClassInfo {
 		final Class<?> clazz;
 		final List<String> propertyNames = new ArrayList<>();
@@ -1196,6 +1286,157 @@ else if ( setterMember instanceof Field field ) {
 		}
 	}
 
+	private static class GetNestmatePropertyValues implements ByteCodeAppender {
+
+		private final Class<?> declaringClass;
+		private final Member[] getters;
+
+		public GetNestmatePropertyValues(Class<?> declaringClass, Member[] getters) {
+			this.declaringClass = declaringClass;
+			this.getters = getters;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < getters.length; index++ ) {
+				final Member getterMember = getters[index];
+				if ( getterMember == EMBEDDED_MEMBER || getterMember.getDeclaringClass() != declaringClass ) {
+					// Handled by the NestmateAccessOptimizer or by the nestmate of another class
+					continue;
+				}
+				// Push values array on stack
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				// Load the entity to extract the property
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( declaringClass ) );
+				final Class<?> type;
+				if ( getterMember instanceof Method getter ) {
+					type = getter.getReturnType();
+					methodVisitor.visitMethodInsn(
+							declaringClass.isInterface() ?
+									Opcodes.INVOKEINTERFACE :
+									Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( declaringClass ),
+							getter.getName(),
+							Type.getMethodDescriptor( getter ),
+							declaringClass.isInterface()
+					);
+				}
+				else {
+					final Field getter = (Field) getterMember;
+					type = getter.getType();
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( declaringClass ),
+							getter.getName(),
+							Type.getDescriptor( type )
+					);
+				}
+				if ( type.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
+							.assignBoxedTo(
+									TypeDescription.Generic.OBJECT,
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.STATIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class SetNestmatePropertyValues implements ByteCodeAppender {
+
+		private final Class<?> declaringClass;
+		private final Member[] setters;
+
+		public SetNestmatePropertyValues(Class<?> declaringClass, Member[] setters) {
+			this.declaringClass = declaringClass;
+			this.setters = setters;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < setters.length; index++ ) {
+				final Member setterMember = setters[index];
+				if ( setterMember == EMBEDDED_MEMBER || setterMember.getDeclaringClass() != declaringClass ) {
+					// The embedded property access does a no-op, other classes have their own nestmate
+					continue;
+				}
+				// Push entity on stack
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( declaringClass ) );
+				// Push values array on stack
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				// Load value for property from array
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				final Class<?> type = setterMember instanceof Method setter
+						? setter.getParameterTypes()[0]
+						: ( (Field) setterMember ).getType();
+				if ( type.isPrimitive() ) {
+					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+							.assignUnboxedTo(
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.DYNAMIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				else {
+					methodVisitor.visitTypeInsn(
+							Opcodes.CHECKCAST,
+							Type.getInternalName( type )
+					);
+				}
+				if ( setterMember instanceof Method setter ) {
+					methodVisitor.visitMethodInsn(
+							declaringClass.isInterface() ?
+									Opcodes.INVOKEINTERFACE :
+									Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( declaringClass ),
+							setter.getName(),
+							Type.getMethodDescriptor( setter ),
+							declaringClass.isInterface()
+					);
+					if ( setter.getReturnType() != void.class ) {
+						// Setters could return something which we have to ignore
+						switch ( setter.getReturnType().getTypeName() ) {
+							case "long":
+							case "double":
+								methodVisitor.visitInsn( Opcodes.POP2 );
+								break;
+							default:
+								methodVisitor.visitInsn( Opcodes.POP );
+								break;
+						}
+					}
+				}
+				else {
+					final Field field = (Field) setterMember;
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTFIELD,
+							Type.getInternalName( declaringClass ),
+							field.getName(),
+							Type.getDescriptor( type )
+					);
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class<?> clazz,
 			String[] getterNames,
@@ -1242,7 +1483,8 @@ private static void findAccessors(
 			Class<?> clazz,
 			Map<String, PropertyAccess> propertyAccessMap,
 			Member[] getters,
-			Member[] setters) {
+			Member[] setters,
+			boolean allowPrivate) {
 		int i = 0;
 		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
 			final PropertyAccess propertyAccess = entry.getValue();
@@ -1301,10 +1543,10 @@ else if ( setter instanceof SetterFieldImpl setterField ) {
 						)
 				);
 			}
-			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
+			if ( !allowPrivate && Modifier.isPrivate( getterMember.getModifiers() ) ) {
 				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
 			}
-			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
+			if ( !allowPrivate && Modifier.isPrivate( setterMember.getModifiers() ) ) {
 				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
 			}
 			getters[i] = getterMember;
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+
+/**
+ * An {@link ReflectionOptimizer.AccessOptimizer} for classes with private persistent
+ * attributes, which delegates to one {@link NestmateAccessor} per declaring class.
+ */
+final class NestmateAccessOptimizer implements ReflectionOptimizer.AccessOptimizer {
+	private final String[] propertyNames;
+	private final int[] embeddedIndexes;
+	private final NestmateAccessor[] accessors;
+
+	NestmateAccessOptimizer(String[] propertyNames, int[] embeddedIndexes, NestmateAccessor[] accessors) {
+		this.propertyNames = propertyNames;
+		this.embeddedIndexes = embeddedIndexes;
+		this.accessors = accessors;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final Object[] values = new Object[propertyNames.length];
+		for ( int index : embeddedIndexes ) {
+			// The embedded property access returns the owner
+			values[index] = object;
+		}
+		for ( NestmateAccessor accessor : accessors ) {
+			accessor.getPropertyValues( object, values );
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		for ( NestmateAccessor accessor : accessors ) {
+			accessor.setPropertyValues( object, values );
+		}
+	}
+}
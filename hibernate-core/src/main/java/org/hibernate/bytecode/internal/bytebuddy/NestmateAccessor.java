@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+/**
+ * Implemented by the hidden classes generated as nestmates of a class declaring
+ * persistent attributes. A nestmate has direct access to the private fields and
+ * methods of that class, and so it handles the attributes declared by the class,
+ * leaving all other elements of the array alone.
+ *
+ * @see NestmateAccessOptimizer
+ */
+public interface NestmateAccessor {
+
+	/**
+	 * Read the values of the attributes handled by this accessor into the given array.
+	 */
+	void getPropertyValues(Object owner, Object[] values);
+
+	/**
+	 * Write the values of the attributes handled by this accessor from the given array.
+	 */
+	void setPropertyValues(Object owner, Object[] values);
+}
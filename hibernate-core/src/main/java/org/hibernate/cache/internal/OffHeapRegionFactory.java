@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_REGION_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps cached data
+ * outside the Java heap, so that a large second-level cache does not add
+ * to the work of the garbage collector.
+ * <p>
+ * Each region holds its entries in serialized form in direct memory, and
+ * is limited to {@value #DEFAULT_REGION_SIZE} bytes by default. The limit
+ * may be changed using {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_SIZE}.
+ * When a region is full, its least recently used entries are evicted.
+ * <p>
+ * Since the cache is local to the JVM, this implementation is not suitable
+ * for use in a cluster.
+ *
+ * @see OffHeapStorageAccess
+ *
+ * @since 7.1
+ */
+@Incubating
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size of a region, 64 MiB.
+	 */
+	public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+	private long regionSize = DEFAULT_REGION_SIZE;
+
+	public OffHeapRegionFactory() {
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		regionSize = getLong( OFF_HEAP_REGION_SIZE, configValues, DEFAULT_REGION_SIZE );
+		if ( regionSize <= 0 ) {
+			throw new IllegalArgumentException( "Setting '" + OFF_HEAP_REGION_SIZE + "' must be positive" );
+		}
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( regionSize );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionSize );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionSize );
+	}
+}
@@ -0,0 +1,305 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the cached values of a region
+ * in serialized form, in direct memory outside the Java heap. Only the keys,
+ * and a small record of where each value lives, are kept on the heap.
+ * <p>
+ * The memory of the region is divided into fixed-size blocks, and a value
+ * occupies as many blocks as it needs, so that memory never fragments. The
+ * blocks are allocated in pages, lazily, up to the given maximum size of the
+ * region. When there are not enough free blocks for a new value, the least
+ * recently used values are evicted.
+ * <p>
+ * To reduce contention, the region is split into independently locked
+ * segments, each managing its own share of the memory.
+ *
+ * @see OffHeapRegionFactory
+ *
+ * @since 7.1
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final int BLOCK_SIZE = 256;
+	private static final int PAGE_SIZE = 1024 * 1024;
+	private static final int SEGMENTS = 16;
+
+	private final Segment[] segments;
+
+	public OffHeapStorageAccess(long maxSize) {
+		final int segmentCount = maxSize / SEGMENTS >= PAGE_SIZE ? SEGMENTS : 1;
+		final long blocksPerSegment = Math.max( 1, maxSize / segmentCount / BLOCK_SIZE );
+		if ( blocksPerSegment > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException( "Region size too large: " + maxSize );
+		}
+		segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( (int) blocksPerSegment );
+		}
+	}
+
+	private Segment segment(Object key) {
+		final int hash = key.hashCode();
+		return segments[( hash ^ ( hash >>> 16 ) ) & ( segments.length - 1 )];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] data = segment( key ).get( key );
+		// deserialize outside the lock
+		return data == null ? null : SerializationHelper.deserialize( data );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final Segment segment = segment( key );
+		final byte[] data;
+		try {
+			data = SerializationHelper.serialize( (Serializable) value );
+		}
+		catch (ClassCastException | SerializationException e) {
+			L2CACHE_LOGGER.debugf( "Unable to store non-serializable value in off-heap cache: %s", e.getMessage() );
+			// never leave a stale value behind
+			segment.remove( key );
+			return;
+		}
+		segment.put( key, data );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return segment( key ).contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		for ( Segment segment : segments ) {
+			segment.clear( false );
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		segment( key ).remove( key );
+	}
+
+	@Override
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.clear( true );
+		}
+	}
+
+	/**
+	 * The number of values currently held.
+	 */
+	public long getElementCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.size();
+		}
+		return count;
+	}
+
+	/**
+	 * The number of bytes of memory currently occupied by values.
+	 */
+	public long getSizeInBytes() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.usedBlocks();
+		}
+		return size * BLOCK_SIZE;
+	}
+
+	private record Slot(int[] blocks, int length) {
+	}
+
+	private static final class Segment {
+		private final Lock lock = new ReentrantLock();
+		// access order, so the eldest entry is the least recently used
+		private final LinkedHashMap<Object, Slot> slots = new LinkedHashMap<>( 16, 0.75f, true );
+		private final int totalBlocks;
+		private final int blocksPerPage;
+		private final ByteBuffer[] pages;
+		// blocks below this index have been handed out at least once
+		private int allocatedBlocks;
+		private int[] freeBlocks = new int[64];
+		private int freeBlockCount;
+
+		private Segment(int totalBlocks) {
+			this.totalBlocks = totalBlocks;
+			this.blocksPerPage = Math.min( totalBlocks, PAGE_SIZE / BLOCK_SIZE );
+			this.pages = new ByteBuffer[( totalBlocks + blocksPerPage - 1 ) / blocksPerPage];
+		}
+
+		byte[] get(Object key) {
+			lock.lock();
+			try {
+				final Slot slot = slots.get( key );
+				if ( slot == null ) {
+					return null;
+				}
+				final byte[] data = new byte[slot.length];
+				int position = 0;
+				for ( int block : slot.blocks ) {
+					final int length = Math.min( BLOCK_SIZE, data.length - position );
+					page( block ).get( offset( block ), data, position, length );
+					position += length;
+				}
+				return data;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void put(Object key, byte[] data) {
+			final int needed = ( data.length + BLOCK_SIZE - 1 ) / BLOCK_SIZE;
+			lock.lock();
+			try {
+				final Slot existing = slots.remove( key );
+				if ( existing != null ) {
+					free( existing );
+				}
+				if ( needed > totalBlocks ) {
+					// too big to ever fit
+					return;
+				}
+				if ( availableBlocks() < needed ) {
+					final Iterator<Slot> eldest = slots.values().iterator();
+					while ( availableBlocks() < needed ) {
+						free( eldest.next() );
+						eldest.remove();
+					}
+				}
+				final int[] blocks = new int[needed];
+				int position = 0;
+				for ( int i = 0; i < needed; i++ ) {
+					final int block = allocate();
+					final int length = Math.min( BLOCK_SIZE, data.length - position );
+					page( block ).put( offset( block ), data, position, length );
+					position += length;
+					blocks[i] = block;
+				}
+				slots.put( key, new Slot( blocks, data.length ) );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void remove(Object key) {
+			lock.lock();
+			try {
+				final Slot slot = slots.remove( key );
+				if ( slot != null ) {
+					free( slot );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		boolean contains(Object key) {
+			lock.lock();
+			try {
+				return slots.containsKey( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		int size() {
+			lock.lock();
+			try {
+				return slots.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		int usedBlocks() {
+			lock.lock();
+			try {
+				return allocatedBlocks - freeBlockCount;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void clear(boolean releaseMemory) {
+			lock.lock();
+			try {
+				slots.clear();
+				allocatedBlocks = 0;
+				freeBlockCount = 0;
+				if ( releaseMemory ) {
+					// the direct buffers are freed once unreachable
+					Arrays.fill( pages, null );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int availableBlocks() {
+			return totalBlocks - allocatedBlocks + freeBlockCount;
+		}
+
+		private int allocate() {
+			if ( freeBlockCount > 0 ) {
+				return freeBlocks[--freeBlockCount];
+			}
+			else {
+				final int block = allocatedBlocks++;
+				final int pageIndex = block / blocksPerPage;
+				if ( pages[pageIndex] == null ) {
+					final int pageBlocks = Math.min( blocksPerPage, totalBlocks - pageIndex * blocksPerPage );
+					pages[pageIndex] = ByteBuffer.allocateDirect( pageBlocks * BLOCK_SIZE );
+				}
+				return block;
+			}
+		}
+
+		private void free(Slot slot) {
+			final int[] blocks = slot.blocks;
+			if ( freeBlockCount + blocks.length > freeBlocks.length ) {
+				freeBlocks = Arrays.copyOf( freeBlocks, Math.max( freeBlocks.length * 2, freeBlockCount + blocks.length ) );
+			}
+			System.arraycopy( blocks, 0, freeBlocks, freeBlockCount, blocks.length );
+			freeBlockCount += blocks.length;
+		}
+
+		private ByteBuffer page(int block) {
+			return pages[block / blocksPerPage];
+		}
+
+		private int offset(int block) {
+			return ( block % blocksPerPage ) * BLOCK_SIZE;
+		}
+	}
+}
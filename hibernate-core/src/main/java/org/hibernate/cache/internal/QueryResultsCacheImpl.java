@@ -5,7 +5,6 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -18,6 +17,7 @@
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 
+import static java.util.Collections.unmodifiableList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
@@ -58,7 +58,8 @@ public boolean put(
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				// the caller hands over the list, so there's no need to copy it
+				unmodifiableList( results )
 		);
 
 		final EventMonitor eventMonitor = session.getEventMonitor();
@@ -81,10 +82,6 @@ public boolean put(
 		return true;
 	}
 
-	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
-	}
-
 	@Override
 	public List<?> get(
 			final QueryKey key,
@@ -148,7 +145,8 @@ public List<?> get(
 			L2CACHE_LOGGER.returningCachedQueryResults();
 		}
 
-		return deepCopy( cacheItem.results );
+		// No need to copy results, since the cached list is unmodifiable
+		return cacheItem.results;
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
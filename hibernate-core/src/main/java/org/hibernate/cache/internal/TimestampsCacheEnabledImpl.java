@@ -4,7 +4,14 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -16,21 +23,43 @@
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static java.util.Arrays.asList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE;
 import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * The last update timestamps of the query spaces of a query are read from the
+ * region using a single bulk operation. Optionally, they may be remembered
+ * locally for a short time.
+ *
+ * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_CACHE_LOCAL_TTL
  *
  * @author Steve Ebersole
  */
 public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	private final TimestampsRegion timestampsRegion;
+	private final long localTtlNanos;
+	private final ConcurrentMap<String, LocalTimestamp> localTimestamps;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, 0 );
+	}
+
+	/**
+	 * @param localTtlMillis The time, in milliseconds, for which timestamps
+	 *                       read from the region are remembered locally, or
+	 *                       {@code 0} if they should not be remembered
+	 *
+	 * @since 7.1
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, long localTtlMillis) {
 		this.timestampsRegion = timestampsRegion;
+		this.localTtlNanos = TimeUnit.MILLISECONDS.toNanos( localTtlMillis );
+		this.localTimestamps = localTtlMillis > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -63,6 +92,7 @@ public void preInvalidate(
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
 				timestampsRegion.putIntoCache( space, timestamp, session );
+				rememberWrite( space, timestamp );
 			}
 			finally {
 				eventMonitor.completeCachePutEvent(
@@ -103,6 +133,7 @@ public void invalidate(
 			try {
 				eventListenerManager.cachePutStart();
 				timestampsRegion.putIntoCache( space, timestamp, session );
+				rememberWrite( space, timestamp );
 			}
 			finally {
 				eventMonitor.completeCachePutEvent(
@@ -126,9 +157,18 @@ public boolean isUpToDate(
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		return isUpToDate( asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Map<String, Long> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, lastUpdates.get( space ), timestamp, statistics ) ) {
 				return false;
 			}
 		}
@@ -137,10 +177,9 @@ public boolean isUpToDate(
 
 	private boolean isSpaceOutOfDate(
 			String space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -158,18 +197,47 @@ private boolean isSpaceOutOfDate(
 		}
 	}
 
-	@Override
-	public boolean isUpToDate(
+	/**
+	 * Get the last update timestamps of the given spaces, from the local memo
+	 * if possible, and otherwise from the region, using a single bulk get for
+	 * all the spaces which were not remembered locally.
+	 */
+	private Map<String, Long> getLastUpdateTimestampsForSpaces(
 			Collection<String> spaces,
-			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+		final Map<String, Long> lastUpdates = new HashMap<>();
+		final List<String> spacesToRead = new ArrayList<>( spaces.size() );
+		if ( localTimestamps == null ) {
+			spacesToRead.addAll( spaces );
+		}
+		else {
+			final long now = System.nanoTime();
+			for ( String space : spaces ) {
+				final LocalTimestamp localTimestamp = localTimestamps.get( space );
+				if ( localTimestamp != null && localTimestamp.isValid( now ) ) {
+					lastUpdates.put( space, localTimestamp.lastUpdate() );
+				}
+				else {
+					spacesToRead.add( space );
+				}
 			}
 		}
-		return true;
+
+		if ( spacesToRead.size() == 1 ) {
+			final String space = spacesToRead.get( 0 );
+			final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+			lastUpdates.put( space, lastUpdate );
+			rememberRead( space, lastUpdate );
+		}
+		else if ( !spacesToRead.isEmpty() ) {
+			final Map<Object, Object> fromCache = getLastUpdateTimestampsFromCache( spacesToRead, session );
+			for ( String space : spacesToRead ) {
+				final Long lastUpdate = (Long) fromCache.get( space );
+				lastUpdates.put( space, lastUpdate );
+				rememberRead( space, lastUpdate );
+			}
+		}
+		return lastUpdates;
 	}
 
 	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
@@ -188,4 +256,59 @@ private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractI
 		}
 	}
 
+	private Map<Object, Object> getLastUpdateTimestampsFromCache(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		boolean found = false;
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			final Map<Object, Object> timestamps = timestampsRegion.getAllFromCache( spaces, session );
+			found = !timestamps.isEmpty();
+			return timestamps;
+		}
+		finally {
+			eventMonitor.completeCacheGetEvent( cacheGetEvent, session, timestampsRegion, found );
+			session.getEventListenerManager().cacheGetEnd( found );
+		}
+	}
+
+	private void rememberWrite(String space, Long timestamp) {
+		if ( localTimestamps != null ) {
+			// our own writes are always visible immediately
+			localTimestamps.put( space, new LocalTimestamp( timestamp, System.nanoTime() + localTtlNanos ) );
+		}
+	}
+
+	private void rememberRead(String space, Long lastUpdate) {
+		if ( localTimestamps != null ) {
+			// a concurrent write in this JVM might have happened after we read
+			// from the region, so never replace a later timestamp
+			localTimestamps.merge(
+					space,
+					new LocalTimestamp( lastUpdate, System.nanoTime() + localTtlNanos ),
+					LocalTimestamp::later
+			);
+		}
+	}
+
+	private record LocalTimestamp(Long lastUpdate, long expiresAt) {
+		boolean isValid(long now) {
+			return expiresAt - now > 0;
+		}
+
+		static LocalTimestamp later(LocalTimestamp existing, LocalTimestamp read) {
+			if ( existing.lastUpdate == null ) {
+				return read;
+			}
+			else if ( read.lastUpdate == null || read.lastUpdate < existing.lastUpdate ) {
+				return existing.isValid( System.nanoTime() ) ? existing : read;
+			}
+			else {
+				return read;
+			}
+		}
+	}
+
 }
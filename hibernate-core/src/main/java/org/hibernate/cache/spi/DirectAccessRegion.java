@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -21,6 +25,25 @@ public interface DirectAccessRegion extends Region {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values of the given keys, using a single bulk operation if the
+	 * underlying cache supports it.
+	 *
+	 * @return the values which were found, by key
+	 *
+	 * @since 7.1
+	 */
+	default Map<Object,Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object,Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put a value by key
 	 */
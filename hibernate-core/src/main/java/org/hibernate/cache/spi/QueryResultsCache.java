@@ -37,6 +37,9 @@ public interface QueryResultsCache {
 	/**
 	 * Store a result list of a query with the given {@link QueryKey}
 	 * in the query result cache.
+	 * <p>
+	 * The cache may hold on to the given list without copying it, and so
+	 * the caller must not modify the list after passing it to this method.
 	 *
 	 * @param key The cache key uniquely identifying the query and its
 	 *            bound parameter arguments
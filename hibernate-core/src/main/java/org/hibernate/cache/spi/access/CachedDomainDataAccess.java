@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -56,6 +60,36 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve multiple objects from the cache. Usually used
+	 * when attempting to resolve a batch of entities or collections from
+	 * the second-level cache.
+	 * <p>
+	 * The default implementation calls {@link #get} for each key in turn.
+	 * Implementations backed by a cache which is able to fetch multiple
+	 * entries in a single round trip should override it.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, keyed by the given keys, with no entry for
+	 *         keys for which there is no cached data
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 7.1
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Attempt to cache an object, after loading it from the database.
 	 *
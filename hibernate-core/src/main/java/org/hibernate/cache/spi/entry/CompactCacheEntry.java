@@ -0,0 +1,477 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Compact binary CacheEntry format for entities. Used to store the entry into the
+ * second-level cache as a {@code byte[]}, so that a remote or off-heap cache does
+ * not need to use Java serialization for the disassembled state.
+ * <p>
+ * The layout of the binary form is derived from the mapping of the entity: values
+ * of common basic types are written without any type information, numbers using a
+ * variable length encoding, and strings as UTF-8. Null values are recorded in a
+ * bitmap. Any value which does not match the type expected by the mapping is
+ * written using Java serialization.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+ *
+ * @since 7.1
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte NULL_VALUE = 0;
+	private static final byte COMPACT_VALUE = 1;
+	private static final byte SERIALIZED_VALUE = 2;
+
+	private final EntityPersister persister;
+	private volatile Codec[] propertyCodecs;
+	private volatile Codec versionCodec;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final Codec[] codecs = propertyCodecs();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + 8 * state.length );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeUTF( entry.getSubclass() );
+			writeValue( output, entry.getVersion(), versionCodec() );
+			writeVarLong( output, state.length );
+			final byte[] nulls = new byte[( state.length + 7 ) / 8];
+			final byte[] serialized = new byte[nulls.length];
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] == null ) {
+					nulls[i >> 3] |= (byte) ( 1 << ( i & 7 ) );
+				}
+				else if ( !codecs[i].accepts( state[i] ) ) {
+					serialized[i >> 3] |= (byte) ( 1 << ( i & 7 ) );
+				}
+			}
+			output.write( nulls );
+			output.write( serialized );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( !isSet( nulls, i ) ) {
+					if ( isSet( serialized, i ) ) {
+						writeSerialized( output, state[i] );
+					}
+					else {
+						codecs[i].write( output, state[i] );
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to write cache entry for: " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] data ) ) {
+			// an entry written before the format was changed
+			return structured;
+		}
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( data ) ) ) {
+			final String subclass = input.readUTF();
+			final CompactCacheEntry structure = structureFor( subclass, factory );
+			final Object version = readValue( input, structure.versionCodec() );
+			final Codec[] codecs = structure.propertyCodecs();
+			final Serializable[] state = new Serializable[(int) readVarLong( input )];
+			final byte[] nulls = new byte[( state.length + 7 ) / 8];
+			final byte[] serialized = new byte[nulls.length];
+			input.readFully( nulls );
+			input.readFully( serialized );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( !isSet( nulls, i ) ) {
+					state[i] = isSet( serialized, i )
+							? readSerialized( input )
+							: (Serializable) codecs[i].read( input );
+				}
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to read cache entry", e );
+		}
+	}
+
+	private CompactCacheEntry structureFor(String subclass, SessionFactoryImplementor factory) {
+		if ( subclass.equals( persister.getEntityName() ) ) {
+			return this;
+		}
+		else {
+			final EntityPersister subclassPersister =
+					factory.getMappingMetamodel().getEntityDescriptor( subclass );
+			return subclassPersister.getCacheEntryStructure() instanceof CompactCacheEntry compactCacheEntry
+					? compactCacheEntry
+					: new CompactCacheEntry( subclassPersister );
+		}
+	}
+
+	private Codec[] propertyCodecs() {
+		Codec[] codecs = propertyCodecs;
+		if ( codecs == null ) {
+			// the mapping model is not ready when the persister is created
+			codecs = new Codec[persister.getNumberOfAttributeMappings()];
+			for ( int i = 0; i < codecs.length; i++ ) {
+				codecs[i] = codec( persister.getAttributeMapping( i ) );
+			}
+			propertyCodecs = codecs;
+		}
+		return codecs;
+	}
+
+	private Codec versionCodec() {
+		Codec codec = versionCodec;
+		if ( codec == null ) {
+			final EntityVersionMapping versionMapping = persister.getVersionMapping();
+			codec = versionMapping == null
+					? Codec.SERIALIZED
+					: Codec.forType( versionMapping.getJavaType().getJavaTypeClass() );
+			versionCodec = codec;
+		}
+		return codec;
+	}
+
+	private static Codec codec(AttributeMapping attributeMapping) {
+		// an association is disassembled to the identifier of the associated entity
+		final Class<?> javaType = attributeMapping instanceof EntityValuedModelPart entityValuedModelPart
+				? entityValuedModelPart.getEntityMappingType().getIdentifierMapping().getJavaType().getJavaTypeClass()
+				: attributeMapping.getJavaType().getJavaTypeClass();
+		return Codec.forType( javaType );
+	}
+
+	private static void writeValue(DataOutput output, Object value, Codec codec) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL_VALUE );
+		}
+		else if ( codec.accepts( value ) ) {
+			output.writeByte( COMPACT_VALUE );
+			codec.write( output, value );
+		}
+		else {
+			output.writeByte( SERIALIZED_VALUE );
+			writeSerialized( output, value );
+		}
+	}
+
+	private static Object readValue(DataInput input, Codec codec) throws IOException {
+		return switch ( input.readByte() ) {
+			case NULL_VALUE -> null;
+			case COMPACT_VALUE -> codec.read( input );
+			default -> readSerialized( input );
+		};
+	}
+
+	private static boolean isSet(byte[] bitmap, int index) {
+		return ( bitmap[index >> 3] & ( 1 << ( index & 7 ) ) ) != 0;
+	}
+
+	private static void writeSerialized(DataOutput output, Object value) throws IOException {
+		writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+	}
+
+	private static Serializable readSerialized(DataInput input) throws IOException {
+		return (Serializable) SerializationHelper.deserialize( readBytes( input ) );
+	}
+
+	private static void writeBytes(DataOutput output, byte[] bytes) throws IOException {
+		writeVarLong( output, bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInput input) throws IOException {
+		final byte[] bytes = new byte[(int) readVarLong( input )];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	private static void writeVarLong(DataOutput output, long value) throws IOException {
+		// zig-zag, so that small negative numbers are short too
+		long bits = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( bits & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( bits & 0x7F ) | 0x80 ) );
+			bits >>>= 7;
+		}
+		output.writeByte( (int) bits );
+	}
+
+	private static long readVarLong(DataInput input) throws IOException {
+		long bits = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final byte b = input.readByte();
+			bits |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return ( bits >>> 1 ) ^ -( bits & 1 );
+			}
+		}
+		throw new IOException( "Malformed variable length number" );
+	}
+
+	/**
+	 * Writes and reads values of a given Java type.
+	 */
+	private enum Codec {
+		LONG( Long.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeVarLong( output, (Long) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return readVarLong( input );
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeVarLong( output, (Integer) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return (int) readVarLong( input );
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeVarLong( output, (Short) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return (short) readVarLong( input );
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				output.writeByte( (Byte) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return input.readByte();
+			}
+		},
+		BOOLEAN( Boolean.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				output.writeBoolean( (Boolean) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return input.readBoolean();
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				output.writeChar( (Character) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return input.readChar();
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				output.writeDouble( (Double) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return input.readDouble();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				output.writeFloat( (Float) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return input.readFloat();
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeBytes( output, ( (String) value ).getBytes( StandardCharsets.UTF_8 ) );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return new String( readBytes( input ), StandardCharsets.UTF_8 );
+			}
+		},
+		BYTES( byte[].class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeBytes( output, (byte[]) value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return readBytes( input );
+			}
+		},
+		JAVA_UUID( UUID.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				final UUID uuid = (UUID) value;
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return new UUID( input.readLong(), input.readLong() );
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				final Instant instant = (Instant) value;
+				writeVarLong( output, instant.getEpochSecond() );
+				writeVarLong( output, instant.getNano() );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return Instant.ofEpochSecond( readVarLong( input ), readVarLong( input ) );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeVarLong( output, ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return LocalDate.ofEpochDay( readVarLong( input ) );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				writeVarLong( output, dateTime.toLocalDate().toEpochDay() );
+				writeVarLong( output, dateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( readVarLong( input ) ),
+						LocalTime.ofNanoOfDay( readVarLong( input ) )
+				);
+			}
+		},
+		SERIALIZED( Object.class ) {
+			@Override
+			boolean accepts(Object value) {
+				return false;
+			}
+
+			@Override
+			void write(DataOutput output, Object value) throws IOException {
+				writeSerialized( output, value );
+			}
+
+			@Override
+			Object read(DataInput input) throws IOException {
+				return readSerialized( input );
+			}
+		};
+
+		private final Class<?> javaType;
+
+		Codec(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		boolean accepts(Object value) {
+			return value.getClass() == javaType;
+		}
+
+		abstract void write(DataOutput output, Object value) throws IOException;
+
+		abstract Object read(DataInput input) throws IOException;
+
+		static Codec forType(Class<?> javaType) {
+			for ( Codec codec : values() ) {
+				if ( codec.javaType == javaType ) {
+					return codec;
+				}
+			}
+			// primitive attribute types
+			if ( javaType == long.class ) {
+				return LONG;
+			}
+			else if ( javaType == int.class ) {
+				return INTEGER;
+			}
+			else if ( javaType == short.class ) {
+				return SHORT;
+			}
+			else if ( javaType == byte.class ) {
+				return BYTE;
+			}
+			else if ( javaType == boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( javaType == char.class ) {
+				return CHARACTER;
+			}
+			else if ( javaType == double.class ) {
+				return DOUBLE;
+			}
+			else if ( javaType == float.class ) {
+				return FLOAT;
+			}
+			return SERIALIZED;
+		}
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.Internal;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -53,6 +56,11 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
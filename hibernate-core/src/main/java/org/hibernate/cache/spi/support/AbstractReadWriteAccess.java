@@ -5,8 +5,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -99,6 +102,35 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	/**
+	 * Gets all the items with a single round trip to the underlying cache.
+	 * Items which are not readable are omitted, just as {@link #get} treats
+	 * them as missing.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( L2CACHE_LOGGER.isTraceEnabled() ) {
+			L2CACHE_LOGGER.tracef( "Getting cached data from region ['%s' (%s)] by %s keys",
+					getRegion().getName(), getAccessType(), keys.size() );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> result = new HashMap<>( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( timestamp ) ) {
+					result.put( entry.getKey(), item.getValue() );
+				}
+			}
+			return result;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -37,6 +40,11 @@ public Object getFromCache(Object key, SharedSessionContractImplementor session)
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object,Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		getStorageAccess().putIntoCache( key, value, session );
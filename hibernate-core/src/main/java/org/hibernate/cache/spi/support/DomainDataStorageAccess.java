@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -22,4 +24,17 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Specialized form of putting multiple things into the cache
+	 * in cases where the puts are coming from a load (read) from
+	 * the database
+	 *
+	 * @implNote the method default is to call {@link #putAllIntoCache}
+	 *
+	 * @since 7.1
+	 */
+	default void putAllFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		putAllIntoCache( entries, session );
+	}
 }
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -21,11 +25,47 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get multiple items from the cache.
+	 * <p>
+	 * Providers able to fetch many entries in a single round trip should
+	 * override the default implementation, which gets the items one by one.
+	 *
+	 * @return the cached items, keyed by the given keys, with no entry for
+	 *         keys which are not cached
+	 *
+	 * @since 7.1
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Put multiple items into the cache.
+	 * <p>
+	 * Providers able to store many entries in a single round trip should
+	 * override the default implementation, which puts the items one by one.
+	 *
+	 * @since 7.1
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -65,6 +65,49 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, a JDBC batch which fills up is executed on a separate thread, while
+	 * the session goes on preparing the next batch, overlapping the work of the database
+	 * with the work of Hibernate. The row counts of a batch, and any error it results in,
+	 * are reported when the next batch is started, or when the batch is executed at the
+	 * end of the flush.
+	 * <p>
+	 * The JDBC driver must tolerate use of the same connection by multiple threads, as
+	 * required by the JDBC specification, since other statements, for example, to fetch
+	 * the next value of a sequence, may be executed while a batch is in flight.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When enabled, and when the {@linkplain #STATEMENT_BATCH_SIZE batch size} is greater
+	 * than one, inserts of entities with an {@linkplain jakarta.persistence.GenerationType#IDENTITY
+	 * identity} primary key are delayed until the session is flushed, and the inserts of
+	 * consecutive entities of the same type are executed as a JDBC batch. The generated
+	 * identifiers are read back from {@link java.sql.Statement#getGeneratedKeys()} after
+	 * the batch is executed, in the order in which the rows were inserted.
+	 * <p>
+	 * An identity insert is not batched, and is executed immediately, as usual, when the
+	 * identifier of the entity is required immediately, when the dialect does not
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsBatchedGetGeneratedKeys() report}
+	 * that its JDBC driver returns the generated keys of all rows of a batch, or when the
+	 * entity has a secondary table, or generated values other than its identifier.
+	 * <p>
+	 * Since the identifier of a persisted entity is then only assigned when the session is
+	 * flushed, the application must not rely on it being assigned immediately by
+	 * {@link jakarta.persistence.EntityManager#persist persist()}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isIdentityInsertBatchingEnabled()
+	 *
+	 * @since 7.1
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -107,6 +107,24 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * The time, in milliseconds, for which the last update timestamps of query
+	 * spaces read from the timestamps region are remembered locally, so that
+	 * checking whether a cached query result is up-to-date does not always
+	 * require a round trip to the cache.
+	 * <p>
+	 * Updates made in the same JVM are always seen immediately. But an update
+	 * made in another JVM might not be seen until the remembered timestamp
+	 * expires, and so a cached query result might be used after it is already
+	 * stale. A very short time to live is therefore recommended.
+	 *
+	 * @settingDefault {@code 0}, that is, timestamps are not remembered locally
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String TIMESTAMPS_CACHE_LOCAL_TTL = "hibernate.cache.timestamps_local_ttl";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -142,6 +160,21 @@ public interface CacheSettings {
 	 */
 	String CACHE_REGION_PREFIX = "hibernate.cache.region_prefix";
 
+	/**
+	 * The maximum number of bytes of off-heap memory which may be used to hold
+	 * the data of a single cache region, when the built-in
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used. When a
+	 * region is full, its least recently used entries are evicted.
+	 *
+	 * @settingDefault {@code 67108864} (64 MiB)
+	 *
+	 * @see org.hibernate.cache.internal.OffHeapRegionFactory
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String OFF_HEAP_REGION_SIZE = "hibernate.cache.off_heap.region_size";
+
 	/**
 	 * Specifies the {@link org.hibernate.annotations.CacheConcurrencyStrategy} to use by
 	 * default when an entity is marked {@link jakarta.persistence.Cacheable @Cacheable},
@@ -185,6 +218,39 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of a compact binary format for entity entries in the
+	 * second-level cache. This reduces the size of each entry, and the cost of
+	 * transferring entries to and from a remote or off-heap cache.
+	 * <p>
+	 * Ignored if {@linkplain #USE_STRUCTURED_CACHE structured entries} are enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
+	/**
+	 * When enabled, concurrent loads of an entity or collection which is missing
+	 * from the second-level cache are coalesced within the JVM: the first session
+	 * to miss loads the data from the database, and other sessions which miss on
+	 * the same cache key wait for that load to complete, and then read the data
+	 * it put in the cache instead of each hitting the database.
+	 * <p>
+	 * A session never waits for more than a second. If the data is still missing
+	 * from the cache when it stops waiting, it loads the data from the database.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String COALESCE_CACHE_MISSES = "hibernate.cache.coalesce_misses";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
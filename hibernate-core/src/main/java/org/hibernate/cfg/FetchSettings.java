@@ -46,4 +46,38 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When set to a positive number, Hibernate detects N+1 selects problems: if a session
+	 * lazily fetches the same association, or proxies of the same entity, one row at a time
+	 * at least this many times, it logs a warning and counts the problem in the
+	 * {@linkplain org.hibernate.stat.Statistics#getNPlusOneSelects() statistics}.
+	 * <p>
+	 * Entities and collections for which batch fetching is enabled are not monitored.
+	 *
+	 * @settingDefault {@code 0}, meaning that N+1 selects problems are not detected
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_SIZE
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getNPlusOneThreshold()
+	 *
+	 * @since 7.1
+	 */
+	String N_PLUS_ONE_THRESHOLD = "hibernate.fetch.n_plus_one_threshold";
+
+	/**
+	 * When set to a number greater than one, Hibernate enables batch fetching, with this
+	 * batch size, for any entity or collection for which an N+1 selects problem was
+	 * {@linkplain #N_PLUS_ONE_THRESHOLD detected}, as if it was annotated
+	 * {@link BatchSize @BatchSize}. The number of keys fetched by a single SQL statement
+	 * is still limited by the {@linkplain org.hibernate.dialect.Dialect#getBatchLoadSizingStrategy()
+	 * dialect}.
+	 *
+	 * @settingDefault {@code 0}, meaning that batch fetching is never enabled automatically
+	 *
+	 * @see #N_PLUS_ONE_THRESHOLD
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getAdaptiveBatchFetchSize()
+	 *
+	 * @since 7.1
+	 */
+	String ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.fetch.adaptive_batch_size";
 }
@@ -127,6 +127,20 @@ public interface MappingSettings {
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
+	/**
+	 * The number of values left in the current pool of a
+	 * {@linkplain org.hibernate.id.enhanced.PooledPrefetchOptimizer "pooled-prefetch"}
+	 * optimizer when it fetches the next pool. May also be specified as a parameter
+	 * of an individual generator.
+	 *
+	 * @settingDefault Half the increment size
+	 *
+	 * @see org.hibernate.id.enhanced.PooledPrefetchOptimizer#setLowWaterMark(int)
+	 *
+	 * @since 7.1
+	 */
+	String PREFETCH_LOW_WATER_MARK = "hibernate.id.optimizer.pooled.prefetch_low_water_mark";
+
 	/**
 	 * Determines if the identifier value stored in the database table backing a
 	 * {@linkplain jakarta.persistence.TableGenerator table generator} is the last
@@ -208,4 +208,57 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, the persistence context keeps managed entities in open-addressing
+	 * hash tables partitioned by entity hierarchy, instead of a single {@link java.util.HashMap}.
+	 * This reduces the memory footprint of sessions holding very many entities, and allows
+	 * entities with {@code Long} or {@link java.util.UUID} identifiers to be looked up by
+	 * their raw identifier, without instantiating an {@link org.hibernate.engine.spi.EntityKey}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isPartitionedEntityMapEnabled()
+	 *
+	 * @since 7.1
+	 */
+	String PARTITIONED_ENTITY_MAP = "hibernate.persistence_context.partitioned_entity_map";
+
+	/**
+	 * When set to a positive number, a flush of a persistence context holding at least this
+	 * many entities reads the current state of the entities and compares it with their loaded
+	 * state in parallel, on the {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+	 * common pool}. Update actions are still created on the calling thread, in the same order
+	 * as a sequential flush, so the SQL statements executed are the same.
+	 * <p>
+	 * Only entities which are not bytecode enhanced take part in the parallel phase, and the
+	 * getters of such entities, if property access is used, must be free of side effects.
+	 *
+	 * @settingDefault {@code 0}, meaning that dirty checking is never done in parallel
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckThreshold()
+	 *
+	 * @since 7.1
+	 */
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/**
+	 * When enabled, the {@linkplain org.hibernate.persister.entity.EntityPersister entity
+	 * persisters} and {@linkplain org.hibernate.persister.collection.CollectionPersister
+	 * collection persisters} are instantiated in parallel, on the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}, when the
+	 * {@link org.hibernate.SessionFactory} is built. The persisters of the entities of an
+	 * inheritance hierarchy are instantiated one after the other, by the same task. The
+	 * persisters are registered, and their mapping models are created, on the calling
+	 * thread, in the same order as a sequential boot.
+	 * <p>
+	 * Custom persister implementations must not depend on each other when instantiated.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isParallelPersisterCreationEnabled()
+	 *
+	 * @since 7.1
+	 */
+	String PARALLEL_PERSISTER_CREATION = "hibernate.boot.parallel_persister_creation";
 }
@@ -305,6 +305,29 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the implementation of the bounded caches backing the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}. Accepted values are:
+	 * <ul>
+	 *     <li>{@code legacy} - a segmented hash map with LIRS eviction,
+	 *     <li>{@code tinylfu} - a built-in W-TinyLFU cache with lock-free reads,
+	 *     <li>{@code caffeine} - a <a href="https://github.com/ben-manes/caffeine">Caffeine</a>
+	 *         cache, which requires Caffeine on the classpath, or
+	 *     <li>{@code auto} - {@code caffeine} when Caffeine is available, {@code tinylfu} otherwise.
+	 * </ul>
+	 * <p>
+	 * Except for {@code legacy}, these implementations track hits, misses and evictions,
+	 * which helps choosing a value for {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @settingDefault {@code legacy}
+	 *
+	 * @see org.hibernate.query.spi.QueryInterpretationCache#getQueryPlanCacheEvictionCount()
+	 *
+	 * @since 7.1
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -4502,6 +4502,23 @@ public boolean supportsInsertReturningGeneratedKeys() {
 		return false;
 	}
 
+	/**
+	 * Does the JDBC driver return the generated keys of every row inserted by a batch
+	 * of {@code insert} statements from {@link java.sql.Statement#getGeneratedKeys()},
+	 * after the batch is executed by {@link java.sql.Statement#executeBatch()}, in the
+	 * order in which the rows were added to the batch?
+	 *
+	 * @return {@code true} if inserts of entities with identity primary keys may be
+	 *         batched, using the {@link org.hibernate.id.insert.GetGeneratedKeysDelegate}
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect require unquoting identifiers when passing them to the
 	 * {@link Connection#prepareStatement(String, String[])} JDBC method.
@@ -925,6 +925,11 @@ public boolean supportsInsertReturningGeneratedKeys() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean unquoteGetGeneratedKeys() {
 		return true;
@@ -1413,6 +1413,11 @@ public boolean supportsInsertReturning() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
@@ -4,6 +4,9 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -61,6 +64,42 @@ public static Object fromSharedCache(
 		return cachedValue;
 	}
 
+	/**
+	 * Obtain the cached data for multiple keys using a single
+	 * {@linkplain CachedDomainDataAccess#getAll bulk lookup}.
+	 *
+	 * @return the cached data, keyed by cache key
+	 *
+	 * @since 7.1
+	 */
+	public static Map<Object, Object> allFromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
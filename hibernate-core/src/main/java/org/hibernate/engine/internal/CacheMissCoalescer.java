@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Coalesces concurrent loads of data which is missing from the second-level
+ * cache, so that only one of them hits the database.
+ * <p>
+ * The first load of a given cache key goes to the database. A concurrent load
+ * of the same key waits for the first one to complete, and then reads the data
+ * from the cache, where the first load has put it. If the data is still not in
+ * the cache, for example, because it does not exist, because it was not cached
+ * due to a concurrent update, or because the wait timed out, the load goes to
+ * the database after all.
+ * <p>
+ * A load never waits for another load started by the same thread, and the wait
+ * is bounded, so that two sessions loading associated data in opposite orders
+ * cannot deadlock.
+ *
+ * @see org.hibernate.cfg.CacheSettings#COALESCE_CACHE_MISSES
+ *
+ * @since 7.1
+ */
+public final class CacheMissCoalescer {
+	private static final long MAX_WAIT_MILLIS = 1_000;
+
+	private final ConcurrentMap<LoadKey, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
+	/**
+	 * Load the data with the given cache key, which was missing from the cache.
+	 *
+	 * @param role The entity name or collection role, since cache keys are not
+	 *             necessarily unique across regions
+	 * @param cacheKey The key of the data in the second-level cache
+	 * @param fromCache Reads the data from the cache, returning {@code null} if it is missing
+	 * @param fromDatabase Reads the data from the database, putting it in the cache
+	 *
+	 * @return The data
+	 */
+	public <T> T load(String role, Object cacheKey, Supplier<T> fromCache, Supplier<T> fromDatabase) {
+		final LoadKey loadKey = new LoadKey( role, cacheKey );
+		final InFlightLoad load = new InFlightLoad();
+		final InFlightLoad inFlightLoad = inFlightLoads.putIfAbsent( loadKey, load );
+		if ( inFlightLoad == null ) {
+			try {
+				return fromDatabase.get();
+			}
+			finally {
+				inFlightLoads.remove( loadKey, load );
+				load.complete();
+			}
+		}
+		else {
+			if ( inFlightLoad.await() ) {
+				final T cached = fromCache.get();
+				if ( cached != null ) {
+					return cached;
+				}
+			}
+			return fromDatabase.get();
+		}
+	}
+
+	private record LoadKey(String role, Object cacheKey) {
+	}
+
+	private static final class InFlightLoad {
+		private final Thread owner = Thread.currentThread();
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+
+		void complete() {
+			latch.countDown();
+		}
+
+		/**
+		 * @return {@code true} if the load completed while we were waiting
+		 */
+		boolean await() {
+			if ( owner == Thread.currentThread() ) {
+				return false;
+			}
+			try {
+				final boolean completed = latch.await( MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS );
+				if ( !completed ) {
+					L2CACHE_LOGGER.debug( "Timed out waiting for concurrent load of data missing from the cache" );
+				}
+				return completed;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+}
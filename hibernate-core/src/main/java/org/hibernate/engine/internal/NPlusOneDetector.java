@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Detects N+1 selects problems, that is, sessions which lazily fetch the same
+ * association, or proxies of the same entity, one row at a time, over and over.
+ * <p>
+ * Fetches are counted per entity name or collection role in the session's
+ * {@link org.hibernate.engine.spi.BatchFetchQueue}. When the count reaches the
+ * {@linkplain org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD threshold},
+ * the problem is counted in the statistics, and, the first time it is detected
+ * for a given role, a warning is logged and, if an
+ * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE adaptive
+ * batch size} is configured, batch loading is enabled for the role, so that
+ * later sessions fetch it in batches.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+ *
+ * @since 7.1
+ */
+public final class NPlusOneDetector {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NPlusOneDetector.class );
+
+	private final Set<String> detectedRoles = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Called after a collection was fetched from the database by itself.
+	 */
+	public void collectionFetched(CollectionPersister persister, SharedSessionContractImplementor session) {
+		if ( isEnabled( session )
+				&& !session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			fetched( persister.getRole(), session, persister::enableBatchLoading );
+		}
+	}
+
+	/**
+	 * Called after an entity was fetched from the database by itself,
+	 * to initialize a proxy or resolve an association.
+	 */
+	public void entityFetched(EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( isEnabled( session )
+				&& !session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			fetched( persister.getEntityName(), session, persister::enableBatchLoading );
+		}
+	}
+
+	private static boolean isEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getSessionFactoryOptions().getNPlusOneThreshold() > 0;
+	}
+
+	private void fetched(String role, SharedSessionContractImplementor session, IntConsumer enableBatchLoading) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getNPlusOneThreshold();
+		final int fetches = session.getPersistenceContextInternal().getBatchFetchQueue().countSingleFetch( role );
+		// report the problem once per session
+		if ( fetches == threshold ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.nPlusOneSelects( role );
+			}
+			if ( detectedRoles.add( role ) ) {
+				final int batchSize = options.getAdaptiveBatchFetchSize();
+				if ( batchSize > 1 ) {
+					LOG.warnf( "N+1 selects: '%s' was fetched one row at a time %s times in one session;"
+									+ " enabling batch fetching with batch size %s",
+							role, fetches, batchSize );
+					enableBatchLoading.accept( batchSize );
+				}
+				else {
+					LOG.warnf( "N+1 selects: '%s' was fetched one row at a time %s times in one session;"
+									+ " consider using @BatchSize or join fetching",
+							role, fetches );
+				}
+			}
+		}
+	}
+}
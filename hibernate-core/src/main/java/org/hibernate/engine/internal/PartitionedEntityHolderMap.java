@@ -0,0 +1,468 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A map of {@link EntityHolder}s by {@link EntityKey}, partitioned by entity hierarchy.
+ * <p>
+ * Each partition is an open-addressing hash table with linear probing, so that, unlike
+ * {@link java.util.HashMap}, no node object is allocated per entry. For hierarchies with
+ * {@code Long} or {@link UUID} identifiers the hash is computed from the raw identifier,
+ * and {@code Long} identifiers are additionally kept in a primitive array, which allows
+ * {@linkplain #get(EntityPersister, long) lookups} without instantiating an {@link EntityKey}.
+ * <p>
+ * The iterators of the views are read-only, and fail fast on concurrent modification.
+ *
+ * @param <V> the type of the held values
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PARTITIONED_ENTITY_MAP
+ */
+final class PartitionedEntityHolderMap<V extends EntityHolder> extends AbstractMap<EntityKey, V> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private Partition<V>[] partitions;
+	private int partitionCount;
+	private Partition<V> lastPartition;
+
+	private int size;
+	private int modCount;
+
+	private Set<Entry<EntityKey, V>> entrySet;
+
+	@SuppressWarnings("unchecked")
+	PartitionedEntityHolderMap() {
+		partitions = new Partition[4];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final Partition<V> partition = findPartition( entityKey.getPersister() );
+			return partition == null ? null : partition.get( entityKey );
+		}
+		return null;
+	}
+
+	/**
+	 * Look up a value by the raw identifier of an entity with a {@code Long} id,
+	 * without instantiating an {@link EntityKey}.
+	 */
+	@Nullable V get(EntityPersister persister, long id) {
+		final Partition<V> partition = findPartition( persister );
+		return partition == null ? null : partition.get( id );
+	}
+
+	/**
+	 * Look up a value by the identifier of an entity, without instantiating an
+	 * {@link EntityKey} when the identifier is a {@code Long} or a {@link UUID}.
+	 */
+	@Nullable V get(EntityPersister persister, Object id) {
+		final Partition<V> partition = findPartition( persister );
+		return partition == null ? null : partition.get( persister, id );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V value) {
+		final Partition<V> partition = getOrCreatePartition( key.getPersister() );
+		final V previous = partition.put( key, value );
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V value) {
+		final Partition<V> partition = getOrCreatePartition( key.getPersister() );
+		final V existing = partition.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		partition.put( key, value );
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final Partition<V> partition = findPartition( entityKey.getPersister() );
+			if ( partition != null ) {
+				final V removed = partition.remove( entityKey );
+				if ( removed != null ) {
+					size--;
+					modCount++;
+				}
+				return removed;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		for ( int i = 0; i < partitionCount; i++ ) {
+			partitions[i] = null;
+		}
+		partitionCount = 0;
+		lastPartition = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private @Nullable Partition<V> findPartition(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		final Partition<V> last = lastPartition;
+		if ( last != null && last.rootEntityName == rootEntityName ) {
+			return last;
+		}
+		for ( int i = 0; i < partitionCount; i++ ) {
+			final Partition<V> partition = partitions[i];
+			if ( partition.rootEntityName == rootEntityName
+					|| partition.rootEntityName.equals( rootEntityName ) ) {
+				lastPartition = partition;
+				return partition;
+			}
+		}
+		return null;
+	}
+
+	private Partition<V> getOrCreatePartition(EntityPersister persister) {
+		final Partition<V> existing = findPartition( persister );
+		if ( existing != null ) {
+			return existing;
+		}
+		if ( partitionCount == partitions.length ) {
+			partitions = Arrays.copyOf( partitions, partitionCount * 2 );
+		}
+		final Partition<V> partition = new Partition<>( persister );
+		partitions[partitionCount++] = partition;
+		lastPartition = partition;
+		return partition;
+	}
+
+	private enum IdentifierKind {
+		LONG,
+		UUID,
+		OTHER
+	}
+
+	/**
+	 * The entries of a single entity hierarchy.
+	 */
+	private static final class Partition<V extends EntityHolder> {
+		private final String rootEntityName;
+		private IdentifierKind kind;
+
+		private EntityKey[] keys;
+		private V[] values;
+		// only used for IdentifierKind.LONG
+		private long[] longIds;
+		private int size;
+
+		Partition(EntityPersister persister) {
+			rootEntityName = persister.getRootEntityName();
+			final Class<?> idClass = persister.getIdentifierType().getReturnedClass();
+			if ( idClass == Long.class || idClass == long.class ) {
+				kind = IdentifierKind.LONG;
+			}
+			else if ( idClass == UUID.class ) {
+				kind = IdentifierKind.UUID;
+			}
+			else {
+				kind = IdentifierKind.OTHER;
+			}
+			allocate( INITIAL_CAPACITY );
+		}
+
+		@SuppressWarnings("unchecked")
+		private void allocate(int capacity) {
+			keys = new EntityKey[capacity];
+			values = (V[]) new EntityHolder[capacity];
+			longIds = kind == IdentifierKind.LONG ? new long[capacity] : null;
+		}
+
+		private int hash(EntityKey key) {
+			final Object id = key.getIdentifier();
+			return switch ( kind ) {
+				case LONG -> mix( Long.hashCode( (Long) id ) );
+				case UUID -> mix( id.hashCode() );
+				default -> mix( key.hashCode() );
+			};
+		}
+
+		private static int mix(int h) {
+			h *= 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+
+		/**
+		 * If an identifier of an unexpected type shows up, fall back to the hashing
+		 * and equality semantics of {@link EntityKey} for the whole partition.
+		 */
+		private void checkIdentifierType(Object id) {
+			if ( kind == IdentifierKind.LONG && !( id instanceof Long )
+					|| kind == IdentifierKind.UUID && !( id instanceof UUID ) ) {
+				final EntityKey[] oldKeys = keys;
+				final V[] oldValues = values;
+				kind = IdentifierKind.OTHER;
+				rehash( oldKeys, oldValues, keys.length );
+			}
+		}
+
+		@Nullable V get(EntityKey key) {
+			final Object id = key.getIdentifier();
+			if ( kind == IdentifierKind.LONG ) {
+				return id instanceof Long longId ? get( longId ) : null;
+			}
+			else if ( kind == IdentifierKind.UUID && !( id instanceof UUID ) ) {
+				return null;
+			}
+			final EntityKey[] keys = this.keys;
+			final int mask = keys.length - 1;
+			for ( int index = hash( key ) & mask; ; index = ( index + 1 ) & mask ) {
+				final EntityKey candidate = keys[index];
+				if ( candidate == null ) {
+					return null;
+				}
+				else if ( candidate == key || candidate.equals( key ) ) {
+					return values[index];
+				}
+			}
+		}
+
+		@Nullable V get(long id) {
+			if ( kind != IdentifierKind.LONG ) {
+				return null;
+			}
+			final EntityKey[] keys = this.keys;
+			final long[] longIds = this.longIds;
+			final int mask = keys.length - 1;
+			for ( int index = mix( Long.hashCode( id ) ) & mask; ; index = ( index + 1 ) & mask ) {
+				if ( keys[index] == null ) {
+					return null;
+				}
+				else if ( longIds[index] == id ) {
+					return values[index];
+				}
+			}
+		}
+
+		@Nullable V get(EntityPersister persister, Object id) {
+			switch ( kind ) {
+				case LONG:
+					return id instanceof Long longId ? get( longId ) : null;
+				case UUID:
+					if ( id instanceof UUID ) {
+						final EntityKey[] keys = this.keys;
+						final int mask = keys.length - 1;
+						for ( int index = mix( id.hashCode() ) & mask; ; index = ( index + 1 ) & mask ) {
+							final EntityKey candidate = keys[index];
+							if ( candidate == null ) {
+								return null;
+							}
+							else if ( id.equals( candidate.getIdentifier() ) ) {
+								return values[index];
+							}
+						}
+					}
+					return null;
+				default:
+					return get( new EntityKey( id, persister ) );
+			}
+		}
+
+		@Nullable V put(EntityKey key, V value) {
+			checkIdentifierType( key.getIdentifier() );
+			final EntityKey[] keys = this.keys;
+			final int mask = keys.length - 1;
+			int index = hash( key ) & mask;
+			while ( keys[index] != null ) {
+				if ( keys[index] == key || keys[index].equals( key ) ) {
+					final V previous = values[index];
+					keys[index] = key;
+					values[index] = value;
+					return previous;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			insert( index, key, value );
+			if ( ++size > ( keys.length >> 1 ) + ( keys.length >> 2 ) ) {
+				rehash( keys, values, keys.length << 1 );
+			}
+			return null;
+		}
+
+		private void insert(int index, EntityKey key, V value) {
+			keys[index] = key;
+			values[index] = value;
+			if ( longIds != null ) {
+				longIds[index] = (Long) key.getIdentifier();
+			}
+		}
+
+		private void rehash(EntityKey[] oldKeys, V[] oldValues, int capacity) {
+			allocate( capacity );
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final EntityKey key = oldKeys[i];
+				if ( key != null ) {
+					int index = hash( key ) & mask;
+					while ( keys[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					insert( index, key, oldValues[i] );
+				}
+			}
+		}
+
+		@Nullable V remove(EntityKey key) {
+			final EntityKey[] keys = this.keys;
+			final int mask = keys.length - 1;
+			for ( int index = hash( key ) & mask; ; index = ( index + 1 ) & mask ) {
+				final EntityKey candidate = keys[index];
+				if ( candidate == null ) {
+					return null;
+				}
+				else if ( candidate == key || candidate.equals( key ) ) {
+					final V removed = values[index];
+					delete( index );
+					size--;
+					return removed;
+				}
+			}
+		}
+
+		/**
+		 * Backward shift deletion: move later entries of the probe sequence into
+		 * the freed slot, so that lookups never need tombstones.
+		 */
+		private void delete(int index) {
+			final EntityKey[] keys = this.keys;
+			final int mask = keys.length - 1;
+			int free = index;
+			int current = index;
+			while ( true ) {
+				current = ( current + 1 ) & mask;
+				final EntityKey key = keys[current];
+				if ( key == null ) {
+					break;
+				}
+				final int ideal = hash( key ) & mask;
+				// the entry can move to the free slot unless its ideal slot lies cyclically in (free, current]
+				if ( free <= current
+						? ideal <= free || ideal > current
+						: ideal <= free && ideal > current ) {
+					keys[free] = key;
+					values[free] = values[current];
+					if ( longIds != null ) {
+						longIds[free] = longIds[current];
+					}
+					free = current;
+				}
+			}
+			keys[free] = null;
+			values[free] = null;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new EntryIterator();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private final int expectedModCount = modCount;
+		private int partitionIndex;
+		private int slot = -1;
+		private Partition<V> partition;
+
+		EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( partitionIndex < partitionCount ) {
+				partition = partitions[partitionIndex];
+				while ( ++slot < partition.keys.length ) {
+					if ( partition.keys[slot] != null ) {
+						return;
+					}
+				}
+				partitionIndex++;
+				slot = -1;
+			}
+			partition = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return partition != null;
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( partition == null ) {
+				throw new NoSuchElementException();
+			}
+			final Map.Entry<EntityKey, V> entry =
+					new SimpleImmutableEntry<>( partition.keys[slot], partition.values[slot] );
+			advance();
+			return entry;
+		}
+	}
+}
@@ -117,7 +117,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -186,11 +186,17 @@ the following fields are used in all circumstances, and are not worth (or not su
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = createEntitiesByKey( session.getFactory(), INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private static Map<EntityKey, EntityHolderImpl> createEntitiesByKey(SessionFactoryImplementor factory, int size) {
+		return factory.getSessionFactoryOptions().isPartitionedEntityMapEnabled()
+				? new PartitionedEntityHolderMap<>()
+				: mapOfSize( size );
+	}
+
 	private EntityHolderImpl getOrInitializeNewHolder() {
 		if ( newEntityHolder == null ) {
 			return newEntityHolder = new EntityHolderImpl();
@@ -521,6 +527,17 @@ public Object getEntity(EntityKey key) {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Object id) {
+		if ( entitiesByKey instanceof PartitionedEntityHolderMap<EntityHolderImpl> partitioned ) {
+			final EntityHolderImpl holder = partitioned.get( persister, id );
+			return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+		}
+		else {
+			return getEntity( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -920,7 +937,7 @@ public Object getCollectionOwner(Object key, CollectionPersister collectionPersi
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( ownerPersister, key );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -931,7 +948,7 @@ public Object getCollectionOwner(Object key, CollectionPersister collectionPersi
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerPersister, ownerId );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -1966,7 +1983,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = createEntitiesByKey( sfi, Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -4,6 +4,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -15,6 +17,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -27,8 +30,9 @@
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -37,11 +41,42 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether batches which fill up should be executed
+	 * on a separate thread
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 *
+	 * @since 7.1
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining) {
 		if ( globalBatchSize > 1 ) {
 			BATCH_MESSAGE_LOGGER.batchingEnabled( globalBatchSize );
 		}
 		BATCH_LOGGER.trace( "Using standard BatchBuilder");
 		this.globalBatchSize = globalBatchSize;
+		this.pipelineExecutor = pipelining ? Executors.newCachedThreadPool( BatchBuilderImpl::newPipelineThread ) : null;
+	}
+
+	private static Thread newPipelineThread(Runnable runnable) {
+		final Thread thread = new Thread( runnable );
+		thread.setDaemon( true );
+		thread.setName( "Hibernate JDBC Batch Pipeline Thread" );
+		return thread;
+	}
+
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
 	}
 
 	public int getJdbcBatchSize() {
@@ -59,7 +94,7 @@ public Batch buildBatch(
 						? globalBatchSize
 						: explicitBatchSize;
 		assert batchSize > 1;
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator, pipelineExecutor );
 	}
 
 
@@ -12,9 +12,11 @@
 import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import static org.hibernate.cfg.BatchSettings.BATCH_PIPELINING;
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -42,7 +44,10 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			return new BatchBuilderImpl(
+					getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					getBoolean( BATCH_PIPELINING, configurationValues )
+			);
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
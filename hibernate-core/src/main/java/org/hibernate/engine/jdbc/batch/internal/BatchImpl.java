@@ -6,7 +6,12 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
@@ -25,6 +30,7 @@
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
@@ -34,8 +40,18 @@
 
 /**
  * Standard implementation of {@link Batch}
+ * <p>
+ * If a {@linkplain #BatchImpl(BatchKey, PreparedStatementGroup, int, JdbcCoordinator, Executor)
+ * pipeline executor} is given, a batch which fills up is executed by that executor, while
+ * the calling thread goes on preparing the next batch. Since the statements are still in use,
+ * the {@linkplain JdbcValueBindings#copy() bindings} of the rows added in the meantime are
+ * buffered, and only bound to the statements once the executing batch has completed. The row
+ * counts of the executing batch are checked when the next batch fills up, or when the batch
+ * is {@linkplain #execute() executed explicitly}.
  *
  * @author Steve Ebersole
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
@@ -48,15 +64,34 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private final Executor pipelineExecutor;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
+	private PendingExecution pendingExecution;
+	private List<BufferedRow> bufferedRows;
 
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param pipelineExecutor the executor for batches which fill up, or {@code null}
+	 * if batches should always be executed by the calling thread
+	 *
+	 * @since 7.1
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor pipelineExecutor) {
 		requireNonNull( key, "Batch key cannot be null" );
 		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
 
@@ -64,6 +99,7 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.pipelineExecutor = pipelineExecutor;
 
 		final JdbcServices jdbcServices =
 				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
@@ -108,6 +144,14 @@ public void addToBatch(
 
 	@Override
 	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		// the statements are still in use by the previous batch,
+		// so the values are bound once that batch has completed
+		final JdbcValueBindings bufferedBindings =
+				pendingExecution == null ? null : jdbcValueBindings.copy();
+		if ( pendingExecution != null && bufferedBindings == null ) {
+			awaitPendingExecution();
+		}
+
 		final boolean loggerTraceEnabled = BATCH_LOGGER.isTraceEnabled();
 		if ( loggerTraceEnabled ) {
 			BATCH_MESSAGE_LOGGER.addToBatch(
@@ -117,6 +161,8 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 			);
 		}
 
+		final List<PreparedStatementDetails> bufferedStatements =
+				bufferedBindings == null ? null : new ArrayList<>();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				if ( inclusionChecker != null
@@ -129,26 +175,12 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 						);
 					}
 				}
+				else if ( bufferedStatements != null ) {
+					bufferedStatements.add( statementDetails );
+					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+				}
 				else {
-					//noinspection resource
-					final PreparedStatement statement = statementDetails.resolveStatement();
-					final String sqlString = statementDetails.getSqlString();
-					sqlStatementLogger.logStatement( sqlString );
-					jdbcValueBindings.beforeStatement( statementDetails );
-					try {
-						statement.addBatch();
-					}
-					catch (SQLException e) {
-						BATCH_LOGGER.debug( "SQLException escaped proxy", e );
-						throw sqlExceptionHelper.convert(
-								e,
-								"Could not perform addBatch",
-								sqlString
-						);
-					}
-					finally {
-						jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
-					}
+					addStatementToBatch( statementDetails, jdbcValueBindings );
 				}
 			} );
 		}
@@ -157,10 +189,68 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 			throw e;
 		}
 
+		if ( bufferedStatements != null ) {
+			if ( bufferedRows == null ) {
+				bufferedRows = new ArrayList<>();
+			}
+			bufferedRows.add( new BufferedRow( bufferedBindings, bufferedStatements ) );
+		}
+
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			awaitPendingExecution();
+			addBufferedRowsToBatch();
+			if ( pipelineExecutor == null ) {
+				performExecution();
+			}
+			else {
+				performPipelinedExecution();
+			}
+		}
+	}
+
+	private void addStatementToBatch(PreparedStatementDetails statementDetails, JdbcValueBindings jdbcValueBindings) {
+		//noinspection resource
+		final PreparedStatement statement = statementDetails.resolveStatement();
+		final String sqlString = statementDetails.getSqlString();
+		sqlStatementLogger.logStatement( sqlString );
+		jdbcValueBindings.beforeStatement( statementDetails );
+		try {
+			statement.addBatch();
+		}
+		catch (SQLException e) {
+			BATCH_LOGGER.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper.convert(
+					e,
+					"Could not perform addBatch",
+					sqlString
+			);
+		}
+		finally {
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		}
+	}
+
+	/**
+	 * Add the rows which were buffered while the previous batch was
+	 * executing, once its statements are available again.
+	 */
+	private void addBufferedRowsToBatch() {
+		final List<BufferedRow> rows = bufferedRows;
+		if ( rows != null ) {
+			bufferedRows = null;
+			try {
+				for ( BufferedRow row : rows ) {
+					for ( PreparedStatementDetails statementDetails : row.statements() ) {
+						addStatementToBatch( statementDetails, row.jdbcValueBindings() );
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				abortBatch( e );
+				throw e;
+			}
 		}
 	}
 
@@ -220,6 +310,7 @@ public void execute() {
 		notifyObserversExplicitExecution();
 		if ( getStatementGroup().getNumberOfStatements() != 0 ) {
 			try {
+				awaitPendingExecution();
 				if ( batchPosition == 0 ) {
 					if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
 						BATCH_LOGGER.debugf(
@@ -249,6 +340,9 @@ protected void performExecution() {
 
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final StatisticsImplementor statistics = jdbcSessionOwner.getJdbcSessionContext().getStatistics();
+		final boolean stats = statistics != null && statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -267,7 +361,7 @@ protected void performExecution() {
 								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
 								eventHandler.jdbcExecuteBatchEnd();
 							}
-							checkRowCounts( rowCounts, statementDetails );
+							checkRowCounts( rowCounts, statementDetails, batchPosition, staleStateMappers );
 						}
 						else {
 							statement.executeBatch();
@@ -284,6 +378,9 @@ protected void performExecution() {
 				}
 			} );
 			batchExecuted = true;
+			if ( stats ) {
+				statistics.batchExecuted( System.nanoTime() - startTime );
+			}
 		}
 		finally {
 			jdbcCoordinator.afterStatementExecution();
@@ -291,7 +388,97 @@ protected void performExecution() {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
+	private void performPipelinedExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final List<PreparedStatementDetails> statements = new ArrayList<>();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				statements.add( statementDetails );
+			}
+		} );
+
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final PendingExecution pending = new PendingExecution(
+				statements,
+				batchPosition,
+				staleStateMappers,
+				jdbcSessionOwner.getEventMonitor().beginJdbcBatchExecutionEvent(),
+				jdbcSessionOwner.getJdbcSessionContext().getStatistics()
+		);
+		jdbcSessionOwner.getJdbcSessionContext().getEventHandler().jdbcExecuteBatchStart();
+		pending.future = CompletableFuture.runAsync( pending::executeStatements, pipelineExecutor );
+		pendingExecution = pending;
+
+		// the next batch must not overwrite the state of this one
+		batchPosition = 0;
+		staleStateMappers = null;
+	}
+
+	/**
+	 * Wait for the batch handed to the {@linkplain #pipelineExecutor pipeline},
+	 * if any, and check its row counts.
+	 */
+	private void awaitPendingExecution() {
+		final PendingExecution pending = pendingExecution;
+		if ( pending != null ) {
+			pendingExecution = null;
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			try {
+				pending.await();
+				if ( pending.failure != null ) {
+					abortBatch( pending.failure );
+					if ( pending.failure instanceof SQLException sqlException ) {
+						throw sqlExceptionHelper.convert( sqlException, "could not execute batch", pending.failedSql );
+					}
+					else {
+						throw (RuntimeException) pending.failure;
+					}
+				}
+				final List<PreparedStatementDetails> statements = pending.statements;
+				for ( int i = 0; i < statements.size(); i++ ) {
+					final PreparedStatementDetails statementDetails = statements.get( i );
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						try {
+							checkRowCounts(
+									pending.rowCounts[i],
+									statementDetails,
+									pending.batchPosition,
+									pending.staleStateMappers
+							);
+						}
+						catch (SQLException e) {
+							abortBatch( e );
+							throw sqlExceptionHelper.convert( e, "could not execute batch", statementDetails.getSqlString() );
+						}
+						catch (RuntimeException re) {
+							abortBatch( re );
+							throw re;
+						}
+					}
+				}
+				batchExecuted = true;
+			}
+			finally {
+				jdbcSessionOwner.getEventMonitor()
+						.completeJdbcBatchExecutionEvent( pending.executionEvent, pending.identifierTableSql() );
+				jdbcSessionOwner.getJdbcSessionContext().getEventHandler().jdbcExecuteBatchEnd();
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+	}
+
+	private void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int batchPosition,
+			StaleStateMapper[] staleStateMappers)
 			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition ) {
@@ -318,6 +505,17 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 
 	@Override
 	public void release() {
+		bufferedRows = null;
+		if ( pendingExecution != null ) {
+			// the statements must not be closed while the batch is
+			// still executing, but its outcome is no longer of interest
+			final PendingExecution pending = pendingExecution;
+			pendingExecution = null;
+			pending.await();
+			jdbcCoordinator.getJdbcSessionOwner().getEventMonitor()
+					.completeJdbcBatchExecutionEvent( pending.executionEvent, pending.identifierTableSql() );
+			jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getEventHandler().jdbcExecuteBatchEnd();
+		}
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final PreparedStatementGroup statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() != 0
@@ -333,4 +531,86 @@ public void release() {
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	/**
+	 * A row added while the previous batch was still executing.
+	 */
+	private record BufferedRow(JdbcValueBindings jdbcValueBindings, List<PreparedStatementDetails> statements) {
+	}
+
+	/**
+	 * A batch handed to the {@linkplain #pipelineExecutor pipeline}. Only
+	 * {@link #executeStatements()} is called by the pipeline thread, and
+	 * everything else happens on the thread which owns the session.
+	 * The statistics are thread-safe, and so the execution time is
+	 * reported by the pipeline thread.
+	 */
+	private static final class PendingExecution {
+		private final List<PreparedStatementDetails> statements;
+		private final int batchPosition;
+		private final StaleStateMapper[] staleStateMappers;
+		private final DiagnosticEvent executionEvent;
+		private final StatisticsImplementor statistics;
+		private final int[][] rowCounts;
+
+		private CompletableFuture<Void> future;
+		private Exception failure;
+		private String failedSql;
+
+		private PendingExecution(
+				List<PreparedStatementDetails> statements,
+				int batchPosition,
+				StaleStateMapper[] staleStateMappers,
+				DiagnosticEvent executionEvent,
+				StatisticsImplementor statistics) {
+			this.statements = statements;
+			this.batchPosition = batchPosition;
+			this.staleStateMappers = staleStateMappers;
+			this.executionEvent = executionEvent;
+			this.statistics = statistics;
+			this.rowCounts = new int[statements.size()][];
+		}
+
+		private void executeStatements() {
+			final boolean stats = statistics != null && statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
+			for ( int i = 0; i < statements.size(); i++ ) {
+				final PreparedStatementDetails statementDetails = statements.get( i );
+				try {
+					rowCounts[i] = statementDetails.getStatement().executeBatch();
+				}
+				catch (SQLException | RuntimeException e) {
+					failure = e;
+					failedSql = statementDetails.getSqlString();
+					return;
+				}
+			}
+			if ( stats ) {
+				statistics.batchExecuted( System.nanoTime() - startTime );
+			}
+		}
+
+		private void await() {
+			try {
+				// completion of the future makes the
+				// results of executeStatements() visible
+				future.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+
+		private String identifierTableSql() {
+			for ( PreparedStatementDetails statementDetails : statements ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					return statementDetails.getSqlString();
+				}
+			}
+			return null;
+		}
+	}
 }
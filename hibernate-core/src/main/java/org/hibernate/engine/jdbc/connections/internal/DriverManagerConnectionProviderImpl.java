@@ -16,7 +16,9 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -356,6 +358,9 @@ public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// guards growth of the pool, and is not the monitor lock since
+		// opening a connection blocks, which would pin a virtual thread
+		private final Lock growthLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -429,12 +434,16 @@ private Connection poll() {
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
+					growthLock.lock();
+					try {
 						if ( allConnections.size() < maxSize ) {
 							addConnections( 1 );
 							return poll();
 						}
 					}
+					finally {
+						growthLock.unlock();
+					}
 					throw new HibernateException(
 							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
@@ -43,4 +43,18 @@ default void bindValue(Object value, SelectableMapping selectableMapping, Parame
 	 * Called after the execution of the operation for the specified table
 	 */
 	void afterStatement(TableMapping mutatingTable);
+
+	/**
+	 * A copy of the current bindings, which is not affected by subsequent
+	 * calls to {@link #bindValue} or {@link #afterStatement}, allowing a
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.Batch batch} to bind
+	 * the values later.
+	 *
+	 * @return the copy, or {@code null} if the bindings cannot be copied
+	 *
+	 * @since 7.1
+	 */
+	default JdbcValueBindings copy() {
+		return null;
+	}
 }
@@ -114,6 +114,18 @@ public void afterStatement(TableMapping mutatingTable) {
 		bindingGroup.clear();
 	}
 
+	@Override
+	public JdbcValueBindings copy() {
+		final JdbcValueBindingsImpl copy =
+				new JdbcValueBindingsImpl( mutationType, mutationTarget, jdbcValueDescriptorAccess, session );
+		bindingGroupMap.forEach( (tableName, bindingGroup) -> {
+			final BindingGroup copiedGroup = new BindingGroup( tableName );
+			copiedGroup.getBindings().addAll( bindingGroup.getBindings() );
+			copy.bindingGroupMap.put( tableName, copiedGroup );
+		} );
+		return copy;
+	}
+
 	/**
 	 * Access to {@link JdbcValueDescriptor} values
 	 */
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.OperationResultChecker;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.values.GeneratedValues;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.ValuesAnalysis;
+
+/**
+ * Executor for a single operation whose generated keys are read back after the rows
+ * are inserted by a JDBC batch.
+ * <p>
+ * Each call to {@link #execute} adds the currently bound values to the batch, and
+ * returns {@code null}. The batch is executed, and the generated keys of all the rows
+ * are read, by {@link #executeBatch}. Unlike {@link MutationExecutorSingleBatched},
+ * the statement is not shared with other executors through the
+ * {@linkplain org.hibernate.engine.jdbc.spi.JdbcCoordinator#getBatch JDBC coordinator},
+ * since the generated keys must be read from the statement which executed the batch.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+ */
+public class MutationExecutorSingleBatchedGeneratedKeys extends AbstractSingleMutationExecutor {
+	private final PreparedStatementGroupSingleTable statementGroup;
+	private final GetGeneratedKeysDelegate generatedKeysDelegate;
+	private int batchPosition;
+
+	public MutationExecutorSingleBatchedGeneratedKeys(
+			PreparableMutationOperation mutationOperation,
+			GetGeneratedKeysDelegate generatedKeysDelegate,
+			SharedSessionContractImplementor session) {
+		super( mutationOperation, session );
+		this.generatedKeysDelegate = generatedKeysDelegate;
+		this.statementGroup = new PreparedStatementGroupSingleTable( mutationOperation, generatedKeysDelegate, session );
+		prepareForNonBatchedWork( null, session );
+	}
+
+	@Override
+	protected PreparedStatementGroupSingleTable getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	protected GeneratedValues performNonBatchedOperations(
+			Object modelReference,
+			ValuesAnalysis valuesAnalysis,
+			TableInclusionChecker inclusionChecker,
+			OperationResultChecker resultChecker,
+			SharedSessionContractImplementor session) {
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		final JdbcValueBindings valueBindings = getJdbcValueBindings();
+		final String sql = statementDetails.getSqlString();
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		try {
+			valueBindings.beforeStatement( statementDetails );
+			statementDetails.resolveStatement().addBatch();
+			batchPosition++;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not perform addBatch",
+					sql
+			);
+		}
+		finally {
+			valueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		}
+		return null;
+	}
+
+	/**
+	 * Execute the batch of rows added by the previous calls to {@link #execute}.
+	 *
+	 * @return The generated values, one element per row, in the order the rows were added
+	 */
+	public List<GeneratedValues> executeBatch(SharedSessionContractImplementor session) {
+		assert batchPosition > 0;
+		try {
+			return generatedKeysDelegate.performBatchedMutation(
+					statementGroup.getSingleStatementDetails(),
+					batchPosition,
+					session
+			);
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	@Override
+	public void release() {
+		// the statement is already released, unless the batch was never executed
+		statementGroup.release();
+	}
+}
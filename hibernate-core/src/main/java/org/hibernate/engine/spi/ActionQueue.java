@@ -49,6 +49,7 @@
 import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.AnyType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.EntityType;
@@ -58,6 +59,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.newSetFromMap;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -641,22 +643,17 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( ComparableExecutable executable : list ) {
-				try {
-					executable.execute();
-				}
-				finally {
-					if ( executable.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+			final int identityInsertBatchSize = getIdentityInsertBatchSize();
+			if ( identityInsertBatchSize > 1 ) {
+				executeActionsBatchingIdentityInserts( list, identityInsertBatchSize );
+			}
+			else {
+				for ( ComparableExecutable executable : list ) {
+					try {
+						executable.execute();
 					}
-					if ( executable.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+					finally {
+						registerTransactionCompletionProcesses( executable );
 					}
 				}
 			}
@@ -676,6 +673,126 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(ComparableExecutable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * The maximum number of delayed identity inserts to execute as a single JDBC batch,
+	 * or zero if identity inserts are not batched.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private int getIdentityInsertBatchSize() {
+		if ( getSessionFactoryOptions().isIdentityInsertBatchingEnabled() ) {
+			final Integer batchSize = session.getConfiguredJdbcBatchSize();
+			return batchSize == null ? 0 : batchSize;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	/**
+	 * Execute the actions of the given list in order, executing consecutive delayed
+	 * identity inserts of the same entity as a single JDBC batch.
+	 */
+	private void executeActionsBatchingIdentityInserts(ExecutableList<?> list, int batchSize) {
+		int index = 0;
+		while ( index < list.size() ) {
+			final ComparableExecutable executable = list.get( index );
+			final List<EntityIdentityInsertAction> batch =
+					executable instanceof EntityIdentityInsertAction action && isIdentityInsertBatchable( action )
+							? nextIdentityInsertBatch( list, index, batchSize )
+							: null;
+			if ( batch != null && batch.size() > 1 ) {
+				try {
+					EntityIdentityInsertAction.executeBatch( batch );
+				}
+				finally {
+					for ( EntityIdentityInsertAction action : batch ) {
+						registerTransactionCompletionProcesses( action );
+					}
+				}
+				index += batch.size();
+			}
+			else {
+				try {
+					executable.execute();
+				}
+				finally {
+					registerTransactionCompletionProcesses( executable );
+				}
+				index++;
+			}
+		}
+	}
+
+	private static boolean isIdentityInsertBatchable(EntityIdentityInsertAction action) {
+		return !action.isEarlyInsert()
+			&& action.getPersister().getInsertCoordinator().isGeneratedIdentifierInsertBatchable();
+	}
+
+	/**
+	 * Collect the consecutive delayed identity inserts of the same entity starting at
+	 * the given index. The batch ends before an insert whose state references an instance
+	 * inserted by the batch, since the identifier of that instance is not yet known.
+	 */
+	private static List<EntityIdentityInsertAction> nextIdentityInsertBatch(
+			ExecutableList<?> list,
+			int start,
+			int batchSize) {
+		final EntityIdentityInsertAction first = (EntityIdentityInsertAction) list.get( start );
+		final EntityPersister persister = first.getPersister();
+		final List<EntityIdentityInsertAction> batch = new ArrayList<>();
+		final Set<Object> instances = newSetFromMap( new IdentityHashMap<>() );
+		batch.add( first );
+		instances.add( first.getInstance() );
+		for ( int index = start + 1; index < list.size() && batch.size() < batchSize; index++ ) {
+			if ( list.get( index ) instanceof EntityIdentityInsertAction action
+					&& action.getPersister() == persister
+					&& !action.isEarlyInsert()
+					&& !referencesAny( action.getState(), persister.getPropertyTypes(), instances ) ) {
+				batch.add( action );
+				instances.add( action.getInstance() );
+			}
+			else {
+				break;
+			}
+		}
+		return batch;
+	}
+
+	private static boolean referencesAny(Object[] values, Type[] types, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value != null ) {
+				if ( types[i] instanceof EntityType || types[i] instanceof AnyType ) {
+					if ( instances.contains( value ) ) {
+						return true;
+					}
+				}
+				else if ( types[i] instanceof ComponentType componentType ) {
+					if ( referencesAny( componentType.getPropertyValues( value ), componentType.getSubtypes(), instances ) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -67,6 +67,13 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of times entities and collections which are not batch loadable were fetched
+	 * one at a time, keyed by entity name or collection role. Used to detect N+1 selects.
+	 * Unlike the queued keys, the counts are not cleared after flushing or clearing the session.
+	 */
+	private @Nullable Map<String, Integer> singleFetchCounts;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -470,6 +477,24 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys; //we ran out of keys to try
 	}
 
+	// N+1 detection support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Count a fetch of a single entity or collection which could not be batch fetched.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @return The number of such fetches of the given role in this session, including this one
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	public int countSingleFetch(String role) {
+		if ( singleFetchCounts == null ) {
+			singleFetchCounts = mapOfSize( 8 );
+		}
+		return singleFetchCounts.merge( role, 1, Integer::sum );
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
@@ -162,6 +162,25 @@ default boolean hasLoadContext() {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier and of the given entity type.
+	 * <p>
+	 * Equivalent to {@link #getEntity(EntityKey)}, but implementations may avoid
+	 * instantiating the {@link EntityKey}.
+	 *
+	 * @param persister The persister of the entity type
+	 * @param id The identifier of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARTITIONED_ENTITY_MAP
+	 *
+	 * @since 7.1
+	 */
+	default Object getEntity(EntityPersister persister, Object id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -575,6 +575,21 @@ default boolean isStatelessSession() {
 	@Incubating
 	Object loadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode);
 
+	/**
+	 * Assembles the entity from an entry which was already obtained from the
+	 * second-level cache, for example, by a bulk lookup of a batch of entities.
+	 *
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry obtained from the second-level cache, or null
+	 *
+	 * @return The entity assembled from the entry, or null.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry);
+
 	/**
 	 * Wrap all state that lazy loading interceptors might need to
 	 * manage association with this session, or to handle lazy loading
@@ -697,6 +697,11 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return delegate.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+	}
+
 	@Override
 	public SessionAssociationMarkers getSessionAssociationMarkers() {
 		return delegate.getSessionAssociationMarkers();
@@ -223,15 +223,23 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		final var entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// for a very large persistence context, the current state of the
+		// entities may be read and compared with the loaded state up front
+		final ParallelDirtyCheck parallelDirtyCheck = ParallelDirtyCheck.perform( entityEntries, source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
-		for ( var me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
+			final var me = entityEntries[i];
 			// Update the status of the object and if necessary, schedule an update
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( entityEvent, i );
+				}
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
 				assert entityEvent.getInstanceGenerationId() == eventGenerationId;
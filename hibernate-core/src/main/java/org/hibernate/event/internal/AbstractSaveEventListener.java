@@ -132,12 +132,24 @@ else if ( generatedBeforeExecution ) {
 			generatedId = persister.getIdentifier( entity, source );
 		}
 		final boolean delayIdentityInserts =
-				!source.isTransactionInProgress()
-						&& !requiresImmediateIdAccess
-						&& generatedOnExecution;
+				!requiresImmediateIdAccess
+						&& generatedOnExecution
+						&& ( !source.isTransactionInProgress() || isIdentityInsertBatchable( persister, source ) );
 		return performSave( entity, generatedId, persister, generatedOnExecution, context, source, delayIdentityInserts );
 	}
 
+	/**
+	 * Within a transaction, an identity insert is only delayed when it
+	 * may be executed as part of a JDBC batch when the session is flushed.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static boolean isIdentityInsertBatchable(EntityPersister persister, EventSource source) {
+		final Integer batchSize = source.getConfiguredJdbcBatchSize();
+		return batchSize != null && batchSize > 1
+			&& persister.getInsertCoordinator().isGeneratedIdentifierInsertBatchable();
+	}
+
 	/**
 	 * Generate an id before execution of the insert statements,
 	 * using the given {@link BeforeExecutionGenerator}.
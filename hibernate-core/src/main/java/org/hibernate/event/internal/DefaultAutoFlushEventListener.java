@@ -62,6 +62,8 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 
 					// note: performExecutions() clears all collectionXxxxtion
 					// collections (the collection actions) in the session
+					final StatisticsImplementor statistics = source.getFactory().getStatistics();
+					final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 					final DiagnosticEvent flushEvent = eventMonitor.beginFlushEvent();
 					try {
 						performExecutions( source );
@@ -72,9 +74,9 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					finally {
 						eventMonitor.completeFlushEvent( flushEvent, event, true );
 					}
-					final StatisticsImplementor statistics = source.getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
 						statistics.flush();
+						statistics.flushExecuted( System.nanoTime() - startTime );
 					}
 				}
 				else {
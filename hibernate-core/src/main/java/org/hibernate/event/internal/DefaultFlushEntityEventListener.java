@@ -131,13 +131,17 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( entity, entry, mightBeDirty, session, event.getPrecomputedPropertyValues() );
 
 		event.setPropertyValues( values );
 
 		//TODO: avoid this for non-new instances where mightBeDirty==false
 
 		boolean substitute = wrapCollections( event, values );
+		if ( substitute ) {
+			// the values changed, so a precomputed dirty check is stale
+			event.setPrecomputedDirtyCheck( null, null );
+		}
 
 		if ( isUpdateNecessary( event, mightBeDirty ) ) {
 			substitute = scheduleUpdate( event ) || substitute;
@@ -160,7 +164,12 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			SessionImplementor session,
+			Object[] precomputedValues) {
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
 			return entry.getDeletedState();
@@ -173,8 +182,8 @@ private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirt
 			else {
 				final EntityPersister persister = entry.getPersister();
 				checkId( entity, persister, entry, session );
-				// grab its current state
-				final Object[] values = persister.getValues( entity );
+				// grab its current state, unless we already have it
+				final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 				checkNaturalId( persister, entity, entry, values, loadedState, session );
 				return values;
 			}
@@ -480,7 +489,15 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( values != null && values == event.getPrecomputedPropertyValues() ) {
+					// already done in the parallel phase of the flush; use it only
+					// once, since an Interceptor might now change the values
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+					event.setPrecomputedDirtyCheck( null, null );
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -31,6 +31,8 @@ public void onFlush(FlushEvent event) throws HibernateException {
 		final EventMonitor eventMonitor = source.getEventMonitor();
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
+			final StatisticsImplementor statistics = source.getFactory().getStatistics();
+			final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 			final DiagnosticEvent flushEvent = eventMonitor.beginFlushEvent();
 			try {
 				source.getEventListenerManager().flushStart();
@@ -49,9 +51,9 @@ public void onFlush(FlushEvent event) throws HibernateException {
 
 			postPostFlush( source );
 
-			final StatisticsImplementor statistics = source.getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.flush();
+				statistics.flushExecuted( System.nanoTime() - startTime );
 			}
 		}
 		else if ( source.getActionQueue().hasAnyQueuedActions() ) {
@@ -6,6 +6,8 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.CacheMissCoalescer;
+import org.hibernate.engine.internal.NPlusOneDetector;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -26,6 +28,9 @@
 public class DefaultInitializeCollectionEventListener implements InitializeCollectionEventListener {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( DefaultInitializeCollectionEventListener.class );
 
+	private final CacheMissCoalescer cacheMissCoalescer = new CacheMissCoalescer();
+	private final NPlusOneDetector nPlusOneDetector = new NPlusOneDetector();
+
 	/**
 	 * called by a collection that wants to initialize itself
 	 */
@@ -53,18 +58,68 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				LOG.trace( "Collection not cached" );
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
-				LOG.trace( "Collection initialized" );
-
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				if ( isCacheMissCoalescingEnabled( loadedPersister, source ) ) {
+					coalesceInitializeFromDatabase( loadedKey, loadedPersister, collection, source );
+				}
+				else {
+					initializeFromDatabase( loadedKey, loadedPersister, collection, source );
 				}
 			}
 		}
 	}
 
+	private void initializeFromDatabase(
+			Object loadedKey,
+			CollectionPersister loadedPersister,
+			PersistentCollection<?> collection,
+			SessionImplementor source) {
+		loadedPersister.initialize( loadedKey, source );
+		handlePotentiallyEmptyCollection( collection, source.getPersistenceContextInternal(), loadedKey, loadedPersister );
+		LOG.trace( "Collection initialized" );
+
+		final StatisticsImplementor statistics = source.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.fetchCollection( loadedPersister.getRole() );
+		}
+		nPlusOneDetector.collectionFetched( loadedPersister, source );
+	}
+
+	private static boolean isCacheMissCoalescingEnabled(CollectionPersister persister, SessionImplementor source) {
+		return source.getFactory().getSessionFactoryOptions().isCacheMissCoalescingEnabled()
+			&& persister.hasCache()
+			&& source.getCacheMode().isGetEnabled()
+			&& source.getCacheMode().isPutEnabled()
+			&& !( source.getLoadQueryInfluencers().hasEnabledFilters()
+					&& persister.isAffectedByEnabledFilters( source ) );
+	}
+
+	/**
+	 * Initialize the collection from the database, unless another session is
+	 * already loading it, in which case wait for that load, and initialize the
+	 * collection from the data it puts in the second-level cache.
+	 */
+	private void coalesceInitializeFromDatabase(
+			Object loadedKey,
+			CollectionPersister loadedPersister,
+			PersistentCollection<?> collection,
+			SessionImplementor source) {
+		final Object cacheKey = loadedPersister.getCacheAccessStrategy().generateCacheKey(
+				loadedKey,
+				loadedPersister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+		cacheMissCoalescer.load(
+				loadedPersister.getRole(),
+				cacheKey,
+				() -> initializeFromCache( loadedKey, loadedPersister, collection, source ) ? Boolean.TRUE : null,
+				() -> {
+					initializeFromDatabase( loadedKey, loadedPersister, collection, source );
+					return Boolean.FALSE;
+				}
+		);
+	}
+
 	public static void handlePotentiallyEmptyCollection(
 			PersistentCollection<?> collection,
 			PersistenceContext persistenceContext,
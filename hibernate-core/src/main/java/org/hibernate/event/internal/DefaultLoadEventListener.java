@@ -13,6 +13,8 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.CacheMissCoalescer;
+import org.hibernate.engine.internal.NPlusOneDetector;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -53,6 +55,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( DefaultLoadEventListener.class );
 
+	private final CacheMissCoalescer cacheMissCoalescer = new CacheMissCoalescer();
+	private final NPlusOneDetector nPlusOneDetector = new NPlusOneDetector();
+
 	/**
 	 * Handle the given load event.
 	 *
@@ -567,7 +572,9 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 		final Object entity = event.getSession()
 				.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
 		if ( entity == null ) {
-			return loadFromDatasource( event, persister );
+			return isCacheMissCoalescingEnabled( event, persister )
+					? coalesceLoadFromDatasource( event, persister, keyToLoad )
+					: loadFromDatasource( event, persister );
 		}
 		else {
 			if ( LOG.isTraceEnabled() ) {
@@ -578,6 +585,39 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 		}
 	}
 
+	private static boolean isCacheMissCoalescingEnabled(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		return session.getFactory().getSessionFactoryOptions().isCacheMissCoalescingEnabled()
+			&& persister.canReadFromCache()
+			&& persister.canWriteToCache()
+			&& session.getCacheMode().isGetEnabled()
+			&& session.getCacheMode().isPutEnabled()
+			&& event.getLockMode().lessThan( LockMode.READ );
+	}
+
+	/**
+	 * Load the entity from the datasource, unless another session is already
+	 * loading it, in which case wait for that load, and read the entity it
+	 * puts in the second-level cache.
+	 */
+	private Object coalesceLoadFromDatasource(LoadEvent event, EntityPersister persister, EntityKey keyToLoad) {
+		final EventSource session = event.getSession();
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return cacheMissCoalescer.load(
+				persister.getRootEntityName(),
+				cacheKey,
+				() -> session.loadFromSecondLevelCache(
+						persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() ),
+				() -> loadFromDatasource( event, persister )
+		);
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
@@ -593,6 +633,8 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 						+ infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -610,9 +652,14 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 		final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityLoadExecuted( System.nanoTime() - startTime );
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
+		}
+		if ( event.isAssociationFetch() ) {
+			nPlusOneDetector.entityFetched( persister, event.getSession() );
 		}
 
 		return impl;
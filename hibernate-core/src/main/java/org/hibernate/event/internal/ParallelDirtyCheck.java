@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+import static org.hibernate.jpa.event.spi.CallbackType.PRE_UPDATE;
+
+/**
+ * The read-only part of the dirty check of a flush, that is, reading the current
+ * state of each entity and comparing it with its loaded state, performed for all
+ * entities at once on the {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+ * common pool}. The results are handed to the {@link FlushEntityEvent}s which are
+ * then fired on the calling thread, in the usual order.
+ * <p>
+ * Entities for which the check might have side effects on the session, or which
+ * could not be checked for any reason, are left to the sequential flush.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+
+	private final Object[][] values;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(int count) {
+		values = new Object[count][];
+		dirtyProperties = new int[count][];
+	}
+
+	/**
+	 * @return the results, or {@code null} if the flush is too small, or the parallel check is not safe
+	 */
+	static ParallelDirtyCheck perform(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int threshold = factory.getSessionFactoryOptions().getParallelDirtyCheckThreshold();
+		final int count = entityEntries.length;
+		if ( threshold <= 0 || count < threshold || !isOnlyDefaultBehavior( session ) ) {
+			return null;
+		}
+		else {
+			// the custom dirtiness strategy and the persistence
+			// context are not thread safe, so decide which entities
+			// take part on the calling thread
+			final CallbackRegistry callbackRegistry = factory.getEventEngine().getCallbackRegistry();
+			final Map<EntityPersister, Boolean> safePersisters = new IdentityHashMap<>();
+			final boolean[] eligible = new boolean[count];
+			for ( int i = 0; i < count; i++ ) {
+				final EntityPersister persister = entityEntries[i].getValue().getPersister();
+				if ( !safePersisters.containsKey( persister ) ) {
+					if ( callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), PRE_UPDATE ) ) {
+						// a callback might change the state of
+						// entities which we have already read
+						return null;
+					}
+					safePersisters.put( persister, isSafe( persister.getPropertyTypes() ) );
+				}
+				eligible[i] = safePersisters.get( persister )
+						&& isEligible( entityEntries[i].getKey(), entityEntries[i].getValue() );
+			}
+			final ParallelDirtyCheck check = new ParallelDirtyCheck( count );
+			IntStream.range( 0, count ).parallel().forEach( i -> {
+				if ( eligible[i] ) {
+					check.compute( i, entityEntries[i].getKey(), entityEntries[i].getValue(), session );
+				}
+			} );
+			return check;
+		}
+	}
+
+	/**
+	 * An {@link org.hibernate.Interceptor} or a custom {@link FlushEntityEventListener}
+	 * might change the state of entities which we have already read.
+	 */
+	private static boolean isOnlyDefaultBehavior(EventSource session) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			return false;
+		}
+		else {
+			for ( FlushEntityEventListener listener :
+					session.getFactory().getEventListenerGroups().eventListenerGroup_FLUSH_ENTITY.listeners() ) {
+				if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static boolean isEligible(Object entity, EntityEntry entry) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& !isPersistentAttributeInterceptable( entity )
+			&& !isSelfDirtinessTracker( entity )
+			&& entry.requiresDirtyCheck( entity );
+	}
+
+	/**
+	 * Comparing an association by unique key, or a discriminated association,
+	 * might initialize a proxy, so it must not happen off the calling thread.
+	 */
+	private static boolean isSafe(Type[] types) {
+		for ( Type type : types ) {
+			if ( type instanceof AnyType
+					|| type instanceof EntityType entityType && !entityType.isReferenceToPrimaryKey()
+					|| type instanceof ComponentType componentType && !isSafe( componentType.getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void compute(int index, Object entity, EntityEntry entry, EventSource session) {
+		final EntityPersister persister = entry.getPersister();
+		try {
+			final Object[] current = persister.getValues( entity );
+			dirtyProperties[index] = persister.findDirty( current, entry.getLoadedState(), entity, session );
+			values[index] = current;
+		}
+		catch (RuntimeException e) {
+			// leave it to the sequential flush, which
+			// will report the problem in the usual way
+			values[index] = null;
+		}
+	}
+
+	void applyTo(FlushEntityEvent event, int index) {
+		final Object[] current = values[index];
+		if ( current != null ) {
+			event.setPrecomputedDirtyCheck( current, dirtyProperties[index] );
+		}
+	}
+}
@@ -330,4 +330,54 @@ public DiagnosticEvent beginCollectionRemoveEvent() {
 	public void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public DiagnosticEvent beginHqlInterpretationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeHqlInterpretationEvent(DiagnosticEvent event, String queryString) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryPlanCacheMissEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryPlanCacheMissEvent(DiagnosticEvent event, String queryString) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginSqmTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginSqlRenderingEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginResultProcessingEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeResultProcessingEvent(DiagnosticEvent event, int rowCount, SharedSessionContractImplementor session) {
+
+	}
 }
@@ -201,6 +201,84 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	/**
+	 * Begin the parsing and semantic analysis of an HQL query which
+	 * was not found in the query interpretation cache.
+	 *
+	 * @since 7.1
+	 */
+	default DiagnosticEvent beginHqlInterpretationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	default void completeHqlInterpretationEvent(DiagnosticEvent event, String queryString) {
+	}
+
+	/**
+	 * Begin the creation of a select query plan which was not found in
+	 * the query plan cache.
+	 *
+	 * @since 7.1
+	 */
+	default DiagnosticEvent beginQueryPlanCacheMissEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	default void completeQueryPlanCacheMissEvent(DiagnosticEvent event, String queryString) {
+	}
+
+	/**
+	 * Begin the conversion of an SQM tree to a SQL AST.
+	 *
+	 * @since 7.1
+	 */
+	default DiagnosticEvent beginSqmTranslationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	default void completeSqmTranslationEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Begin the rendering of a SQL AST to SQL.
+	 *
+	 * @since 7.1
+	 */
+	default DiagnosticEvent beginSqlRenderingEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	default void completeSqlRenderingEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Begin the processing of the rows of a JDBC result set into a
+	 * list of query results.
+	 *
+	 * @since 7.1
+	 */
+	default DiagnosticEvent beginResultProcessingEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	default void completeResultProcessingEvent(DiagnosticEvent event, int rowCount, SharedSessionContractImplementor session) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
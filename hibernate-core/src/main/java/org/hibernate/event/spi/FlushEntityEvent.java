@@ -19,6 +19,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -73,6 +75,33 @@ public Object[] getPropertyValues() {
 	public void setPropertyValues(Object[] propertyValues) {
 		this.propertyValues = propertyValues;
 	}
+
+	/**
+	 * The current state of the entity, and the result of comparing it with the loaded
+	 * state, if these were already calculated by a parallel dirty checking phase.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * @since 7.1
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
 	public Object getEntity() {
 		return entity;
 	}
@@ -100,6 +129,8 @@ public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -87,29 +87,85 @@ public static GeneratedValues getGeneratedValues(
 			return null;
 		}
 
+		final GeneratedValuesMappingProducer mappingProducer = getMappingProducer( persister, timing );
+		final List<ModelPart> generatedProperties = getGeneratedProperties( mappingProducer );
+		final List<Object[]> results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
+		return toGeneratedValues( results.get( 0 ), generatedProperties, persister );
+	}
+
+	/**
+	 * Reads the {@link EntityPersister#getGeneratedProperties(EventType) generated values}
+	 * for each row of the specified {@link ResultSet}, as returned by a batch of mutations.
+	 *
+	 * @param resultSet The result set from which to extract the generated values
+	 * @param persister The entity type which we're reading the generated values for
+	 * @param expectedRowCount The number of rows which were mutated by the batch
+	 * @param session The session
+	 *
+	 * @return The generated values, one element per row, in the order the rows were mutated
+	 *
+	 * @throws SQLException Can be thrown while accessing the result set
+	 * @throws HibernateException Indicates a problem reading back a generated value
+	 */
+	public static List<GeneratedValues> getGeneratedValues(
+			ResultSet resultSet,
+			PreparedStatement statement,
+			EntityPersister persister,
+			EventType timing,
+			int expectedRowCount,
+			SharedSessionContractImplementor session) throws SQLException {
+		if ( resultSet == null ) {
+			throw new HibernateException(
+					"The database returned no natively generated values : " + persister.getNavigableRole().getFullPath()
+			);
+		}
+
+		final GeneratedValuesMappingProducer mappingProducer = getMappingProducer( persister, timing );
+		final List<ModelPart> generatedProperties = getGeneratedProperties( mappingProducer );
+		final List<Object[]> results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
+		if ( results.size() != expectedRowCount ) {
+			throw new HibernateException(
+					"The database returned " + results.size() + " rows of natively generated values for "
+							+ expectedRowCount + " batched rows : " + persister.getNavigableRole().getFullPath()
+			);
+		}
+
+		final List<GeneratedValues> generatedValuesList = new ArrayList<>( results.size() );
+		for ( Object[] result : results ) {
+			generatedValuesList.add( toGeneratedValues( result, generatedProperties, persister ) );
+		}
+		return generatedValuesList;
+	}
+
+	private static GeneratedValuesMappingProducer getMappingProducer(EntityPersister persister, EventType timing) {
 		final GeneratedValuesMutationDelegate delegate = persister.getMutationDelegate(
 				timing == EventType.INSERT ? MutationType.INSERT : MutationType.UPDATE
 		);
-		final GeneratedValuesMappingProducer mappingProducer =
-				(GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+		return (GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+	}
+
+	private static List<ModelPart> getGeneratedProperties(GeneratedValuesMappingProducer mappingProducer) {
 		final List<GeneratedValueBasicResultBuilder> resultBuilders = mappingProducer.getResultBuilders();
 		final List<ModelPart> generatedProperties = new ArrayList<>( resultBuilders.size() );
 		for ( GeneratedValueBasicResultBuilder resultBuilder : resultBuilders ) {
 			generatedProperties.add( resultBuilder.getModelPart() );
 		}
+		return generatedProperties;
+	}
 
-		final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
-		final Object[] results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
-
+	private static GeneratedValues toGeneratedValues(
+			Object[] results,
+			List<ModelPart> generatedProperties,
+			EntityPersister persister) {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debug( "Extracted generated values for entity "
 							+ infoString( persister ) + ": " + ArrayHelper.toString( results ) );
 		}
 
+		final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
 		for ( int i = 0; i < results.length; i++ ) {
 			generatedValues.addGeneratedValue( generatedProperties.get( i ), results[i] );
 		}
-
 		return generatedValues;
 	}
 
@@ -122,9 +178,9 @@ public static GeneratedValues getGeneratedValues(
 	 * @param mappingProducer the mapping producer to use when reading generated values
 	 * @param session the current session
 	 *
-	 * @return an object array containing the generated values, order is consistent with the generated model parts list
+	 * @return one object array per row containing the generated values, order is consistent with the generated model parts list
 	 */
-	private static Object[] readGeneratedValues(
+	private static List<Object[]> readGeneratedValues(
 			ResultSet resultSet,
 			PreparedStatement statement,
 			EntityPersister persister,
@@ -208,7 +264,7 @@ public boolean shouldReturnProxies() {
 			);
 		}
 
-		return results.get( 0 );
+		return results;
 	}
 
 	/**
@@ -13,7 +13,9 @@
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.MappingSettings.PREFETCH_LOW_WATER_MARK;
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Factory for {@link Optimizer} instances.
@@ -72,6 +74,33 @@ public static Optimizer buildOptimizer(OptimizerDescriptor type, Class<?> return
 		return optimizer;
 	}
 
+	/**
+	 * Builds an optimizer
+	 *
+	 * @param type The optimizer type, either a shorthand name or the {@link Optimizer} class name.
+	 * @param returnClass The generated value java type
+	 * @param incrementSize The increment size.
+	 * @param explicitInitialValue The user supplied initial-value (-1 indicates the user did not specify).
+	 * @param configSettings The generator parameters, which may also configure the optimizer
+	 *
+	 * @return The built optimizer
+	 *
+	 * @since 7.1
+	 */
+	public static Optimizer buildOptimizer(
+			OptimizerDescriptor type,
+			Class<?> returnClass,
+			int incrementSize,
+			long explicitInitialValue,
+			Properties configSettings) {
+		final Optimizer optimizer = buildOptimizer( type, returnClass, incrementSize, explicitInitialValue );
+		if ( optimizer instanceof PooledPrefetchOptimizer prefetchOptimizer ) {
+			prefetchOptimizer.setLowWaterMark(
+					getInt( PREFETCH_LOW_WATER_MARK, configSettings, prefetchOptimizer.getLowWaterMark() ) );
+		}
+		return optimizer;
+	}
+
 	/**
 	 * Determine the optimizer to use when there was not one explicitly specified.
 	 */
@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledOptimizer} which hands out the values of the
+ * current pool without locking, and fetches the next pool before the current
+ * pool runs out.
+ * <p>
+ * Values are taken from an {@link AtomicLong}. The thread which takes the
+ * value leaving exactly {@linkplain #setLowWaterMark(int) low-water mark}
+ * values in the pool fetches the next pool from the database, without holding
+ * any lock, while other threads keep taking values from the current pool. So,
+ * unless the current pool runs out before the next pool arrives, no thread
+ * ever waits for another thread to access the database. The next pool is not
+ * fetched on a background thread, since the {@link AccessCallback} belongs to
+ * the session of the thread which generates the value. If the next pool cannot
+ * be fetched ahead of time, the failure is logged, and the pool is fetched when
+ * the current pool runs out.
+ * <p>
+ * As with {@link PooledOptimizer}, the database value is interpreted as the
+ * high value of a pool. Since a pool is fetched before it is needed, more values
+ * are lost when the application stops. Values must fit in a {@code long}.
+ *
+ * @see org.hibernate.cfg.MappingSettings#PREFETCH_LOW_WATER_MARK
+ *
+ * @since 7.1
+ */
+public class PooledPrefetchOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledPrefetchOptimizer.class.getName()
+	);
+
+	/**
+	 * A pool of values, from {@code next} to {@code hi} inclusive.
+	 */
+	private static class Pool {
+		private final AtomicLong next;
+		private final long hi;
+
+		private Pool(long lo, long hi) {
+			this.next = new AtomicLong( lo );
+			this.hi = hi;
+		}
+	}
+
+	private static class GenerationState {
+		private volatile Pool current;
+		private final AtomicReference<Pool> prefetched = new AtomicReference<>();
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	private long initialValue = -1;
+	private int lowWaterMark;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledPrefetchOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		lowWaterMark = incrementSize / 2;
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating pooled prefetch optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	/**
+	 * The number of values left in the current pool when the next pool is fetched.
+	 */
+	public int getLowWaterMark() {
+		return lowWaterMark;
+	}
+
+	/**
+	 * Set the number of values left in the current pool when the next pool is
+	 * fetched, by default half the increment size.
+	 */
+	public void setLowWaterMark(int lowWaterMark) {
+		this.lowWaterMark = Math.max( 0, Math.min( lowWaterMark, incrementSize - 1 ) );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Pool pool = generationState.current;
+			if ( pool != null ) {
+				final long value = pool.next.getAndIncrement();
+				if ( value <= pool.hi ) {
+					if ( pool.hi - value == lowWaterMark ) {
+						prefetch( generationState, callback );
+					}
+					return getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+				}
+			}
+			nextPool( generationState, pool, callback );
+		}
+	}
+
+	/**
+	 * Fetch the next pool, without holding the lock. Since the calling thread
+	 * already took a value from the current pool, a failure is not propagated.
+	 */
+	private void prefetch(GenerationState generationState, AccessCallback callback) {
+		final IntegralDataTypeHolder hiValue;
+		try {
+			hiValue = callback.getNextValue();
+		}
+		catch (RuntimeException e) {
+			log.debug( "Unable to prefetch the next pool, it will be fetched when the current pool runs out", e );
+			return;
+		}
+		generationState.lastSourceValue = hiValue;
+		final long hi = hiValue.toLong();
+		if ( !generationState.prefetched.compareAndSet( null, new Pool( hi - incrementSize + 1, hi ) ) ) {
+			// the current pool ran out before this pool arrived, and the pool
+			// which replaced it already prefetched the pool after it
+			log.tracev( "Discarding prefetched pool with hi value {0}", hi );
+		}
+	}
+
+	/**
+	 * Replace the given pool, which ran out, with the prefetched pool,
+	 * or, if it has not arrived yet, with a newly fetched pool.
+	 */
+	private void nextPool(GenerationState generationState, Pool exhausted, AccessCallback callback) {
+		lock.lock();
+		try {
+			if ( generationState.current == exhausted ) {
+				final Pool prefetched = generationState.prefetched.getAndSet( null );
+				generationState.current = prefetched == null
+						? fetch( generationState, callback, exhausted == null )
+						: prefetched;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Pool fetch(GenerationState generationState, AccessCallback callback, boolean first) {
+		final IntegralDataTypeHolder hiValue = callback.getNextValue();
+		generationState.lastSourceValue = hiValue;
+		final long hi = hiValue.toLong();
+		if ( first ) {
+			if ( hi < 1 ) {
+				log.pooledOptimizerReportedInitialValue( hiValue );
+			}
+			// the call to obtain next-value just gave us the initialValue
+			if ( ( initialValue == -1 && hi < incrementSize ) || hi == initialValue ) {
+				return new Pool( hi, hi );
+			}
+		}
+		return new Pool( hi - incrementSize + 1, hi );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
@@ -244,7 +244,8 @@ public void configure(GeneratorCreationContext creationContext, Properties param
 				optimizationStrategy,
 				identifierType.getReturnedClass(),
 				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
+				getInt( INITIAL_PARAM, parameters, -1 ),
+				parameters
 		);
 		databaseStructure.configure( optimizer );
 
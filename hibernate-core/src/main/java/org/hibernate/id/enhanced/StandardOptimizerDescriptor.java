@@ -42,7 +42,15 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, values are generated without
+	 * locking, and the next chunk is fetched before the current chunk runs out.
+	 *
+	 * @since 7.1
+	 */
+	POOLED_PREFETCH;
 
 	@Override
 	public String getExternalName() {
@@ -59,6 +67,8 @@ public String getExternalName() {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_PREFETCH:
+				return "pooled-prefetch";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -78,6 +88,8 @@ public Class<? extends Optimizer> getOptimizerClass() {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_PREFETCH:
+				return PooledPrefetchOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -92,6 +104,7 @@ public boolean isPooled() {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_PREFETCH:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
@@ -361,7 +361,8 @@ public void configure(GeneratorCreationContext creationContext, Properties param
 				determineOptimizationStrategy( parameters, incrementSize ),
 				identifierType.getReturnedClass(),
 				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
+				getInt( INITIAL_PARAM, parameters, -1 ),
+				parameters
 		);
 
 		contributor = parameters.getProperty( CONTRIBUTOR_NAME );
@@ -18,14 +18,18 @@
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.generator.EventType;
 import org.hibernate.generator.values.GeneratedValueBasicResultBuilder;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
 import org.hibernate.sql.model.ast.builder.TableUpdateBuilderStandard;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
 import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getActualGeneratedModelPart;
@@ -144,6 +148,83 @@ public GeneratedValues performMutation(
 		}
 	}
 
+	/**
+	 * Execute the batch of {@code insert} statements added to the given statement, and
+	 * read back the generated values of every inserted row.
+	 *
+	 * @param statementDetails The statement to which the rows were added by
+	 * {@link PreparedStatement#addBatch()}
+	 * @param batchPosition The number of rows added to the batch
+	 *
+	 * @return The generated values, one element per row, in the order the rows were added
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsBatchedGetGeneratedKeys()
+	 *
+	 * @since 7.1
+	 */
+	public List<GeneratedValues> performBatchedMutation(
+			PreparedStatementDetails statementDetails,
+			int batchPosition,
+			SharedSessionContractImplementor session) {
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcSessionContext jdbcSessionContext = session.getJdbcSessionContext();
+		final StatisticsImplementor statistics = jdbcSessionContext.getStatistics();
+		final boolean stats = statistics != null && statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
+		final String sql = statementDetails.getSqlString();
+		try {
+			final PreparedStatement preparedStatement = statementDetails.getStatement();
+			final int[] rowCounts;
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+			try {
+				jdbcSessionContext.getEventHandler().jdbcExecuteBatchStart();
+				rowCounts = preparedStatement.executeBatch();
+			}
+			finally {
+				eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+				jdbcSessionContext.getEventHandler().jdbcExecuteBatchEnd();
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				statementDetails.getExpectation().verifyOutcome( rowCounts[i], preparedStatement, i, sql );
+			}
+			if ( stats ) {
+				statistics.batchExecuted( System.nanoTime() - startTime );
+			}
+
+			final ResultSet resultSet = preparedStatement.getGeneratedKeys();
+			try {
+				return getGeneratedValues( resultSet, preparedStatement, persister, getTiming(), batchPosition, session );
+			}
+			finally {
+				if ( resultSet != null ) {
+					jdbcCoordinator
+							.getLogicalConnection()
+							.getResourceRegistry()
+							.release( resultSet, preparedStatement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					() -> String.format(
+							Locale.ROOT,
+							"Unable to execute batch and extract generated keys for `%s`",
+							persister.getNavigableRole().getFullPath()
+					),
+					sql
+			);
+		}
+		finally {
+			if ( statementDetails.getStatement() != null ) {
+				statementDetails.releaseStatement( session );
+			}
+		}
+	}
+
 	@Override
 	public GeneratedValues executeAndExtractReturning(
 			String sql,
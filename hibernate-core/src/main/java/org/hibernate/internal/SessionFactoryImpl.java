@@ -300,7 +300,17 @@ public SessionFactoryImpl(
 			// we build this before creating the runtime metamodels
 			// because the SqlAstTranslators (unnecessarily, perhaps)
 			// use the SqmFunctionRegistry when rendering SQL for Loaders
-			queryEngine = new QueryEngineImpl( bootMetamodel, options, runtimeMetamodels, serviceRegistry, settings, name );
+			eventMonitor = loadEventMonitor();
+
+			queryEngine = new QueryEngineImpl(
+					bootMetamodel,
+					options,
+					runtimeMetamodels,
+					serviceRegistry,
+					eventMonitor,
+					settings,
+					name
+			);
 			final Map<String, FetchProfile> fetchProfiles = new HashMap<>();
 			sqlTranslationEngine = new SqlTranslationEngineImpl( this, typeConfiguration, fetchProfiles );
 
@@ -336,8 +346,6 @@ public SessionFactoryImpl(
 			multiTenantConnectionProvider =
 					multiTenancyEnabled ? serviceRegistry.requireService( MultiTenantConnectionProvider.class ) : null;
 
-			eventMonitor = loadEventMonitor();
-
 			eventListenerGroups = new EventListenerGroups( serviceRegistry );
 
 			// re-scope the TypeConfiguration to this SessionFactory,
@@ -1070,8 +1070,23 @@ protected static LoadType internalLoadType(boolean eager, boolean nullable) {
 	@Override
 	public Object loadFromSecondLevelCache(
 			EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode) {
-		final Object entity =
-				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
+		return postLoadFromSecondLevelCache(
+				persister,
+				entityKey,
+				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey )
+		);
+	}
+
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return postLoadFromSecondLevelCache(
+				persister,
+				entityKey,
+				CacheLoadHelper.loadFromSecondLevelCacheEntry( this, persister, entityKey, cacheEntry )
+		);
+	}
+
+	private Object postLoadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object entity) {
 		if ( entity != null ) {
 			final Object id = entityKey.getIdentifierValue();
 			final PostLoadEvent event = makePostLoadEvent( persister, id, entity );
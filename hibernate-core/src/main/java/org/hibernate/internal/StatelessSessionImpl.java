@@ -1443,6 +1443,11 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return CacheLoadHelper.loadFromSecondLevelCacheEntry( this, persister, entityKey, cacheEntry );
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		checkOpen();
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * An implementation of {@link InternalCache} delegating to a
+ * <a href="https://github.com/ben-manes/caffeine">Caffeine</a> cache.
+ * Only usable when Caffeine is available on the classpath.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class CaffeineInternalCacheImplementation<K,V> implements InternalCache<K,V> {
+
+	private final Cache<K,V> cache;
+
+	CaffeineInternalCacheImplementation(int intendedApproximateSize) {
+		cache = Caffeine.newBuilder()
+				.maximumSize( intendedApproximateSize )
+				// run maintenance on the calling thread rather than on the common pool
+				.executor( Runnable::run )
+				.recordStats()
+				.build();
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return (int) Math.min( Integer.MAX_VALUE, cache.estimatedSize() );
+	}
+
+	@Override
+	public V get(K key) {
+		return cache.getIfPresent( key );
+	}
+
+	@Override
+	public void put(K key, V value) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		return cache.get( key, mappingFunction );
+	}
+
+	@Override
+	public long getHitCount() {
+		return stats().hitCount();
+	}
+
+	@Override
+	public long getMissCount() {
+		return stats().missCount();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return stats().evictionCount();
+	}
+
+	private CacheStats stats() {
+		return cache.stats();
+	}
+}
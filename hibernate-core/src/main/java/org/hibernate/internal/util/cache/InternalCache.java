@@ -61,4 +61,28 @@
 	 * @return Either the existing value, or the return from the provided function.
 	 */
 	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * @return The number of lookups which found a cached value,
+	 * or {@code -1} if the implementation does not track it.
+	 */
+	default long getHitCount() {
+		return -1L;
+	}
+
+	/**
+	 * @return The number of lookups which did not find a cached value,
+	 * or {@code -1} if the implementation does not track it.
+	 */
+	default long getMissCount() {
+		return -1L;
+	}
+
+	/**
+	 * @return The number of values which were evicted to honor the size bound,
+	 * or {@code -1} if the implementation does not track it.
+	 */
+	default long getEvictionCount() {
+		return -1L;
+	}
 }
@@ -6,8 +6,33 @@
 
 final class InternalCacheFactoryImpl implements InternalCacheFactory {
 
+	enum Implementation {
+		/**
+		 * {@link LegacyInternalCacheImplementation}
+		 */
+		LEGACY,
+		/**
+		 * {@link TinyLfuInternalCacheImplementation}
+		 */
+		TINYLFU,
+		/**
+		 * {@link CaffeineInternalCacheImplementation}
+		 */
+		CAFFEINE
+	}
+
+	private final Implementation implementation;
+
+	InternalCacheFactoryImpl(Implementation implementation) {
+		this.implementation = implementation;
+	}
+
 	@Override
 	public <K, V> InternalCache<K, V> createInternalCache(int intendedApproximateSize) {
-		return new LegacyInternalCacheImplementation( intendedApproximateSize );
+		return switch ( implementation ) {
+			case TINYLFU -> new TinyLfuInternalCacheImplementation<>( intendedApproximateSize );
+			case CAFFEINE -> new CaffeineInternalCacheImplementation<>( intendedApproximateSize );
+			default -> new LegacyInternalCacheImplementation<>( intendedApproximateSize );
+		};
 	}
 }
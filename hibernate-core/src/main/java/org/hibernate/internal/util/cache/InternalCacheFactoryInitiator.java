@@ -5,10 +5,16 @@
 package org.hibernate.internal.util.cache;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.cache.InternalCacheFactoryImpl.Implementation;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import java.util.Locale;
 import java.util.Map;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_IMPLEMENTATION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
 public class InternalCacheFactoryInitiator implements StandardServiceInitiator<InternalCacheFactory> {
 
 	/**
@@ -16,11 +22,42 @@ public class InternalCacheFactoryInitiator implements StandardServiceInitiator<I
 	 */
 	public static final InternalCacheFactoryInitiator INSTANCE = new InternalCacheFactoryInitiator();
 
+	private static final boolean CAFFEINE_AVAILABLE = canLoad( "com.github.benmanes.caffeine.cache.Caffeine" );
+
 	private InternalCacheFactoryInitiator() {}
 
 	@Override
 	public InternalCacheFactory initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
-		return new InternalCacheFactoryImpl();
+		final String setting = getString( QUERY_PLAN_CACHE_IMPLEMENTATION, configurationValues, "legacy" );
+		return new InternalCacheFactoryImpl( resolveImplementation( setting ) );
+	}
+
+	private static Implementation resolveImplementation(String setting) {
+		return switch ( setting.trim().toLowerCase( Locale.ROOT ) ) {
+			case "legacy" -> Implementation.LEGACY;
+			case "tinylfu" -> Implementation.TINYLFU;
+			case "caffeine" -> {
+				if ( !CAFFEINE_AVAILABLE ) {
+					throw new ConfigurationException( "Setting '" + QUERY_PLAN_CACHE_IMPLEMENTATION
+							+ "' is 'caffeine' but Caffeine is not available on the classpath" );
+				}
+				yield Implementation.CAFFEINE;
+			}
+			case "auto" -> CAFFEINE_AVAILABLE ? Implementation.CAFFEINE : Implementation.TINYLFU;
+			default -> throw new ConfigurationException( "Unrecognized value '" + setting + "' for setting '"
+					+ QUERY_PLAN_CACHE_IMPLEMENTATION + "' (should be 'legacy', 'tinylfu', 'caffeine' or 'auto')" );
+		};
+	}
+
+	private static boolean canLoad(String name) {
+		try {
+			// Caffeine is an optional dependency of ORM itself, so look for it using our own classloader
+			InternalCacheFactoryInitiator.class.getClassLoader().loadClass( name );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
 	}
 
 	@Override
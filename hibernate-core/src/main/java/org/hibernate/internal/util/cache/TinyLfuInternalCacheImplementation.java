@@ -0,0 +1,438 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * An implementation of {@link InternalCache} using the W-TinyLFU eviction policy:
+ * new entries are admitted to a small LRU "window", and only make it into the
+ * segmented LRU "main" space when their estimated access frequency is higher
+ * than the one of the entry they would displace.
+ * <p>
+ * Reads never block: a hit is recorded into a lossy ring buffer, which is drained
+ * into the eviction policy by whichever thread manages to acquire the policy lock.
+ * Writes, which for the caches built on this contract are the comparatively rare
+ * cache misses, update the policy under that lock.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class TinyLfuInternalCacheImplementation<K,V> implements InternalCache<K,V> {
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+	private static final int DEAD = -1;
+
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
+	private final ConcurrentHashMap<K, Node<K,V>> data;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+
+	private final FrequencySketch sketch;
+
+	// the policy, only accessed while holding the policyLock
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final AccessOrderQueue<K,V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K,V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K,V> protectedQueue = new AccessOrderQueue<>();
+
+	private final AtomicReferenceArray<Node<K,V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+	// only written while holding the policyLock
+	private volatile long readBufferReadCount;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	TinyLfuInternalCacheImplementation(int intendedApproximateSize) {
+		maximumSize = Math.max( 2, intendedApproximateSize );
+		maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8 );
+		data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return data.size();
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K,V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		else {
+			hitCount.increment();
+			afterRead( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K,V> existing = data.get( key );
+		if ( existing != null ) {
+			existing.value = value;
+			afterRead( existing );
+		}
+		else {
+			final Node<K,V> node = new Node<>( key, value );
+			final Node<K,V> prior = data.putIfAbsent( key, node );
+			if ( prior == null ) {
+				afterWrite( node );
+			}
+			else {
+				prior.value = value;
+				afterRead( prior );
+			}
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K,V> existing = data.get( key );
+		if ( existing != null ) {
+			hitCount.increment();
+			afterRead( existing );
+			return existing.value;
+		}
+
+		missCount.increment();
+		final Node<K,V> node = data.computeIfAbsent( key, k -> {
+			final V value = mappingFunction.apply( k );
+			return value == null ? null : new Node<>( k, value );
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		if ( node.queue == Node.NEW ) {
+			afterWrite( node );
+		}
+		return node.value;
+	}
+
+	@Override
+	public void clear() {
+		policyLock.lock();
+		try {
+			data.clear();
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.set( i, null );
+			}
+			readBufferReadCount = readBufferWriteCount.get();
+			window.clear();
+			probation.clear();
+			protectedQueue.clear();
+			sketch.clear();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K,V> node) {
+		final long writeCount = readBufferWriteCount.get();
+		final long pending = writeCount - readBufferReadCount;
+		// lossy: if the buffer is full, or another reader won the slot, the access is simply not recorded
+		if ( pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet( writeCount, writeCount + 1 ) ) {
+			readBuffer.lazySet( (int) ( writeCount & READ_BUFFER_MASK ), node );
+		}
+		if ( pending >= READ_BUFFER_DRAIN_THRESHOLD && policyLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K,V> node) {
+		policyLock.lock();
+		try {
+			drainReadBuffer();
+			if ( node.queue != Node.NEW ) {
+				// already handled by a concurrent writer
+				return;
+			}
+			sketch.increment( node.key );
+			node.queue = WINDOW;
+			window.addLast( node );
+			evict();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void drainReadBuffer() {
+		final long writeCount = readBufferWriteCount.get();
+		for ( long i = readBufferReadCount; i < writeCount; i++ ) {
+			final int index = (int) ( i & READ_BUFFER_MASK );
+			final Node<K,V> node = readBuffer.getAndSet( index, null );
+			if ( node != null ) {
+				onAccess( node );
+			}
+		}
+		readBufferReadCount = writeCount;
+	}
+
+	private void onAccess(Node<K,V> node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW -> window.moveToLast( node );
+			case PROBATION -> {
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedQueue.addLast( node );
+				if ( protectedQueue.size > maximumProtectedSize ) {
+					final Node<K,V> demoted = protectedQueue.removeFirst();
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+			}
+			case PROTECTED -> protectedQueue.moveToLast( node );
+			default -> {
+				// evicted, or not yet added to the policy
+			}
+		}
+	}
+
+	private void evict() {
+		// overflow of the window is moved to the probation segment,
+		// where the candidates compete with the probation victims
+		Node<K,V> candidate = null;
+		while ( window.size > maximumWindowSize ) {
+			final Node<K,V> node = window.removeFirst();
+			node.queue = PROBATION;
+			probation.addLast( node );
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		while ( window.size + probation.size + protectedQueue.size > maximumSize ) {
+			final Node<K,V> victim = probation.first();
+			if ( victim == null ) {
+				evictEntry( protectedQueue.removeFirst() );
+			}
+			else if ( candidate == null || candidate == victim ) {
+				if ( candidate == victim ) {
+					candidate = victim.next;
+				}
+				evictEntry( probation.removeFirst() );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictEntry( probation.removeFirst() );
+			}
+			else {
+				final Node<K,V> rejected = candidate;
+				candidate = candidate.next;
+				probation.remove( rejected );
+				evictEntry( rejected );
+			}
+		}
+	}
+
+	private void evictEntry(Node<K,V> node) {
+		node.queue = DEAD;
+		data.remove( node.key, node );
+		evictionCount.increment();
+	}
+
+	private static final class Node<K,V> {
+		private static final int NEW = -2;
+
+		final K key;
+		volatile V value;
+		// guarded by the policy lock, except for the initial NEW state
+		volatile int queue = NEW;
+		Node<K,V> prev;
+		Node<K,V> next;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes ordered from the least to the most recently used.
+	 */
+	private static final class AccessOrderQueue<K,V> {
+		private Node<K,V> head;
+		private Node<K,V> tail;
+		private int size;
+
+		Node<K,V> first() {
+			return head;
+		}
+
+		void addLast(Node<K,V> node) {
+			node.prev = tail;
+			node.next = null;
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+			}
+			tail = node;
+			size++;
+		}
+
+		Node<K,V> removeFirst() {
+			final Node<K,V> node = head;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void remove(Node<K,V> node) {
+			if ( node.prev == null ) {
+				head = node.next;
+			}
+			else {
+				node.prev.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.prev;
+			}
+			else {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+			size--;
+		}
+
+		void moveToLast(Node<K,V> node) {
+			if ( node != tail ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			head = null;
+			tail = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A count-min sketch estimating the popularity of keys, using four 4-bit counters
+	 * per key. All counters are halved periodically, so that the estimates reflect the
+	 * recent history rather than the whole lifetime of the cache.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			final int tableSize = Integer.highestOneBit( Math.max( 8, Math.min( maximumSize, 1 << 24 ) ) - 1 ) << 1;
+			table = new long[tableSize];
+			tableMask = tableSize - 1;
+			sampleSize = 10 * maximumSize;
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int offset = counterOffset( hash, i );
+				frequency = Math.min( frequency, (int) ( ( table[index] >>> offset ) & 0xfL ) );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int offset = counterOffset( hash, i );
+				final long mask = 0xfL << offset;
+				if ( ( table[index] & mask ) != mask ) {
+					table[index] += 1L << offset;
+					added = true;
+				}
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		void clear() {
+			Arrays.fill( table, 0L );
+			additions = 0;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions /= 2;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int counterOffset(int hash, int i) {
+			// each long holds sixteen 4-bit counters, four for each hash function
+			return ( ( ( hash >>> ( i << 3 ) ) & 3 ) + ( i << 2 ) ) << 2;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -25,11 +25,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.loader.internal.CacheLoadHelper.getAllFromSecondLevelCache;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 
 /**
@@ -126,12 +128,13 @@ private List<T> orderedMultiLoad(
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final LockOptions lockOptions = lockOptions( loadOptions );
+		final Map<Object, Object> cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
 
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, results, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, cacheEntries, results, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
@@ -208,16 +211,18 @@ private boolean loadFromEnabledCaches(
 			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Map<Object, Object> cacheEntries,
 			List<Object> result,
 			int i) {
 		return ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
+			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, cacheEntries, result, i, session );
 	}
 
 	private boolean isLoadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
 			LockOptions lockOptions,
+			Map<Object, Object> cacheEntries,
 			List<Object> results, int i,
 			SharedSessionContractImplementor session) {
 
@@ -240,7 +245,7 @@ private boolean isLoadFromCaches(
 		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// look for it in the second-level cache
 			final Object entity =
-					loadFromSecondLevelCache( entityKey, lockOptions, session );
+					loadFromSecondLevelCache( entityKey, lockOptions, cacheEntries, session );
 			if ( entity != null ) {
 				results.add( i, entity );
 				return true;
@@ -308,13 +313,15 @@ private <R> Object[] resolveInCaches(
 
 		final boolean idCoercionEnabled = isIdCoercionEnabled();
 		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
+		final Map<Object, Object> cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		List<Object> unresolvedIds = null;
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
 			unresolvedIds =
-					loadFromCaches( loadOptions, lockOptions, resolutionConsumer, id, entityKey, unresolvedIds, i, session );
+					loadFromCaches( loadOptions, lockOptions, cacheEntries, resolutionConsumer,
+							id, entityKey, unresolvedIds, i, session );
 		}
 
 		if ( isEmpty( unresolvedIds ) ) {
@@ -345,6 +352,7 @@ private boolean isIdCoercionEnabled() {
 	private <R> List<Object> loadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			LockOptions lockOptions,
+			Map<Object, Object> cacheEntries,
 			ResolutionConsumer<R> resolutionConsumer,
 			Object id,
 			EntityKey entityKey,
@@ -370,7 +378,7 @@ private <R> List<Object> loadFromCaches(
 
 		final Object cachedEntity =
 				sessionEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled()
-						? loadFromSecondLevelCache( entityKey, lockOptions, session )
+						? loadFromSecondLevelCache( entityKey, lockOptions, cacheEntries, session )
 						: sessionEntity;
 
 		if ( cachedEntity != null ) {
@@ -386,8 +394,52 @@ private <R> List<Object> loadFromCaches(
 		return unresolvedIds;
 	}
 
-	private Object loadFromSecondLevelCache(EntityKey entityKey, LockOptions lockOptions, SharedSessionContractImplementor session) {
+	private Object loadFromSecondLevelCache(
+			EntityKey entityKey,
+			LockOptions lockOptions,
+			Map<Object, Object> cacheEntries,
+			SharedSessionContractImplementor session) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		return cacheEntries == null
+				? session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() )
+				: session.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntries.get( entityKey.getIdentifier() ) );
+	}
+
+	/**
+	 * Look up the entities with the given ids in the second-level cache with
+	 * a single bulk operation, skipping entities which are already associated
+	 * with the session, if the session is checked first.
+	 *
+	 * @return the cache entries found, keyed by id, or {@code null} if the
+	 *         entities are to be looked up in the second-level cache one by one
+	 */
+	private Map<Object, Object> getFromSecondLevelCache(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		final EntityPersister persister = getLoadable().getEntityPersister();
-		return session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() );
+		if ( ids.length < 2
+				|| !loadOptions.isSecondLevelCacheCheckingEnabled()
+				|| !persister.canReadFromCache() ) {
+			return null;
+		}
+		else {
+			final boolean idCoercionEnabled = isIdCoercionEnabled();
+			final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Object> idsToLookUp = new ArrayList<>( ids.length );
+			for ( Object value : ids ) {
+				final Object id = idCoercionEnabled ? idType.coerce( value, session ) : value;
+				if ( id != null
+						&& ( !loadOptions.isSessionCheckingEnabled()
+								|| persistenceContext.getEntity( new EntityKey( id, persister ) ) == null ) ) {
+					idsToLookUp.add( id );
+				}
+			}
+			return idsToLookUp.size() < 2
+					? null
+					: getAllFromSecondLevelCache( session, lockOptions.getLockMode(), persister, idsToLookUp );
+		}
 	}
 }
@@ -4,6 +4,10 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -33,6 +37,7 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static org.hibernate.engine.internal.CacheHelper.allFromSharedCache;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
@@ -137,6 +142,85 @@ public static Object loadFromSecondLevelCache(
 		}
 	}
 
+	/**
+	 * Attempts to obtain the cache entries for multiple entities from the
+	 * second-level cache, using a single bulk lookup.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The identifiers of the entities
+	 *
+	 * @return The cache entries found, keyed by identifier, or null if the
+	 *         second-level cache may not be used
+	 *
+	 * @see #loadFromSecondLevelCacheEntry
+	 */
+	public static Map<Object, Object> getAllFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<?> ids) {
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( useCache ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final SessionFactoryImplementor factory = source.getFactory();
+			final Map<Object, Object> idsByCacheKey = new HashMap<>( ids.size() );
+			for ( Object id : ids ) {
+				idsByCacheKey.put(
+						cache.generateCacheKey( id, persister, factory, source.getTenantIdentifier() ),
+						id
+				);
+			}
+			final Map<Object, Object> cachedEntries =
+					allFromSharedCache( source, idsByCacheKey.keySet(), persister, cache );
+			final Map<Object, Object> entriesById = new HashMap<>( cachedEntries.size() );
+			for ( Map.Entry<Object, Object> entry : cachedEntries.entrySet() ) {
+				entriesById.put( idsByCacheKey.get( entry.getKey() ), entry.getValue() );
+			}
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final NavigableRole rootEntityRole = getRootEntityRole( persister );
+				final String regionName = cache.getRegion().getName();
+				for ( Object id : ids ) {
+					if ( entriesById.containsKey( id ) ) {
+						statistics.entityCacheHit( rootEntityRole, regionName );
+					}
+					else {
+						statistics.entityCacheMiss( rootEntityRole, regionName );
+					}
+				}
+			}
+			return entriesById;
+		}
+		else {
+			// we can't use cache here
+			return null;
+		}
+	}
+
+	/**
+	 * Assembles an entity from an entry already obtained from the
+	 * second-level cache, usually by {@link #getAllFromSecondLevelCache}.
+	 *
+	 * @param source The source
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry obtained from the cache, or null
+	 *
+	 * @return The entity assembled from the entry, or null.
+	 */
+	public static Object loadFromSecondLevelCacheEntry(
+			final SharedSessionContractImplementor source,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		return cacheEntry == null ? null : processCachedEntry( null, persister, cacheEntry, source, entityKey );
+	}
+
 	private static Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
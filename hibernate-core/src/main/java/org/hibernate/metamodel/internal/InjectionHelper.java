@@ -6,6 +6,7 @@
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.NamedEntityGraphDefinition;
+import org.hibernate.boot.query.NamedHqlQueryDefinition;
 import org.hibernate.boot.query.NamedQueryDefinition;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -51,6 +52,28 @@ public static void injectTypedQueryReference(NamedQueryDefinition<?> definition,
 		}
 	}
 
+	/**
+	 * Read the serialized parse tree of the given named HQL query which
+	 * Hibernate Processor recorded in the static metamodel class.
+	 */
+	public static String serializedHqlParseTree(NamedHqlQueryDefinition<?> definition, Class<?> metamodelClass) {
+		if ( metamodelClass != null ) {
+			final String fieldName =
+					'_' + javaIdentifier( definition.getRegistrationName() ) + "_parseTree_";
+			try {
+				final Field field = metamodelClass.getDeclaredField( fieldName );
+				if ( !isPublic( metamodelClass.getModifiers() ) ) {
+					ReflectHelper.ensureAccessibility( field );
+				}
+				return field.get( null ) instanceof String parseTree ? parseTree : null;
+			}
+			catch ( NoSuchFieldException | IllegalAccessException e ) {
+				// ignore
+			}
+		}
+		return null;
+	}
+
 	public static String javaIdentifier(String name) {
 		final StringBuilder result = new StringBuilder();
 		int position = 0;
@@ -7,6 +7,8 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.hibernate.persister.entity.EntityPersister;
@@ -23,6 +25,8 @@ public final class EntityPersisterConcurrentMap {
 	private final ConcurrentHashMap<String,EntityPersisterHolder> map = new ConcurrentHashMap<>();
 	private volatile EntityPersister[] values = new EntityPersister[0];
 	private volatile String[] keys = new String[0];
+	// not the monitor lock, to avoid pinning virtual threads
+	private final Lock writeLock = new ReentrantLock();
 
 	public EntityPersister get(final String name) {
 		final EntityPersisterHolder entityPersisterHolder = map.get( name );
@@ -36,14 +40,26 @@ public EntityPersister[] values() {
 		return values;
 	}
 
-	public synchronized void put(final String name, final EntityPersister entityPersister) {
-		map.put( name, new EntityPersisterHolder( entityPersister ) );
-		recomputeValues();
+	public void put(final String name, final EntityPersister entityPersister) {
+		writeLock.lock();
+		try {
+			map.put( name, new EntityPersisterHolder( entityPersister ) );
+			recomputeValues();
+		}
+		finally {
+			writeLock.unlock();
+		}
 	}
 
-	public synchronized void putIfAbsent(final String name, final EntityPersister entityPersister) {
-		map.putIfAbsent( name, new EntityPersisterHolder( entityPersister ) );
-		recomputeValues();
+	public void putIfAbsent(final String name, final EntityPersister entityPersister) {
+		writeLock.lock();
+		try {
+			map.putIfAbsent( name, new EntityPersisterHolder( entityPersister ) );
+			recomputeValues();
+		}
+		finally {
+			writeLock.unlock();
+		}
 	}
 
 	public boolean containsKey(final String name) {
@@ -55,7 +71,7 @@ public String[] keys() {
 	}
 
 	private void recomputeValues() {
-		//Assumption: the write lock is being held (synchronize on this)
+		//Assumption: the write lock is being held
 		final int size = map.size();
 		final EntityPersister[] newValues = new EntityPersister[size];
 		final String[] newKeys = new String[size];
@@ -62,6 +62,7 @@
 import static java.util.Collections.emptySet;
 import static org.hibernate.metamodel.internal.InjectionHelper.injectEntityGraph;
 import static org.hibernate.metamodel.internal.InjectionHelper.injectTypedQueryReference;
+import static org.hibernate.metamodel.internal.InjectionHelper.serializedHqlParseTree;
 
 /**
  * @author Steve Ebersole
@@ -92,6 +93,8 @@ private ImportInfo(String importedName, Class<T> loadedClass) {
 
 	private final transient Map<String, RootGraphImplementor<?>> entityGraphMap = new ConcurrentHashMap<>();
 
+	private final Map<String, String> serializedHqlParseTrees = new HashMap<>();
+
 	private final Map<Class<?>, SqmPolymorphicRootDescriptor<?>> polymorphicEntityReferenceMap = new ConcurrentHashMap<>();
 
 	private final Map<Class<?>, String> entityProxyInterfaceMap = new HashMap<>();
@@ -397,6 +400,11 @@ public RootGraphImplementor<?> findEntityGraphByName(String name) {
 		return entityGraphMap.get( name );
 	}
 
+	@Override
+	public @Nullable String findSerializedHqlParseTree(String hql) {
+		return serializedHqlParseTrees.get( hql );
+	}
+
 	@Override
 	public <T> List<EntityGraph<? super T>> findEntityGraphsByJavaType(Class<T> entityClass) {
 		final EntityDomainType<T> entityType = entity( entityClass );
@@ -675,8 +683,14 @@ public void processJpa(
 	}
 
 	private void populateStaticMetamodel(MetadataImplementor bootMetamodel, MetadataContext context) {
-		bootMetamodel.visitNamedHqlQueryDefinitions( definition
-				-> injectTypedQueryReference( definition, namedQueryMetamodelClass( definition, context ) ) );
+		bootMetamodel.visitNamedHqlQueryDefinitions( definition -> {
+			final Class<?> metamodelClass = namedQueryMetamodelClass( definition, context );
+			injectTypedQueryReference( definition, metamodelClass );
+			final String parseTree = serializedHqlParseTree( definition, metamodelClass );
+			if ( parseTree != null ) {
+				serializedHqlParseTrees.put( definition.getHqlString(), parseTree );
+			}
+		} );
 		bootMetamodel.visitNamedNativeQueryDefinitions( definition
 				-> injectTypedQueryReference( definition, namedQueryMetamodelClass( definition, context ) ) );
 		bootMetamodel.getNamedEntityGraphs().values().stream().filter( (definition) -> definition.entityName() != null )
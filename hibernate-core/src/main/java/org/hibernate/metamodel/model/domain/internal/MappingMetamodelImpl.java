@@ -5,8 +5,11 @@
 package org.hibernate.metamodel.model.domain.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -21,13 +24,16 @@
 import org.hibernate.UnknownEntityTypeException;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.generator.Generator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
@@ -208,15 +214,15 @@ private void processBootEntities(
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
 			RuntimeModelCreationContext modelCreationContext) {
+		final Map<PersistentClass, EntityPersister> entityPersisters =
+				modelCreationContext.getSessionFactoryOptions().isParallelPersisterCreationEnabled()
+						? createEntityPersistersInParallel( entityBindings, cacheImplementor, persisterFactory, modelCreationContext )
+						: null;
 		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
 			final EntityPersister entityPersister =
-					persisterFactory.createEntityPersister(
-							model,
-							cacheImplementor.getEntityRegionAccess( rootEntityRole ),
-							cacheImplementor.getNaturalIdCacheRegionAccessStrategy( rootEntityRole ),
-							modelCreationContext
-					);
+					entityPersisters == null
+							? createEntityPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+							: entityPersisters.get( model );
 			entityPersisterMap.put( model.getEntityName(), entityPersister );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -267,14 +273,15 @@ private void processBootCollections(
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
 			RuntimeModelCreationContext modelCreationContext) {
+		final Map<Collection, CollectionPersister> collectionPersisters =
+				modelCreationContext.getSessionFactoryOptions().isParallelPersisterCreationEnabled()
+						? createCollectionPersistersInParallel( collectionBindings, cacheImplementor, persisterFactory, modelCreationContext )
+						: null;
 		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
 			final CollectionPersister persister =
-					persisterFactory.createCollectionPersister(
-							model,
-							cacheImplementor.getCollectionRegionAccess( navigableRole ),
-							modelCreationContext
-					);
+					collectionPersisters == null
+							? createCollectionPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+							: collectionPersisters.get( model );
 			collectionPersisterMap.put( model.getRole(), persister );
 			if ( persister.getIndexType() instanceof org.hibernate.type.EntityType entityType ) {
 				registerEntityParticipant( entityType, persister );
@@ -285,6 +292,135 @@ private void processBootCollections(
 		}
 	}
 
+	private static EntityPersister createEntityPersister(
+			PersistentClass model,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+		return persisterFactory.createEntityPersister(
+				model,
+				cacheImplementor.getEntityRegionAccess( rootEntityRole ),
+				cacheImplementor.getNaturalIdCacheRegionAccessStrategy( rootEntityRole ),
+				modelCreationContext
+		);
+	}
+
+	private static CollectionPersister createCollectionPersister(
+			Collection model,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+		return persisterFactory.createCollectionPersister(
+				model,
+				cacheImplementor.getCollectionRegionAccess( navigableRole ),
+				modelCreationContext
+		);
+	}
+
+	/**
+	 * Instantiate the entity persisters on the common pool, with one task per
+	 * inheritance hierarchy, since the entities of a hierarchy share parts of
+	 * the boot model.
+	 * <p>
+	 * The identifier generators are created up front, on the calling thread,
+	 * since their configuration may read from shared state, and since the
+	 * {@linkplain RuntimeModelCreationContext#getGenerators map of generators}
+	 * is not safe for concurrent modification. The persisters then find their
+	 * generator in the map.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_PERSISTER_CREATION
+	 */
+	private static Map<PersistentClass, EntityPersister> createEntityPersistersInParallel(
+			java.util.Collection<PersistentClass> entityBindings,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final Map<RootClass, List<PersistentClass>> hierarchies = new LinkedHashMap<>();
+		for ( PersistentClass model : entityBindings ) {
+			hierarchies.computeIfAbsent( model.getRootClass(), rootClass -> new ArrayList<>() ).add( model );
+		}
+		createIdentifierGenerators( hierarchies.keySet(), modelCreationContext );
+		final Map<PersistentClass, EntityPersister> entityPersisters = new ConcurrentHashMap<>();
+		// copy to a list, which splits evenly between the workers
+		new ArrayList<>( hierarchies.values() ).parallelStream().forEach( withContextClassLoader( hierarchy -> {
+			for ( PersistentClass model : hierarchy ) {
+				entityPersisters.put( model,
+						createEntityPersister( model, cacheImplementor, persisterFactory, modelCreationContext ) );
+			}
+		} ) );
+		return entityPersisters;
+	}
+
+	private static void createIdentifierGenerators(
+			java.util.Collection<RootClass> rootClasses,
+			RuntimeModelCreationContext modelCreationContext) {
+		final Map<String, Generator> generators = modelCreationContext.getGenerators();
+		for ( RootClass rootClass : rootClasses ) {
+			final String rootName = rootClass.getEntityName();
+			if ( !generators.containsKey( rootName ) ) {
+				generators.put( rootName,
+						rootClass.getIdentifier().createGenerator(
+								modelCreationContext.getDialect(),
+								rootClass,
+								rootClass.getIdentifierProperty(),
+								modelCreationContext.getGeneratorSettings()
+						) );
+			}
+		}
+	}
+
+	/**
+	 * Instantiate the collection persisters on the common pool, after all the
+	 * entity persisters have been instantiated.
+	 * <p>
+	 * The persisters of id bags, which create an identifier generator, are
+	 * instantiated on the calling thread.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_PERSISTER_CREATION
+	 */
+	private static Map<Collection, CollectionPersister> createCollectionPersistersInParallel(
+			java.util.Collection<Collection> collectionBindings,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final Map<Collection, CollectionPersister> collectionPersisters = new ConcurrentHashMap<>();
+		final List<Collection> parallelBindings = new ArrayList<>( collectionBindings.size() );
+		for ( Collection model : collectionBindings ) {
+			if ( model instanceof IdentifierCollection ) {
+				collectionPersisters.put( model,
+						createCollectionPersister( model, cacheImplementor, persisterFactory, modelCreationContext ) );
+			}
+			else {
+				parallelBindings.add( model );
+			}
+		}
+		parallelBindings.parallelStream().forEach( withContextClassLoader( model ->
+				collectionPersisters.put( model,
+						createCollectionPersister( model, cacheImplementor, persisterFactory, modelCreationContext ) ) ) );
+		return collectionPersisters;
+	}
+
+	/**
+	 * Run the given task with the context class loader of the calling thread,
+	 * which the worker threads of the common pool do not inherit.
+	 */
+	private static <T> Consumer<T> withContextClassLoader(Consumer<T> task) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return element -> {
+			final Thread thread = Thread.currentThread();
+			final ClassLoader original = thread.getContextClassLoader();
+			thread.setContextClassLoader( contextClassLoader );
+			try {
+				task.accept( element );
+			}
+			finally {
+				thread.setContextClassLoader( original );
+			}
+		};
+	}
+
 	private void registerEntityParticipant(org.hibernate.type.EntityType entityType, CollectionPersister persister) {
 		final String entityName = entityType.getAssociatedEntityName();
 		collectionRolesByEntityParticipant.computeIfAbsent( entityName, k -> new HashSet<>() )
@@ -5,6 +5,7 @@
 package org.hibernate.metamodel.model.domain.spi;
 
 import jakarta.persistence.EntityGraph;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
@@ -25,4 +26,16 @@ public interface JpaMetamodelImplementor extends JpaMetamodel {
 
 	<T> List<EntityGraph<? super T>> findEntityGraphsByJavaType(Class<T> entityClass);
 	<T> Map<String, EntityGraph<? extends T>> getNamedEntityGraphs(Class<T> entityClass);
+
+	/**
+	 * The serialized parse tree of the given HQL query, as recorded in the
+	 * static metamodel by Hibernate Processor, if any.
+	 *
+	 * @see org.hibernate.query.hql.internal.HqlParseTreeSerializer
+	 *
+	 * @since 7.1
+	 */
+	default @Nullable String findSerializedHqlParseTree(String hql) {
+		return null;
+	}
 }
@@ -138,6 +138,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
@@ -217,6 +219,8 @@
 	private final boolean isMutable;
 	private final boolean isVersioned;
 	protected final int batchSize;
+	private volatile int enabledBatchSize = -1;
+	private final Lock batchLoadingLock = new ReentrantLock();
 	private final boolean hasOrphanDelete;
 	private final boolean subselectLoadable;
 
@@ -247,7 +251,7 @@
 
 	private final Comparator<?> comparator;
 
-	private CollectionLoader collectionLoader;
+	private volatile CollectionLoader collectionLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -1512,7 +1516,23 @@ protected Dialect getDialect() {
 
 	@Override
 	public int getBatchSize() {
-		return batchSize;
+		return enabledBatchSize > 1 ? enabledBatchSize : batchSize;
+	}
+
+	@Override
+	public void enableBatchLoading(int batchSize) {
+		// a Lock rather than synchronized, since building
+		// the loader must not pin a virtual thread
+		batchLoadingLock.lock();
+		try {
+			if ( batchSize > 1 && !isBatchLoadable() && !hasNamedQueryLoader() ) {
+				enabledBatchSize = batchSize;
+				collectionLoader = createCollectionLoader( new LoadQueryInfluencers( factory ) );
+			}
+		}
+		finally {
+			batchLoadingLock.unlock();
+		}
 	}
 
 	@Override
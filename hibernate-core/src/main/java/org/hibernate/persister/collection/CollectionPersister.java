@@ -318,6 +318,16 @@ default int getBatchSize() {
 	default boolean isBatchLoadable() {
 		return getBatchSize() > 1;
 	}
+	/**
+	 * Enable batch loading with the given batch size, if batch loading
+	 * is not already enabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.1
+	 */
+	default void enableBatchLoading(int batchSize) {
+	}
 	default boolean isSubselectLoadable() {
 		return false;
 	}
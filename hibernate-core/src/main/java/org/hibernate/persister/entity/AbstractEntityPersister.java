@@ -35,6 +35,7 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -269,6 +270,8 @@
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -331,7 +334,7 @@
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
 
-	private SingleIdEntityLoader<?> singleIdLoader;
+	private volatile SingleIdEntityLoader<?> singleIdLoader;
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -344,6 +347,8 @@
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private volatile int enabledBatchSize = -1;
+	private final Lock batchLoadingLock = new ReentrantLock();
 	private final boolean hasSubselectLoadableCollections;
 	private final boolean hasPartitionedSelectionMapping;
 	private final boolean hasCollectionNotReferencingPK;
@@ -1120,9 +1125,15 @@ else if ( canUseReferenceCacheEntries() ) {
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this, new StructuredCacheEntry( this ) );
+			}
+			else if ( options.isCompactCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this, new CompactCacheEntry( this ) );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1761,7 +1772,23 @@ public Serializable[] getQuerySpaces() {
 
 	@Override
 	public int getBatchSize() {
-		return batchSize;
+		return enabledBatchSize > 1 ? enabledBatchSize : batchSize;
+	}
+
+	@Override
+	public void enableBatchLoading(int batchSize) {
+		// a Lock rather than synchronized, since building
+		// the loader must not pin a virtual thread
+		batchLoadingLock.lock();
+		try {
+			if ( batchSize > 1 && !isBatchLoadable() && !hasNamedQueryLoader() ) {
+				enabledBatchSize = batchSize;
+				singleIdLoader = buildSingleIdEntityLoader();
+			}
+		}
+		finally {
+			batchLoadingLock.unlock();
+		}
 	}
 
 	@Override
@@ -4632,11 +4659,11 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
-		private final StructuredCacheEntry structure;
+		private final CacheEntryStructure structure;
 
-		private StructuredCacheEntryHelper(EntityPersister persister) {
+		private StructuredCacheEntryHelper(EntityPersister persister, CacheEntryStructure structure) {
 			this.persister = persister;
-			this.structure = new StructuredCacheEntry( persister );
+			this.structure = structure;
 		}
 
 		@Override
@@ -75,6 +75,20 @@ protected BatchKeyAccess resolveBatchKeyAccess(boolean dynamicUpdate, SharedSess
 		return NoBatchKeyAccess.INSTANCE;
 	}
 
+	/**
+	 * Batching is possible for a dynamic mutation whose group was cached,
+	 * since all mutations with the same shape share the same SQL.
+	 */
+	protected BatchKeyAccess resolveDynamicBatchKeyAccess(BatchKey shapeBatchKey, SharedSessionContractImplementor session) {
+		if ( shapeBatchKey != null
+				&& getBatchKey() != null
+				&& resolveBatchKeyAccess( false, session ) != NoBatchKeyAccess.INSTANCE ) {
+			return () -> shapeBatchKey;
+		}
+
+		return NoBatchKeyAccess.INSTANCE;
+	}
+
 	protected abstract BatchKey getBatchKey();
 
 	protected MutationOperationGroup createOperationGroup(ValuesAnalysis valuesAnalysis, MutationGroup mutationGroup) {
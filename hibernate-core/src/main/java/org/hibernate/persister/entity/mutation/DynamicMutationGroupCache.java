@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.sql.model.MutationOperationGroup;
+
+/**
+ * Caches the {@link MutationOperationGroup} built for a dynamic insert or
+ * update of an entity, keyed by the "shape" of the mutation, that is, by
+ * everything which influences the generated SQL: which attributes are
+ * included, which tables are affected, and so on.
+ * <p>
+ * Every cached group is assigned its own {@link BatchKey}, so that repeated
+ * mutations with the same shape may be batched, just like static mutations.
+ * <p>
+ * The number of cached shapes is bounded, since the number of possible
+ * shapes grows exponentially with the number of attributes. Once the bound
+ * is reached, groups for new shapes are built but not cached or batched.
+ */
+class DynamicMutationGroupCache {
+	/**
+	 * The maximum number of shapes cached per entity and mutation type
+	 */
+	static final int MAX_SHAPES = 128;
+
+	private final String batchKeyPrefix;
+	private final Map<Shape, CachedGroup> groups = new ConcurrentHashMap<>();
+
+	DynamicMutationGroupCache(String entityName, String mutationType) {
+		this.batchKeyPrefix = entityName + "#" + mutationType + "#";
+	}
+
+	/**
+	 * Obtain the group for the given shape, building it if necessary.
+	 *
+	 * @return the group, along with its batch key, which is {@code null}
+	 * if the group could not be cached
+	 */
+	CachedGroup resolve(Shape shape, Supplier<MutationOperationGroup> generator) {
+		final CachedGroup existing = groups.get( shape );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final MutationOperationGroup group = generator.get();
+		if ( groups.size() >= MAX_SHAPES ) {
+			return new CachedGroup( group, null );
+		}
+		return groups.computeIfAbsent(
+				shape,
+				key -> new CachedGroup( group, new BasicBatchKey( batchKeyPrefix + key ) )
+		);
+	}
+
+	record CachedGroup(MutationOperationGroup group, BatchKey batchKey) {
+	}
+
+	/**
+	 * An immutable bitset describing the shape of a dynamic mutation.
+	 */
+	static final class Shape {
+		private final long[] bits;
+		private final int hashCode;
+
+		private Shape(long[] bits) {
+			this.bits = bits;
+			this.hashCode = Arrays.hashCode( bits );
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Shape shape
+				&& hashCode == shape.hashCode
+				&& Arrays.equals( bits, shape.bits );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder string = new StringBuilder();
+			for ( long word : bits ) {
+				string.append( Long.toHexString( word ) ).append( '.' );
+			}
+			return string.toString();
+		}
+	}
+
+	static final class ShapeBuilder {
+		private long[] bits;
+		private int position;
+
+		ShapeBuilder(int expectedSize) {
+			bits = new long[Math.max( 1, ( expectedSize + 63 ) >>> 6 )];
+		}
+
+		ShapeBuilder add(boolean bit) {
+			final int word = position >>> 6;
+			if ( word == bits.length ) {
+				bits = Arrays.copyOf( bits, bits.length * 2 );
+			}
+			if ( bit ) {
+				bits[word] |= 1L << ( position & 63 );
+			}
+			position++;
+			return this;
+		}
+
+		Shape build() {
+			// include the length, so that trailing zeros are significant
+			final long[] shape = Arrays.copyOf( bits, ( ( position + 63 ) >>> 6 ) + 1 );
+			shape[shape.length - 1] = position;
+			return new Shape( shape );
+		}
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -34,4 +37,40 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * May instances with a generated identifier be persisted as a JDBC batch, using
+	 * {@link #insertBatch(List, List, SharedSessionContractImplementor)}?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	default boolean isGeneratedIdentifierInsertBatchable() {
+		return false;
+	}
+
+	/**
+	 * Persist several entity instances with a generated identifier using a JDBC batch.
+	 * By default, the instances are persisted one at a time, using
+	 * {@link #insert(Object, Object[], SharedSessionContractImplementor)}.
+	 *
+	 * @param entities The entity instances
+	 * @param values The extracted attribute values of each entity instance
+	 *
+	 * @return The {@linkplain GeneratedValues generated values} of each entity instance,
+	 *         in the order of the given instances
+	 *
+	 * @since 7.1
+	 */
+	default List<GeneratedValues> insertBatch(
+			List<Object> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final List<GeneratedValues> generatedValues = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			generatedValues.add( insert( entities.get( i ), values.get( i ), session ) );
+		}
+		return generatedValues;
+	}
 }
@@ -17,6 +17,7 @@
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.MutationExecutorSingleBatchedGeneratedKeys;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -24,6 +25,7 @@
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
@@ -32,6 +34,7 @@
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
@@ -55,6 +58,8 @@
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final DynamicMutationGroupCache dynamicInsertGroups;
+	private final boolean generatedIdentifierInsertBatchable;
 
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -75,6 +80,26 @@ public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactory
 		else {
 			staticInsertGroup = generateStaticOperationGroup();
 		}
+		dynamicInsertGroups = new DynamicMutationGroupCache( entityPersister.getEntityName(), "INSERT" );
+
+		generatedIdentifierInsertBatchable = staticInsertGroup != null
+				&& isGeneratedIdentifierInsertBatchable( entityPersister, staticInsertGroup, factory );
+	}
+
+	private static boolean isGeneratedIdentifierInsertBatchable(
+			EntityPersister entityPersister,
+			MutationOperationGroup staticInsertGroup,
+			SessionFactoryImplementor factory) {
+		return factory.getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+			&& factory.getJdbcServices().getDialect().supportsBatchedGetGeneratedKeys()
+			&& entityPersister.isIdentifierAssignedByInsert()
+			// the identifier must be the only value read back, and
+			// there must be no state-dependent in-memory generator
+			&& !entityPersister.hasInsertGeneratedProperties()
+			&& entityPersister.getInsertDelegate() instanceof GetGeneratedKeysDelegate
+			// all the rows must be inserted by the same statement
+			&& staticInsertGroup.getNumberOfOperations() == 1
+			&& staticInsertGroup.getSingleOperation() instanceof PreparableMutationOperation;
 	}
 
 	@Override
@@ -101,6 +126,56 @@ protected BatchKey getBatchKey() {
 		return coordinateInsert( id, values, entity, session );
 	}
 
+	@Override
+	public boolean isGeneratedIdentifierInsertBatchable() {
+		return generatedIdentifierInsertBatchable;
+	}
+
+	@Override
+	public List<GeneratedValues> insertBatch(
+			List<Object> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		assert generatedIdentifierInsertBatchable;
+		final EntityPersister persister = entityPersister();
+		final MutationExecutorSingleBatchedGeneratedKeys mutationExecutor =
+				new MutationExecutorSingleBatchedGeneratedKeys(
+						(PreparableMutationOperation) staticInsertGroup.getSingleOperation(),
+						(GetGeneratedKeysDelegate) persister.getInsertDelegate(),
+						session
+				);
+		try {
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Object entity = entities.get( i );
+				final Object[] entityValues = values.get( i );
+				// there is no state-dependent generator, so the static insert is always used
+				preInsertInMemoryValueGeneration( entityValues, entity, session );
+				final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( persister, entityValues );
+				final TableInclusionChecker tableInclusionChecker = getTableInclusionChecker( insertValuesAnalysis );
+				decomposeForInsert(
+						mutationExecutor,
+						null,
+						entityValues,
+						staticInsertGroup,
+						persister.getPropertyInsertability(),
+						tableInclusionChecker,
+						session
+				);
+				mutationExecutor.execute(
+						entity,
+						insertValuesAnalysis,
+						tableInclusionChecker,
+						InsertCoordinatorStandard::verifyOutcome,
+						session
+				);
+			}
+			return mutationExecutor.executeBatch( session );
+		}
+		finally {
+			mutationExecutor.release();
+		}
+	}
+
 	/**
 	 * Perform the insert(s).
 	 *
@@ -292,10 +367,18 @@ protected GeneratedValues doDynamicInserts(
 			SharedSessionContractImplementor session,
 			boolean forceIdentifierBinding) {
 		final boolean[] insertability = getPropertiesToInsert( values );
-		final MutationOperationGroup insertGroup =
-				generateDynamicInsertSqlGroup( insertability, object, session, forceIdentifierBinding );
+		includeGeneratedBeforeExecution( insertability, object, session );
+		final DynamicMutationGroupCache.CachedGroup cachedGroup = dynamicInsertGroups.resolve(
+				dynamicInsertShape( insertability, forceIdentifierBinding ),
+				() -> generateDynamicInsertSqlGroup( insertability, object, session, forceIdentifierBinding )
+		);
+		final MutationOperationGroup insertGroup = cachedGroup.group();
 
-		final MutationExecutor mutationExecutor = executor( session, insertGroup, true );
+		final MutationExecutor mutationExecutor = mutationExecutorService.createExecutor(
+				resolveDynamicBatchKeyAccess( cachedGroup.batchKey(), session ),
+				insertGroup,
+				session
+		);
 
 		final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( entityPersister(), values );
 
@@ -317,6 +400,35 @@ protected GeneratedValues doDynamicInserts(
 		}
 	}
 
+	/**
+	 * Include the attributes whose values are generated before execution,
+	 * exactly as {@link #generateDynamicInsertSqlGroup} would, so that the
+	 * inclusions fully describe the shape of the insert.
+	 */
+	private void includeGeneratedBeforeExecution(boolean[] insertability, Object object, SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		entityPersister().forEachMutableTable( (tableMapping) -> {
+			for ( int attributeIndex : tableMapping.getAttributeIndexes() ) {
+				if ( !insertability[attributeIndex] ) {
+					final Generator generator = attributeMappings.get( attributeIndex ).getGenerator();
+					if ( isValueGenerated( generator ) && generator.generatedBeforeExecution( object, session ) ) {
+						insertability[attributeIndex] = true;
+					}
+				}
+			}
+		} );
+	}
+
+	private static DynamicMutationGroupCache.Shape dynamicInsertShape(boolean[] insertability, boolean forceIdentifierBinding) {
+		final DynamicMutationGroupCache.ShapeBuilder shape =
+				new DynamicMutationGroupCache.ShapeBuilder( insertability.length + 1 );
+		shape.add( forceIdentifierBinding );
+		for ( boolean insertable : insertability ) {
+			shape.add( insertable );
+		}
+		return shape.build();
+	}
+
 	private static boolean verifyOutcome(PreparedStatementDetails statementDetails, int affectedRowCount, int batchPosition)
 			throws SQLException {
 		statementDetails.getExpectation().verifyOutcome(
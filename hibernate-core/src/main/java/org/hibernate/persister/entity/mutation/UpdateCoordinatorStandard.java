@@ -80,6 +80,8 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	private final MutationOperationGroup versionUpdateGroup;
 	private final BatchKey versionUpdateBatchkey;
 
+	private final DynamicMutationGroupCache dynamicUpdateGroups;
+
 	public UpdateCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -96,6 +98,7 @@ public UpdateCoordinatorStandard(EntityPersister entityPersister, SessionFactory
 			this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#UPDATE" );
 			this.versionUpdateBatchkey = new BasicBatchKey( entityPersister.getEntityName() + "#UPDATE_VERSION" );
 		}
+		this.dynamicUpdateGroups = new DynamicMutationGroupCache( entityPersister.getEntityName(), "UPDATE" );
 	}
 
 	//Used by Hibernate Reactive to efficiently create new instances of this same class
@@ -112,6 +115,7 @@ protected UpdateCoordinatorStandard(
 		this.batchKey = batchKey;
 		this.versionUpdateGroup = versionUpdateGroup;
 		this.versionUpdateBatchkey = versionUpdateBatchkey;
+		this.dynamicUpdateGroups = new DynamicMutationGroupCache( entityPersister.getEntityName(), "UPDATE" );
 	}
 
 	@Override
@@ -912,19 +916,28 @@ protected GeneratedValues doDynamicUpdate(
 			InclusionChecker dirtinessChecker,
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
-		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
-				entity,
-				id,
-				rowId,
-				oldValues,
-				valuesAnalysis,
-				session
+		// Create the JDBC operation descriptors, or reuse the ones
+		// previously created for an update of the same shape
+		final DynamicMutationGroupCache.CachedGroup cachedGroup = dynamicUpdateGroups.resolve(
+				dynamicUpdateShape( entity, rowId, oldValues, valuesAnalysis, session ),
+				() -> generateDynamicUpdateGroup(
+						entity,
+						id,
+						rowId,
+						oldValues,
+						valuesAnalysis,
+						session
+				)
 		);
+		final MutationOperationGroup dynamicUpdateGroup = cachedGroup.group();
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, true );
+		final MutationExecutor mutationExecutor = mutationExecutorService.createExecutor(
+				resolveDynamicBatchKeyAccess( cachedGroup.batchKey(), session ),
+				dynamicUpdateGroup,
+				session
+		);
 
 		decomposeForUpdate(
 				id,
@@ -961,6 +974,50 @@ protected GeneratedValues doDynamicUpdate(
 		}
 	}
 
+	/**
+	 * Describes everything which influences the SQL generated by
+	 * {@link #generateDynamicUpdateGroup}, so that it may be reused
+	 * for later updates of the same shape.
+	 */
+	private DynamicMutationGroupCache.Shape dynamicUpdateShape(
+			Object entity,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final OptimisticLockStyle optimisticLockStyle = entityPersister().optimisticLockStyle();
+		// a restriction on the old value renders 'is null' for each null column
+		final boolean lockOnOldValues = oldValues != null
+				&& ( optimisticLockStyle == OptimisticLockStyle.ALL || optimisticLockStyle == DIRTY );
+		final DynamicMutationGroupCache.ShapeBuilder shape =
+				new DynamicMutationGroupCache.ShapeBuilder( 2 + entityPersister().getTableSpan() + attributeMappings.size() * 5 );
+		shape.add( rowId != null ).add( oldValues == null );
+		entityPersister().forEachMutableTable(
+				tableMapping -> shape.add( valuesAnalysis.tablesNeedingUpdate.contains( tableMapping ) )
+		);
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeAnalysis attributeAnalysis = valuesAnalysis.attributeAnalyses.get( i );
+			shape.add( attributeAnalysis.includeInSet() )
+					.add( attributeAnalysis.includeInLocking() )
+					.add( attributeAnalysis.getDirtynessStatus().isDirty() )
+					.add( attributeAnalysis.includeInSet()
+							&& needsValueGeneration( entity, session, attributeMappings.get( i ).getGenerator() ) )
+					.add( oldValues != null && oldValues[i] == null );
+			if ( lockOnOldValues && attributeAnalysis.includeInLocking() ) {
+				attributeMappings.get( i ).decompose(
+						oldValues[i],
+						0,
+						shape,
+						null,
+						(valueIndex, builder, noop, value, jdbcValueMapping) -> builder.add( value == null ),
+						session
+				);
+			}
+		}
+		return shape.build();
+	}
+
 	private MutationExecutor executor(
 			SharedSessionContractImplementor session, MutationOperationGroup group, boolean dynamicUpdate) {
 		return mutationExecutorService
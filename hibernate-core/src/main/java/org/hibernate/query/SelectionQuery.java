@@ -199,6 +199,32 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream},
+	 * like {@link #stream()}, but detach the entities loaded by the query
+	 * from the persistence context each time the given number of results
+	 * have been consumed. The memory held by the session therefore stays
+	 * bounded, no matter how many results the query returns.
+	 * <p>
+	 * Modifications made to a result entity are lost unless the session
+	 * is flushed before the next window of results is fetched.
+	 *
+	 * @param windowSize the number of results in each window, which is
+	 *                   also used as the JDBC fetch size, if no fetch
+	 *                   size was specified
+	 *
+	 * @return The results as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply returns
+	 *           {@link #stream()}.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Stream<R> stream(int windowSize) {
+		return stream();
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
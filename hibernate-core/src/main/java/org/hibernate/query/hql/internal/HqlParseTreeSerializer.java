@@ -0,0 +1,402 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Version;
+import org.hibernate.grammars.hql.HqlParser;
+
+import static org.hibernate.query.hql.HqlLogging.QUERY_LOGGER;
+
+/**
+ * Writes an HQL parse tree to a compact string, and rebuilds the parse tree
+ * from the string without running the ANTLR lexer and parser.
+ * <p>
+ * Hibernate Processor uses this to record the parse trees of the named queries
+ * it validates in the static metamodel, so that the queries do not need to be
+ * parsed again when the {@code SessionFactory} starts.
+ * <p>
+ * The string has the form {@code version;query;rules;tokens;tree}, where:
+ * <ul>
+ * <li>{@code version} is the Hibernate version which wrote it, since the
+ *     grammar may differ between versions,
+ * <li>{@code query} identifies the query the parse tree was written for,
+ *     as its length and the Base64 encoded SHA-256 digest of its text,
+ *     since the tree is only valid for exactly that query,
+ * <li>{@code rules} is a comma-separated list of the names of the
+ *     {@link ParserRuleContext} classes occurring in the tree,
+ * <li>{@code tokens} is a comma-separated list of the tokens occurring in
+ *     the tree, each written as {@code type:start:stop}, where {@code start}
+ *     and {@code stop} locate the text of the token within the query, and
+ * <li>{@code tree} is the tree itself, written in preorder, with each rule
+ *     written as the index of its name in {@code rules} followed by its
+ *     children in parentheses, and each token written as {@code .}.
+ * </ul>
+ *
+ * @since 7.1
+ */
+public final class HqlParseTreeSerializer {
+
+	private static final String VERSION = Version.getVersionString();
+	private static final String EOF_TEXT = "<EOF>";
+
+	private static final Map<String, Function<ParserRuleContext, ParserRuleContext>> CONTEXT_FACTORIES =
+			new ConcurrentHashMap<>();
+
+	private HqlParseTreeSerializer() {
+	}
+
+	/**
+	 * Write the given parse tree of the given query to a string.
+	 *
+	 * @return the string, or {@code null} if the parse tree cannot be
+	 *         reproduced by {@link #deserialize}, for example, because it
+	 *         contains syntax errors
+	 */
+	public static @Nullable String serialize(String hql, HqlParser.StatementContext statement) {
+		final Writer writer = new Writer( hql );
+		return writer.write( statement ) ? writer.toString() : null;
+	}
+
+	/**
+	 * Rebuild the parse tree of the given query from a string written by
+	 * {@link #serialize}.
+	 *
+	 * @return the parse tree, or {@code null} if the string was written by
+	 *         a different version of Hibernate, or for a different query,
+	 *         or cannot be read
+	 */
+	public static HqlParser.@Nullable StatementContext deserialize(String hql, String serialized) {
+		if ( !serialized.startsWith( VERSION ) || serialized.indexOf( ';' ) != VERSION.length() ) {
+			return null;
+		}
+		final String query = queryIdentifier( hql );
+		final int queryStart = VERSION.length() + 1;
+		if ( !serialized.startsWith( query, queryStart )
+				|| serialized.indexOf( ';', queryStart ) != queryStart + query.length() ) {
+			QUERY_LOGGER.debugf( "Ignoring serialized parse tree written for a different query than [%s]", hql );
+			return null;
+		}
+		try {
+			return new Reader( hql, serialized, queryStart + query.length() + 1 ).read();
+		}
+		catch (RuntimeException e) {
+			QUERY_LOGGER.debugf( e, "Unable to read serialized parse tree of query [%s]", hql );
+			return null;
+		}
+	}
+
+	private static final class Writer {
+		private final String hql;
+		private final List<String> rules = new ArrayList<>();
+		private final Map<Token, Integer> tokenPositions = new IdentityHashMap<>();
+		private final StringBuilder tokens = new StringBuilder();
+		private final StringBuilder tree = new StringBuilder();
+
+		private Writer(String hql) {
+			this.hql = hql;
+		}
+
+		private boolean write(HqlParser.StatementContext statement) {
+			return writeRule( statement ) && checkBounds( statement );
+		}
+
+		private boolean writeRule(ParserRuleContext context) {
+			final Class<? extends ParserRuleContext> contextClass = context.getClass();
+			if ( contextClass.getEnclosingClass() != HqlParser.class ) {
+				return false;
+			}
+			if ( context instanceof HqlParser.CastTargetTypeContext castTargetType
+					&& !castTargetType.getText().equals( castTargetType.fullTargetName ) ) {
+				return false;
+			}
+			final String rule = contextClass.getSimpleName();
+			int index = rules.indexOf( rule );
+			if ( index < 0 ) {
+				index = rules.size();
+				rules.add( rule );
+			}
+			tree.append( index ).append( '(' );
+			for ( int i = 0; i < context.getChildCount(); i++ ) {
+				final ParseTree child = context.getChild( i );
+				if ( child instanceof ErrorNode ) {
+					return false;
+				}
+				else if ( child instanceof TerminalNode terminal ) {
+					if ( !writeToken( terminal.getSymbol() ) ) {
+						return false;
+					}
+				}
+				else if ( !( child instanceof ParserRuleContext childContext ) || !writeRule( childContext ) ) {
+					return false;
+				}
+			}
+			tree.append( ')' );
+			return true;
+		}
+
+		private boolean writeToken(Token token) {
+			final int start = token.getStartIndex();
+			final int stop = token.getStopIndex();
+			if ( token.getType() == Token.EOF
+					? !EOF_TEXT.equals( token.getText() )
+					: start < 0 || stop >= hql.length() || !hql.substring( start, stop + 1 ).equals( token.getText() ) ) {
+				return false;
+			}
+			tokenPositions.put( token, tokenPositions.size() );
+			if ( !tokens.isEmpty() ) {
+				tokens.append( ',' );
+			}
+			tokens.append( token.getType() ).append( ':' ).append( start ).append( ':' ).append( stop );
+			tree.append( '.' );
+			return true;
+		}
+
+		/**
+		 * Check that the start and stop tokens of every rule are the ones the
+		 * {@link Reader} will assign.
+		 */
+		private boolean checkBounds(ParserRuleContext context) {
+			final int[] position = { 0 };
+			return checkBounds( context, position );
+		}
+
+		private boolean checkBounds(ParserRuleContext context, int[] position) {
+			final int first = position[0];
+			for ( int i = 0; i < context.getChildCount(); i++ ) {
+				final ParseTree child = context.getChild( i );
+				if ( child instanceof TerminalNode ) {
+					position[0]++;
+				}
+				else if ( !checkBounds( (ParserRuleContext) child, position ) ) {
+					return false;
+				}
+			}
+			return position( context.start ) == first
+				&& position( context.stop ) == position[0] - 1;
+		}
+
+		private int position(Token token) {
+			if ( token == null ) {
+				return -1;
+			}
+			final Integer position = tokenPositions.get( token );
+			return position == null ? Integer.MIN_VALUE : position;
+		}
+
+		@Override
+		public String toString() {
+			return VERSION + ';' + queryIdentifier( hql ) + ';' + String.join( ",", rules ) + ';' + tokens + ';' + tree;
+		}
+	}
+
+	private static String queryIdentifier(String hql) {
+		final byte[] digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" ).digest( hql.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException( e );
+		}
+		return hql.length() + ":" + Base64.getEncoder().withoutPadding().encodeToString( digest );
+	}
+
+	private static final class Reader {
+		private final String hql;
+		private final String serialized;
+		private int position;
+
+		private Function<ParserRuleContext, ParserRuleContext>[] rules;
+		private Token[] tokens;
+		private int nextToken;
+
+		private Reader(String hql, String serialized, int position) {
+			this.hql = hql;
+			this.serialized = serialized;
+			this.position = position;
+		}
+
+		private HqlParser.StatementContext read() {
+			readRules();
+			readTokens();
+			final ParserRuleContext statement = readRule( null );
+			if ( position != serialized.length() || nextToken != tokens.length ) {
+				throw new IllegalArgumentException( "Unexpected trailing content" );
+			}
+			return (HqlParser.StatementContext) statement;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void readRules() {
+			final int end = serialized.indexOf( ';', position );
+			final String[] names = serialized.substring( position, end ).split( "," );
+			rules = new Function[names.length];
+			for ( int i = 0; i < names.length; i++ ) {
+				rules[i] = CONTEXT_FACTORIES.computeIfAbsent( names[i], HqlParseTreeSerializer::contextFactory );
+			}
+			position = end + 1;
+		}
+
+		private void readTokens() {
+			final List<Token> tokens = new ArrayList<>();
+			int line = 1;
+			int lineStart = 0;
+			int scanned = 0;
+			while ( serialized.charAt( position ) != ';' ) {
+				if ( !tokens.isEmpty() ) {
+					expect( ',' );
+				}
+				final int type = readInt();
+				expect( ':' );
+				final int start = readInt();
+				expect( ':' );
+				final int stop = readInt();
+
+				final CommonToken token;
+				if ( type == Token.EOF ) {
+					token = new CommonToken( type, EOF_TEXT );
+				}
+				else {
+					token = new CommonToken( type, hql.substring( start, stop + 1 ) );
+				}
+				for ( ; scanned < start && scanned < hql.length(); scanned++ ) {
+					if ( hql.charAt( scanned ) == '\n' ) {
+						line++;
+						lineStart = scanned + 1;
+					}
+				}
+				token.setStartIndex( start );
+				token.setStopIndex( stop );
+				token.setLine( line );
+				token.setCharPositionInLine( start - lineStart );
+				token.setTokenIndex( tokens.size() );
+				tokens.add( token );
+			}
+			this.tokens = tokens.toArray( new Token[0] );
+			position++;
+		}
+
+		private ParserRuleContext readRule(ParserRuleContext parent) {
+			final ParserRuleContext context = rules[readInt()].apply( parent );
+			if ( parent != null ) {
+				parent.addChild( context );
+			}
+			expect( '(' );
+			final int first = nextToken;
+			while ( serialized.charAt( position ) != ')' ) {
+				if ( serialized.charAt( position ) == '.' ) {
+					position++;
+					context.addChild( new TerminalNodeImpl( tokens[nextToken++] ) );
+				}
+				else {
+					readRule( context );
+				}
+			}
+			position++;
+			context.start = first < tokens.length ? tokens[first] : null;
+			context.stop = nextToken > 0 ? tokens[nextToken - 1] : null;
+			if ( context instanceof HqlParser.CastTargetTypeContext castTargetType ) {
+				castTargetType.fullTargetName = castTargetType.getText();
+				final List<HqlParser.IdentifierContext> identifiers = castTargetType.identifier();
+				castTargetType.i = identifiers.get( 0 );
+				castTargetType.c = identifiers.size() > 1 ? identifiers.get( identifiers.size() - 1 ) : null;
+			}
+			return context;
+		}
+
+		private int readInt() {
+			final int start = position;
+			if ( serialized.charAt( position ) == '-' ) {
+				position++;
+			}
+			while ( position < serialized.length() && Character.isDigit( serialized.charAt( position ) ) ) {
+				position++;
+			}
+			return Integer.parseInt( serialized, start, position, 10 );
+		}
+
+		private void expect(char expected) {
+			if ( serialized.charAt( position++ ) != expected ) {
+				throw new IllegalArgumentException( "Expected '" + expected + "' at position " + ( position - 1 ) );
+			}
+		}
+	}
+
+	/**
+	 * Obtain a function which instantiates the {@link ParserRuleContext}
+	 * class with the given name as a child of a given parent.
+	 */
+	private static Function<ParserRuleContext, ParserRuleContext> contextFactory(String name) {
+		final Class<?> contextClass;
+		try {
+			contextClass = Class.forName( HqlParser.class.getName() + '$' + name,
+					false, HqlParser.class.getClassLoader() );
+		}
+		catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException( "Unknown parse tree node: " + name, e );
+		}
+		if ( contextClass.getEnclosingClass() != HqlParser.class
+				|| !ParserRuleContext.class.isAssignableFrom( contextClass ) ) {
+			throw new IllegalArgumentException( "Unknown parse tree node: " + name );
+		}
+		final Constructor<?> constructor = ruleConstructor( contextClass );
+		if ( constructor != null ) {
+			return parent -> newInstance( constructor, parent, -1 );
+		}
+		else {
+			// a labeled alternative, which copies the context of its rule
+			for ( Constructor<?> alternativeConstructor : contextClass.getConstructors() ) {
+				final Class<?>[] parameterTypes = alternativeConstructor.getParameterTypes();
+				if ( parameterTypes.length == 1 && parameterTypes[0] == contextClass.getSuperclass() ) {
+					final Constructor<?> superConstructor = ruleConstructor( parameterTypes[0] );
+					if ( superConstructor != null ) {
+						return parent -> newInstance( alternativeConstructor,
+								newInstance( superConstructor, parent, -1 ) );
+					}
+				}
+			}
+			throw new IllegalArgumentException( "No suitable constructor for parse tree node: " + name );
+		}
+	}
+
+	private static Constructor<?> ruleConstructor(Class<?> contextClass) {
+		try {
+			return contextClass.getConstructor( ParserRuleContext.class, int.class );
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static ParserRuleContext newInstance(Constructor<?> constructor, Object... arguments) {
+		try {
+			return (ParserRuleContext) constructor.newInstance( arguments );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException( "Could not instantiate parse tree node: "
+					+ constructor.getDeclaringClass().getSimpleName(), e );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import org.hibernate.QueryException;
 import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.metamodel.model.domain.spi.JpaMetamodelImplementor;
 import org.hibernate.query.sqm.EntityTypeException;
 import org.hibernate.query.sqm.PathElementException;
 import org.hibernate.query.SyntaxException;
@@ -90,6 +91,12 @@ public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType)
 	}
 
 	private HqlParser.StatementContext parseHql(String hql) {
+		// use the parse tree recorded at compile time by Hibernate Processor, if any
+		final HqlParser.StatementContext preparsedParseTree = preparsedParseTree( hql );
+		if ( preparsedParseTree != null ) {
+			return preparsedParseTree;
+		}
+
 		// Build the lexer
 		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
 
@@ -130,6 +137,16 @@ public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int
 		}
 	}
 
+	private HqlParser.StatementContext preparsedParseTree(String hql) {
+		if ( sqmCreationContext.getJpaMetamodel() instanceof JpaMetamodelImplementor jpaMetamodel ) {
+			final String serializedParseTree = jpaMetamodel.findSerializedHqlParseTree( hql );
+			if ( serializedParseTree != null ) {
+				return HqlParseTreeSerializer.deserialize( hql, serializedParseTree );
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * ANTLR's error messages are surprisingly bad,
 	 * so try to make them a bit better.
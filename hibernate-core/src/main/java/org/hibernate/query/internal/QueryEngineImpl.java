@@ -12,6 +12,7 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.MappingMetamodel;
@@ -70,6 +71,7 @@ public QueryEngineImpl(
 			QueryEngineOptions options,
 			BindingContext context,
 			ServiceRegistryImplementor serviceRegistry,
+			EventMonitor eventMonitor,
 			Map<String,Object> properties,
 			String name) {
 		this.dialect = serviceRegistry.requireService( JdbcServices.class ).getDialect();
@@ -78,7 +80,7 @@ public QueryEngineImpl(
 		this.sqmFunctionRegistry = createFunctionRegistry( serviceRegistry, metadata, options, dialect );
 		this.sqmTranslatorFactory = resolveSqmTranslatorFactory( options, dialect );
 		this.namedObjectRepository = metadata.buildNamedQueryRepository();
-		this.interpretationCache = buildInterpretationCache( serviceRegistry, properties );
+		this.interpretationCache = buildInterpretationCache( serviceRegistry, eventMonitor, properties );
 		this.nativeQueryInterpreter = serviceRegistry.getService( NativeQueryInterpreter.class );
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		// here we have something nasty: we need to pass a reference to the current object to
@@ -172,7 +174,7 @@ private static List<FunctionContributor> sortedFunctionContributors(ServiceRegis
 	}
 
 	private static QueryInterpretationCache buildInterpretationCache(
-			ServiceRegistry serviceRegistry, Map<String, Object> properties) {
+			ServiceRegistry serviceRegistry, EventMonitor eventMonitor, Map<String, Object> properties) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -190,11 +192,11 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry, eventMonitor );
 		}
 		else {
 			// disabled
-			return new QueryInterpretationCacheDisabledImpl( serviceRegistry );
+			return new QueryInterpretationCacheDisabledImpl( serviceRegistry, eventMonitor );
 		}
 	}
 
@@ -8,6 +8,9 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -27,11 +30,17 @@
 public class QueryInterpretationCacheDisabledImpl implements QueryInterpretationCache {
 
 	private final ServiceRegistry serviceRegistry;
+	private final EventMonitor eventMonitor;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheDisabledImpl(ServiceRegistry serviceRegistry) {
+		this( serviceRegistry, new EmptyEventMonitor() );
+	}
+
+	public QueryInterpretationCacheDisabledImpl(ServiceRegistry serviceRegistry, EventMonitor eventMonitor) {
 		this.serviceRegistry = serviceRegistry;
+		this.eventMonitor = eventMonitor;
 	}
 
 	@Override
@@ -57,7 +66,13 @@ public <R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQue
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
-		return creator.get();
+		final DiagnosticEvent queryPlanCacheMissEvent = eventMonitor.beginQueryPlanCacheMissEvent();
+		try {
+			return creator.get();
+		}
+		finally {
+			eventMonitor.completeQueryPlanCacheMissEvent( queryPlanCacheMissEvent, key.getQueryIdentity() );
+		}
 	}
 
 	@Override
@@ -76,7 +91,14 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = stats ? System.nanoTime() : 0L;
 
-		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+		final DiagnosticEvent hqlInterpretationEvent = eventMonitor.beginHqlInterpretationEvent();
+		final SqmStatement<R> sqmStatement;
+		try {
+			sqmStatement = translator.translate( queryString, expectedResultType );
+		}
+		finally {
+			eventMonitor.completeHqlInterpretationEvent( hqlInterpretationEvent, queryString );
+		}
 
 		final DomainParameterXref domainParameterXref;
 		final ParameterMetadataImplementor parameterMetadata;
@@ -8,6 +8,9 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.query.QueryLogging;
@@ -41,18 +44,27 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final InternalCache<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
+	private final EventMonitor eventMonitor;
 	private final InternalCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, serviceRegistry, new EmptyEventMonitor() );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			ServiceRegistry serviceRegistry,
+			EventMonitor eventMonitor) {
 		log.tracef( "Starting query interpretation cache (size %s)", maxQueryPlanCount );
 		final InternalCacheFactory cacheFactory = serviceRegistry.requireService( InternalCacheFactory.class );
 		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
 		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
 		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
 		this.serviceRegistry = serviceRegistry;
+		this.eventMonitor = eventMonitor;
 	}
 
 	@Override
@@ -65,6 +77,21 @@ public int getNumberOfCachedQueryPlans() {
 		return queryPlanCache.heldElementsEstimate();
 	}
 
+	@Override
+	public long getQueryPlanCacheHitCount() {
+		return queryPlanCache.getHitCount();
+	}
+
+	@Override
+	public long getQueryPlanCacheMissCount() {
+		return queryPlanCache.getMissCount();
+	}
+
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCache.getEvictionCount();
+	}
+
 	private StatisticsImplementor getStatistics() {
 		if ( statistics == null ) {
 			statistics = serviceRegistry.requireService( StatisticsImplementor.class );
@@ -89,7 +116,14 @@ public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			return cached;
 		}
 
-		final SelectQueryPlan<R> plan = creator.get();
+		final DiagnosticEvent queryPlanCacheMissEvent = eventMonitor.beginQueryPlanCacheMissEvent();
+		final SelectQueryPlan<R> plan;
+		try {
+			plan = creator.get();
+		}
+		finally {
+			eventMonitor.completeQueryPlanCacheMissEvent( queryPlanCacheMissEvent, key.getQueryIdentity() );
+		}
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
@@ -138,7 +172,7 @@ else if ( expectedResultType != null ) {
 		}
 
 		final HqlInterpretation<R> hqlInterpretation =
-				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
+				createHqlInterpretation( queryString, expectedResultType, translator, statistics, eventMonitor );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
 		return hqlInterpretation;
 	}
@@ -152,11 +186,19 @@ protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
 			HqlTranslator translator,
-			StatisticsImplementor statistics) {
+			StatisticsImplementor statistics,
+			EventMonitor eventMonitor) {
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = stats ? System.nanoTime() : 0L;
 
-		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+		final DiagnosticEvent hqlInterpretationEvent = eventMonitor.beginHqlInterpretationEvent();
+		final SqmStatement<R> sqmStatement;
+		try {
+			sqmStatement = translator.translate( queryString, expectedResultType );
+		}
+		finally {
+			eventMonitor.completeHqlInterpretationEvent( hqlInterpretationEvent, queryString );
+		}
 		final ParameterMetadataImplementor parameterMetadata;
 		final DomainParameterXref domainParameterXref;
 
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+
+/**
+ * A {@link ScrollableResultsIterator} which detaches the entities loaded while
+ * iterating each time a window of results has been consumed, so that iterating
+ * a very large result set does not fill up the persistence context.
+ * <p>
+ * Entities which were already associated with the persistence context when the
+ * iteration began, and entities which do not yet exist in the database, are left
+ * alone.
+ *
+ * @see org.hibernate.query.SelectionQuery#stream(int)
+ *
+ * @since 7.1
+ */
+public class WindowedScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SharedSessionContractImplementor session;
+	private final int windowSize;
+	private final Set<Object> retainedEntities;
+	private int position;
+
+	public WindowedScrollableResultsIterator(
+			ScrollableResults<T> scrollableResults,
+			SharedSessionContractImplementor session,
+			int windowSize) {
+		super( scrollableResults );
+		this.session = session;
+		this.windowSize = windowSize;
+		this.retainedEntities = managedEntities( session.getPersistenceContextInternal() );
+	}
+
+	private static Set<Object> managedEntities(PersistenceContext persistenceContext) {
+		final Map.Entry<Object, EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		final Set<Object> entities = Collections.newSetFromMap( new IdentityHashMap<>( entityEntries.length ) );
+		for ( Map.Entry<Object, EntityEntry> entityEntry : entityEntries ) {
+			entities.add( entityEntry.getKey() );
+		}
+		return entities;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( position > 0 && position % windowSize == 0 ) {
+			// the previous window was already handed to
+			// the client, so we may forget its entities
+			detachWindow();
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		position++;
+		return super.next();
+	}
+
+	private void detachWindow() {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Map.Entry<Object, EntityEntry> entityEntry : persistenceContext.reentrantSafeEntityEntries() ) {
+			final Object entity = entityEntry.getKey();
+			final EntityEntry entry = entityEntry.getValue();
+			if ( !retainedEntities.contains( entity ) && isDetachable( entry )
+					// it might already have been detached by cascade
+					&& persistenceContext.getEntry( entity ) == entry ) {
+				session.asSessionImplementor().evict( entity );
+			}
+		}
+	}
+
+	private static boolean isDetachable(EntityEntry entry) {
+		final Status status = entry.getStatus();
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+			&& entry.isExistsInDatabase();
+	}
+}
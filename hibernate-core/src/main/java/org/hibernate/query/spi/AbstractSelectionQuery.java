@@ -40,6 +40,7 @@
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.internal.WindowedScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
@@ -271,6 +272,29 @@ public Stream<R> stream() {
 		return StreamSupport.stream( spliterator, false ).onClose( results::close );
 	}
 
+	@Override
+	public Stream<R> stream(int windowSize) {
+		if ( windowSize <= 0 ) {
+			throw new IllegalArgumentException( "Window size must be positive" );
+		}
+		final SharedSessionContractImplementor session = getSession();
+		if ( session.isStatelessSession() ) {
+			// there is no persistence context to fill up
+			return stream();
+		}
+		else {
+			if ( getQueryOptions().getFetchSize() == null ) {
+				getQueryOptions().setFetchSize( windowSize );
+			}
+			final ScrollableResults<R> results = scroll( ScrollMode.FORWARD_ONLY );
+			final Spliterator<R> spliterator = spliteratorUnknownSize(
+					new WindowedScrollableResultsIterator<>( results, session, windowSize ),
+					Spliterator.NONNULL
+			);
+			return StreamSupport.stream( spliterator, false ).onClose( results::close );
+		}
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
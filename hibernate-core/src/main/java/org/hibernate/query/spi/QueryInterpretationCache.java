@@ -31,6 +31,17 @@ default Key prepareForStore() {
 			return this;
 		}
 		String getQueryString();
+
+		/**
+		 * A string identifying the query in diagnostic events, which,
+		 * unlike {@link #getQueryString()}, is also available for
+		 * criteria queries.
+		 *
+		 * @since 7.1
+		 */
+		default String getQueryIdentity() {
+			return getQueryString();
+		}
 	}
 
 	// Used by Hibernate Reactive
@@ -41,6 +52,37 @@ static Key createInterpretationsKey(InterpretationsKeySource keySource) {
 	int getNumberOfCachedHqlInterpretations();
 	int getNumberOfCachedQueryPlans();
 
+	/**
+	 * The number of lookups in the query plan cache which found a plan,
+	 * or {@code -1} if the cache implementation does not track it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 */
+	default long getQueryPlanCacheHitCount() {
+		return -1L;
+	}
+
+	/**
+	 * The number of lookups in the query plan cache which did not find a plan,
+	 * or {@code -1} if the cache implementation does not track it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 */
+	default long getQueryPlanCacheMissCount() {
+		return -1L;
+	}
+
+	/**
+	 * The number of query plans evicted from the cache to respect
+	 * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE},
+	 * or {@code -1} if the cache implementation does not track it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return -1L;
+	}
+
 	<R> HqlInterpretation<R> resolveHqlInterpretation(String queryString, Class<R> expectedResultType, HqlTranslator translator);
 	<R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation);
 
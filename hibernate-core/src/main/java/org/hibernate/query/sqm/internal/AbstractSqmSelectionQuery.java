@@ -24,6 +24,7 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -226,20 +227,48 @@ private static <R> KeyedPage<R> previousPage(KeyedPage<R> keyedPage, List<KeyedR
 
 	public abstract Class<R> getExpectedResultType();
 
+	/**
+	 * Obtain the plan from the interpretation cache. Criteria queries are keyed
+	 * by their structure, so their plan may have been built for another query.
+	 *
+	 * @see SqmCriteriaCacheKey
+	 */
+	protected SelectQueryPlan<R> resolveSelectQueryPlan(
+			QueryInterpretationCache interpretationCache,
+			QueryInterpretationCache.Key cacheKey,
+			Object queryStringCacheKey) {
+		return queryStringCacheKey instanceof SqmCriteriaCacheKey
+				? CriteriaSelectQueryPlan.resolve(
+						interpretationCache,
+						cacheKey,
+						(SqmSelectStatement<R>) getSqmStatement(),
+						getDomainParameterXref(),
+						this::buildSelectQueryPlan
+				)
+				: interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+	}
+
 	protected SelectQueryPlan<R> buildSelectQueryPlan() {
-		final SqmSelectStatement<R> statement = (SqmSelectStatement<R>) getSqmStatement();
+		return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> statement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split( statement );
 		return concreteSqmStatements.length > 1
-				? buildAggregatedQueryPlan( concreteSqmStatements )
-				: buildConcreteQueryPlan( concreteSqmStatements[0] );
+				? buildAggregatedQueryPlan( concreteSqmStatements, domainParameterXref )
+				: buildConcreteQueryPlan( concreteSqmStatements[0], domainParameterXref );
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<R>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<R>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		@SuppressWarnings("unchecked")
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 		// todo (6.0) : we want to make sure that certain thing (ResultListTransformer, etc) only get applied at the aggregator-level
 		for ( int i = 0, length = concreteSqmStatements.length; i < length; i++ ) {
-			aggregatedQueryPlans[i] = buildConcreteQueryPlan( concreteSqmStatements[i] );
+			aggregatedQueryPlans[i] = buildConcreteQueryPlan( concreteSqmStatements[i], domainParameterXref );
 		}
 		return new AggregatedSelectQueryPlanImpl<>( aggregatedQueryPlans );
 	}
@@ -253,15 +282,42 @@ protected SelectQueryPlan<R> buildConcreteQueryPlan(SqmSelectStatement<R> concre
 		);
 	}
 
+	private SelectQueryPlan<R> buildConcreteQueryPlan(
+			SqmSelectStatement<R> concreteSqmStatement,
+			DomainParameterXref domainParameterXref) {
+		return buildConcreteQueryPlan(
+				concreteSqmStatement,
+				domainParameterXref,
+				getExpectedResultType(),
+				getTupleMetadata(),
+				getQueryOptions()
+		);
+	}
+
 	protected <T> ConcreteSqmSelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<T> concreteSqmStatement,
 			Class<T> expectedResultType,
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
+		return buildConcreteQueryPlan(
+				concreteSqmStatement,
+				getDomainParameterXref(),
+				expectedResultType,
+				tupleMetadata,
+				queryOptions
+		);
+	}
+
+	private <T> ConcreteSqmSelectQueryPlan<T> buildConcreteQueryPlan(
+			SqmSelectStatement<T> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
+			Class<T> expectedResultType,
+			TupleMetadata tupleMetadata,
+			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				expectedResultType,
 				tupleMetadata,
 				queryOptions
@@ -7,6 +7,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -17,6 +19,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.QueryTypeMismatchException;
@@ -74,12 +78,14 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final SqmInterpreter<?, ? extends ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Lock cacheableSqmInterpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -89,6 +95,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		final ListResultsConsumer.UniqueSemantic uniqueSemantic =
@@ -397,9 +404,8 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		We use a `Lock` rather than `synchronized` since the interpretation may
+		//		be built by a virtual thread, which must not be pinned to its carrier
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
@@ -407,10 +413,11 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			cacheableSqmInterpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+					localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
@@ -424,13 +431,16 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 					// We could avoid this by putting the lock options into the cache key
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+						localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 						jdbcParameterBindings = localCopy.firstParameterBindings;
 						localCopy.firstParameterBindings = null;
 						cacheableSqmInterpretation = localCopy;
 					}
 				}
 			}
+			finally {
+				cacheableSqmInterpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -441,7 +451,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+				localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
 				cacheableSqmInterpretation = localCopy;
@@ -473,23 +483,36 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			String hql,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
-
-		final SqmTranslation<SelectStatement> sqmInterpretation =
-				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
-						.createSelectTranslator(
-								sqm,
-								executionContext.getQueryOptions(),
-								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
-								executionContext.getSession().getLoadQueryInfluencers(),
-								sessionFactory.getSqlTranslationEngine(),
-								true
-						)
-						.translate();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+
+		final DiagnosticEvent sqmTranslationEvent = eventMonitor.beginSqmTranslationEvent();
+		final SqmTranslation<SelectStatement> sqmInterpretation;
+		try {
+			sqmInterpretation =
+					sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+							.createSelectTranslator(
+									sqm,
+									executionContext.getQueryOptions(),
+									domainParameterXref,
+									executionContext.getQueryParameterBindings(),
+									executionContext.getSession().getLoadQueryInfluencers(),
+									sessionFactory.getSqlTranslationEngine(),
+									true
+							)
+							.translate();
+		}
+		finally {
+			eventMonitor.completeSqmTranslationEvent(
+					sqmTranslationEvent,
+					sqmTranslationEvent == null ? null : queryIdentity( sqm, hql, domainParameterXref ),
+					session
+			);
+		}
 
 		final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
@@ -512,15 +535,39 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 
+		final DiagnosticEvent sqlRenderingEvent = eventMonitor.beginSqlRenderingEvent();
+		JdbcOperationQuerySelect jdbcSelect = null;
+		try {
+			jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		}
+		finally {
+			eventMonitor.completeSqlRenderingEvent(
+					sqlRenderingEvent,
+					sqlRenderingEvent == null ? null : queryIdentity( sqm, hql, domainParameterXref ),
+					session
+			);
+		}
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	/**
+	 * Identifies the query in diagnostic events by the same string as
+	 * {@link SqmInterpretationsKey#getQueryIdentity()}, so that events
+	 * for the various phases of the compilation of a query correlate.
+	 */
+	private static String queryIdentity(SqmSelectStatement<?> sqm, String hql, DomainParameterXref domainParameterXref) {
+		return CRITERIA_HQL_STRING.equals( hql )
+				? SqmCriteriaCacheKey.from( sqm, domainParameterXref ).toString()
+				: hql;
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
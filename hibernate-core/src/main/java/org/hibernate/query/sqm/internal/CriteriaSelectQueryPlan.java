@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+/**
+ * A {@link SelectQueryPlan} for a criteria query which is shared by all
+ * structurally identical criteria queries.
+ * <p>
+ * The underlying plan is built for a copy of the criteria query in which
+ * every criteria parameter is replaced by a new parameter, so that the cached
+ * plan refers neither to the tree of the query, which the application may go
+ * on to modify, nor to the values passed to the criteria builder. When it is
+ * executed on behalf of a criteria query, the parameter bindings of the query
+ * are exposed to the plan under the parameters of the copy, matching them by
+ * position.
+ *
+ * @see SqmCriteriaCacheKey
+ */
+class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final DomainParameterXref domainParameterXref;
+
+	private CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, DomainParameterXref domainParameterXref) {
+		this.delegate = delegate;
+		this.domainParameterXref = domainParameterXref;
+	}
+
+	/**
+	 * Obtain a plan for a criteria query with the given {@link SqmCriteriaCacheKey},
+	 * reusing the cached plan of a structurally identical query, if any.
+	 */
+	static <R> SelectQueryPlan<R> resolve(
+			QueryInterpretationCache interpretationCache,
+			QueryInterpretationCache.Key cacheKey,
+			SqmSelectStatement<R> statement,
+			DomainParameterXref domainParameterXref,
+			BiFunction<SqmSelectStatement<R>, DomainParameterXref, SelectQueryPlan<R>> creator) {
+		final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+				cacheKey,
+				() -> create( statement, creator )
+		);
+		if ( plan instanceof CriteriaSelectQueryPlan<R> criteriaPlan ) {
+			final SelectQueryPlan<R> rebound = criteriaPlan.forParameters( domainParameterXref );
+			// if the parameters do not line up, which should never happen
+			// for structurally identical queries, don't share the plan
+			return rebound == null ? creator.apply( statement, domainParameterXref ) : rebound;
+		}
+		else {
+			return plan;
+		}
+	}
+
+	private static <R> CriteriaSelectQueryPlan<R> create(
+			SqmSelectStatement<R> statement,
+			BiFunction<SqmSelectStatement<R>, DomainParameterXref, SelectQueryPlan<R>> creator) {
+		final SqmSelectStatement<R> detached = statement.copy( new ParameterReplacingCopyContext() );
+		final DomainParameterXref detachedParameterXref = DomainParameterXref.from( detached );
+		return new CriteriaSelectQueryPlan<>( creator.apply( detached, detachedParameterXref ), detachedParameterXref );
+	}
+
+	private SelectQueryPlan<R> forParameters(DomainParameterXref queryParameterXref) {
+		if ( queryParameterXref.getQueryParameterCount() != domainParameterXref.getQueryParameterCount() ) {
+			return null;
+		}
+		else {
+			final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap =
+					new IdentityHashMap<>( domainParameterXref.getQueryParameterCount() );
+			final Iterator<QueryParameterImplementor<?>> queryParameters =
+					queryParameterXref.getQueryParameters().keySet().iterator();
+			for ( QueryParameterImplementor<?> planParameter : domainParameterXref.getQueryParameters().keySet() ) {
+				final QueryParameterImplementor<?> queryParameter = queryParameters.next();
+				if ( planParameter.getParameterType() != queryParameter.getParameterType() ) {
+					return null;
+				}
+				parameterMap.put( planParameter, queryParameter );
+			}
+			return new ReboundSelectQueryPlan<>( delegate, parameterMap );
+		}
+	}
+
+	/**
+	 * Replaces every criteria parameter of the copied tree by a new parameter.
+	 * Parameters which are equal, including parameters created for equal values
+	 * passed to the criteria builder, belong to the same query parameter, and so
+	 * share a replacement.
+	 */
+	private static class ParameterReplacingCopyContext extends SimpleSqmCopyContext {
+		private final Map<JpaCriteriaParameter<?>, JpaCriteriaParameter<?>> replacements = new HashMap<>();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getCopy(T original) {
+			return original instanceof JpaCriteriaParameter<?> parameter
+					? (T) replacements.computeIfAbsent( parameter, p -> replacement( p ) )
+					: super.getCopy( original );
+		}
+
+		private static <T> JpaCriteriaParameter<T> replacement(JpaCriteriaParameter<T> parameter) {
+			return new JpaCriteriaParameter<>(
+					parameter.getName(),
+					parameter.getAnticipatedType(),
+					parameter.allowsMultiValuedBinding(),
+					parameter.nodeBuilder()
+			);
+		}
+	}
+
+	@Override
+	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+		return delegate.executeQuery( executionContext, resultsConsumer );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private record ReboundSelectQueryPlan<R>(
+			SelectQueryPlan<R> delegate,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap)
+			implements SelectQueryPlan<R> {
+
+		private DomainQueryExecutionContext rebind(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings =
+					new ReboundQueryParameterBindings( executionContext.getQueryParameterBindings(), parameterMap );
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+
+				@Override
+				public Class<?> getResultType() {
+					return executionContext.getResultType();
+				}
+			};
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( rebind( executionContext ), resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( rebind( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, rebind( executionContext ) );
+		}
+	}
+
+	/**
+	 * Exposes the bindings of a query under the parameters of the query the plan was built for.
+	 */
+	private record ReboundQueryParameterBindings(
+			QueryParameterBindings delegate,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap)
+			implements QueryParameterBindings {
+
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			@SuppressWarnings("unchecked")
+			final QueryParameterImplementor<P> mapped = (QueryParameterImplementor<P>) parameterMap.get( parameter );
+			return mapped == null ? parameter : mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<? super QueryParameter<?>, ? super QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
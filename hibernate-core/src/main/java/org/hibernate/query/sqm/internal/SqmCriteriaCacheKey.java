@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+
+/**
+ * The structural identity of a criteria query, used as the query part of an
+ * {@link SqmInterpretationsKey} so that structurally identical criteria trees
+ * share a query plan, just like identical HQL strings do.
+ * <p>
+ * The structure is captured by the HQL rendering of the tree, in which criteria
+ * parameters, including the parameters created for values passed to the
+ * criteria builder, are named according to the position of the query parameter
+ * they belong to rather than their identity. Values passed to the criteria
+ * builder which are equal belong to the same query parameter, so the rendering
+ * also captures which occurrences share a parameter. Since the rendering does not reflect the declared types of the
+ * parameters, the parameter types are also part of the key. Literals, on the
+ * other hand, are rendered by value, since they are inlined in the SQL.
+ *
+ * @see CriteriaSelectQueryPlan
+ */
+final class SqmCriteriaCacheKey {
+	private final String structure;
+	private final List<Class<?>> parameterTypes;
+	private final int hashCode;
+
+	private SqmCriteriaCacheKey(String structure, List<Class<?>> parameterTypes) {
+		this.structure = structure;
+		this.parameterTypes = parameterTypes;
+		this.hashCode = 31 * structure.hashCode() + parameterTypes.hashCode();
+	}
+
+	static SqmCriteriaCacheKey from(SqmStatement<?> statement, DomainParameterXref domainParameterXref) {
+		final int parameterCount = domainParameterXref.getQueryParameterCount();
+		final List<Class<?>> parameterTypes = new ArrayList<>( parameterCount );
+		final Map<QueryParameterImplementor<?>, Integer> parameterPositions = new HashMap<>( parameterCount );
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			parameterPositions.put( parameter, parameterTypes.size() );
+			parameterTypes.add( parameter.getParameterType() );
+		}
+		final StringBuilder structure = new StringBuilder();
+		statement.appendHqlString( structure, new StructureRenderContext( parameterPositions ) );
+		return new SqmCriteriaCacheKey( structure.toString(), parameterTypes );
+	}
+
+	/**
+	 * Renders the values passed to the criteria builder as parameters, since their
+	 * values are bound at execution, and do not affect the interpretation, and names
+	 * unnamed parameters by the position of their query parameter.
+	 */
+	private static class StructureRenderContext extends SimpleSqmRenderContext {
+		private final Map<QueryParameterImplementor<?>, Integer> parameterPositions;
+
+		private StructureRenderContext(Map<QueryParameterImplementor<?>, Integer> parameterPositions) {
+			this.parameterPositions = parameterPositions;
+		}
+
+		@Override
+		public boolean renderValueBindParametersAsParameters() {
+			return true;
+		}
+
+		@Override
+		public String resolveParameterName(JpaCriteriaParameter<?> parameter) {
+			// the xref maps equal parameters, including value bind
+			// parameters with equal values, to one query parameter
+			return "__param_" + parameterPositions.computeIfAbsent( parameter, p -> parameterPositions.size() );
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof SqmCriteriaCacheKey that
+			&& hashCode == that.hashCode
+			&& structure.equals( that.structure )
+			&& parameterTypes.equals( that.parameterTypes );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+}
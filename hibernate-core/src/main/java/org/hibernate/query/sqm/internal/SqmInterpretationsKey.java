@@ -115,6 +115,12 @@ public String getQueryString() {
 		return query instanceof String ? (String) query : null;
 	}
 
+	@Override
+	public String getQueryIdentity() {
+		// the structure of a criteria query
+		return query.toString();
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if ( this == other ) {
@@ -264,6 +264,10 @@ public String getQueryString() {
 
 	@Override
 	public Object getQueryStringCacheKey() {
+		if ( queryStringCacheKey instanceof SqmStatement<?> statement ) {
+			// criteria queries are keyed by their structure
+			queryStringCacheKey = SqmCriteriaCacheKey.from( statement, domainParameterXref );
+		}
 		return queryStringCacheKey;
 	}
 
@@ -477,7 +481,7 @@ private SelectQueryPlan<R> resolveSelectQueryPlan() {
 		if ( queryCache.isEnabled() ) {
 			final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 			return cacheKey != null
-					? queryCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan )
+					? resolveSelectQueryPlan( queryCache, cacheKey, getQueryStringCacheKey() )
 					: buildSelectQueryPlan();
 		}
 		else {
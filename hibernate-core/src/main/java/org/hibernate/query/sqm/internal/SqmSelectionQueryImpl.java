@@ -59,6 +59,7 @@
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
 import org.hibernate.query.sqm.spi.SqmSelectionQueryImplementor;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmQueryPart;
@@ -234,13 +235,10 @@ <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> ke
 								.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) ),
 				original.getSqmStatement().nodeBuilder()
 		);
+		queryStringCacheKey = sqm;
 		if ( getSession().isCriteriaPlanCacheEnabled() ) {
-			queryStringCacheKey = sqm.toHqlString();
 			setQueryPlanCacheable( true );
 		}
-		else {
-			queryStringCacheKey = sqm;
-		}
 		hql = CRITERIA_HQL_STRING;
 
 		domainParameterXref = DomainParameterXref.from( sqm );
@@ -374,6 +372,10 @@ public String getQueryString() {
 
 	@Override
 	public Object getQueryStringCacheKey() {
+		if ( queryStringCacheKey instanceof SqmStatement<?> statement ) {
+			// criteria queries are keyed by their structure
+			queryStringCacheKey = SqmCriteriaCacheKey.from( statement, domainParameterXref );
+		}
 		return queryStringCacheKey;
 	}
 
@@ -489,8 +491,11 @@ public Class<R> getExpectedResultType() {
 	private SelectQueryPlan<R> resolveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSessionFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return resolveSelectQueryPlan(
+					getSessionFactory().getQueryEngine().getInterpretationCache(),
+					cacheKey,
+					getQueryStringCacheKey()
+			);
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -138,6 +138,11 @@ public Stream<R> stream() {
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Stream<R> stream(int windowSize) {
+		return getDelegate().stream( windowSize );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
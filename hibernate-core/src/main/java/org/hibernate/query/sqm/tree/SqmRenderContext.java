@@ -26,6 +26,16 @@ public interface SqmRenderContext {
 
 	String resolveParameterName(JpaCriteriaParameter<?> parameter);
 
+	/**
+	 * Should a parameter created for a value passed to the criteria builder be
+	 * rendered as a named parameter, rather than as a literal of its value?
+	 *
+	 * @since 7.1
+	 */
+	default boolean renderValueBindParametersAsParameters() {
+		return false;
+	}
+
 	static SqmRenderContext simpleContext() {
 		return new SimpleSqmRenderContext();
 	}
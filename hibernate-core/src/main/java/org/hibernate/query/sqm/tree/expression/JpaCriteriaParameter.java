@@ -53,8 +53,10 @@ protected JpaCriteriaParameter(JpaCriteriaParameter<T> original) {
 
 	@Override
 	public JpaCriteriaParameter<T> copy(SqmCopyContext context) {
-		// Don't create a copy of regular parameters because identity is important here
-		return this;
+		// Don't create a copy of regular parameters because identity is important here,
+		// unless the context explicitly registered a replacement
+		final JpaCriteriaParameter<T> existing = context.getCopy( this );
+		return existing != null ? existing : this;
 	}
 
 	@Override
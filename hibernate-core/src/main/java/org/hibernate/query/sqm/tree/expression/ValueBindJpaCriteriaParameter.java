@@ -38,8 +38,8 @@ private ValueBindJpaCriteriaParameter(ValueBindJpaCriteriaParameter<T> original)
 	}
 
 	@Override
-	public ValueBindJpaCriteriaParameter<T> copy(SqmCopyContext context) {
-		final ValueBindJpaCriteriaParameter<T> existing = context.getCopy( this );
+	public JpaCriteriaParameter<T> copy(SqmCopyContext context) {
+		final JpaCriteriaParameter<T> existing = context.getCopy( this );
 		return existing != null
 				? existing
 				: context.registerCopy( this, new ValueBindJpaCriteriaParameter<>( this ) );
@@ -51,7 +51,12 @@ public T getValue() {
 
 	@Override
 	public void appendHqlString(StringBuilder hql, SqmRenderContext context) {
-		SqmLiteral.appendHqlString( hql, getJavaTypeDescriptor(), value );
+		if ( context.renderValueBindParametersAsParameters() ) {
+			super.appendHqlString( hql, context );
+		}
+		else {
+			SqmLiteral.appendHqlString( hql, getJavaTypeDescriptor(), value );
+		}
 	}
 
 	@Override
@@ -12,6 +12,8 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import org.hibernate.Internal;
@@ -61,8 +63,16 @@
 	// IMPL NOTE : the list used for ordered destruction.  Cannot used map above because we need to
 	// iterate it in reverse order which is only available through ListIterator
 	// assume 20 services for initial sizing
-	// All access guarded by synchronization on the serviceBindingList itself.
+	// All access guarded by the serviceBindingListLock.
 	private final List<ServiceBinding<?>> serviceBindingList = CollectionHelper.arrayList( 20 );
+	private final Lock serviceBindingListLock = new ReentrantLock();
+
+	/**
+	 * Guards the lifecycle of the services. This is not the monitor lock, since
+	 * services often do blocking I/O as they start, which would pin the carrier
+	 * of a virtual thread.
+	 */
+	private final Lock lock = new ReentrantLock();
 
 	// Guarded by synchronization on this.
 	private final boolean autoCloseRegistry;
@@ -198,7 +208,8 @@ private void registerAlternate(Class<?> alternate, Class<?> target) {
 		}
 
 		//Any service initialization needs synchronization
-		synchronized ( this ) {
+		lock.lock();
+		try {
 			// Check again after having acquired the lock:
 			service = serviceRole.cast( initializedServiceByRole.get( serviceRole ) );
 			if ( service != null ) {
@@ -219,13 +230,20 @@ private void registerAlternate(Class<?> alternate, Class<?> target) {
 			}
 			return service;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	protected <R extends Service> void registerService(ServiceBinding<R> serviceBinding, R service) {
 		serviceBinding.setService( service );
-		synchronized ( serviceBindingList ) {
+		serviceBindingListLock.lock();
+		try {
 			serviceBindingList.add( serviceBinding );
 		}
+		finally {
+			serviceBindingListLock.unlock();
+		}
 	}
 
 	private <R extends Service> @Nullable R initializeService(ServiceBinding<R> serviceBinding) {
@@ -347,92 +365,133 @@ public boolean isActive() {
 		return active.get();
 	}
 
+	/**
+	 * The lock which subclasses must hold while changing the state of the registry.
+	 */
+	protected Lock getLock() {
+		return lock;
+	}
+
 	@Override
-	public synchronized void destroy() {
-		if ( active.compareAndSet( true, false ) ) {
-			try {
-				//First thing, make sure that the fast path read is disabled so that
-				//threads not owning the synchronization lock can't get an invalid Service:
-				initializedServiceByRole.clear();
-				synchronized (serviceBindingList) {
-					final ListIterator<ServiceBinding<?>> serviceBindingsIterator =
-							serviceBindingList.listIterator( serviceBindingList.size() );
-					while ( serviceBindingsIterator.hasPrevious() ) {
-						final ServiceBinding<?> serviceBinding = serviceBindingsIterator.previous();
-						serviceBinding.getLifecycleOwner().stopService( serviceBinding );
+	public void destroy() {
+		lock.lock();
+		try {
+			if ( active.compareAndSet( true, false ) ) {
+				try {
+					//First thing, make sure that the fast path read is disabled so that
+					//threads not owning the lock can't get an invalid Service:
+					initializedServiceByRole.clear();
+					serviceBindingListLock.lock();
+					try {
+						final ListIterator<ServiceBinding<?>> serviceBindingsIterator =
+								serviceBindingList.listIterator( serviceBindingList.size() );
+						while ( serviceBindingsIterator.hasPrevious() ) {
+							final ServiceBinding<?> serviceBinding = serviceBindingsIterator.previous();
+							serviceBinding.getLifecycleOwner().stopService( serviceBinding );
+						}
+						serviceBindingList.clear();
+					}
+					finally {
+						serviceBindingListLock.unlock();
 					}
-					serviceBindingList.clear();
+					serviceBindingMap.clear();
 				}
-				serviceBindingMap.clear();
-			}
-			finally {
-				if ( parent != null ) {
-					parent.deRegisterChild( this );
+				finally {
+					if ( parent != null ) {
+						parent.deRegisterChild( this );
+					}
 				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized <R extends Service> void stopService(ServiceBinding<R> binding) {
-		final Service service = binding.getService();
-		if ( service instanceof Stoppable stoppable ) {
-			try {
-				stoppable.stop();
-			}
-			catch ( Exception e ) {
-				log.unableToStopService( binding.getServiceRole().getName(), e );
+	public <R extends Service> void stopService(ServiceBinding<R> binding) {
+		lock.lock();
+		try {
+			final Service service = binding.getService();
+			if ( service instanceof Stoppable stoppable ) {
+				try {
+					stoppable.stop();
+				}
+				catch ( Exception e ) {
+					log.unableToStopService( binding.getServiceRole().getName(), e );
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized void registerChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			childRegistries = new HashSet<>();
-		}
-		if ( !childRegistries.add( child ) ) {
-			log.warnf(
-					"Child ServiceRegistry [%s] was already registered; this will end badly later",
-					child
-			);
+	public void registerChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				childRegistries = new HashSet<>();
+			}
+			if ( !childRegistries.add( child ) ) {
+				log.warnf(
+						"Child ServiceRegistry [%s] was already registered; this will end badly later",
+						child
+				);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
-	public synchronized void deRegisterChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			throw new IllegalStateException( "No child ServiceRegistry registrations found" );
-		}
-		childRegistries.remove( child );
-		if ( childRegistries.isEmpty() ) {
-			if ( autoCloseRegistry ) {
-				log.trace( "Automatically destroying ServiceRegistry after deregistration of every child ServiceRegistry" );
-				destroy();
+	public void deRegisterChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				throw new IllegalStateException( "No child ServiceRegistry registrations found" );
 			}
-			else {
-				log.trace( "Skipping destroying ServiceRegistry after deregistration of every child ServiceRegistry" );
+			childRegistries.remove( child );
+			if ( childRegistries.isEmpty() ) {
+				if ( autoCloseRegistry ) {
+					log.trace( "Automatically destroying ServiceRegistry after deregistration of every child ServiceRegistry" );
+					destroy();
+				}
+				else {
+					log.trace( "Skipping destroying ServiceRegistry after deregistration of every child ServiceRegistry" );
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
 	 * Not intended for general use. We need the ability to stop and "reactivate" a registry to allow
 	 * experimentation with technologies such as GraalVM, Quarkus and Cri-O.
 	 */
-	public synchronized void resetParent(@Nullable BootstrapServiceRegistry newParent) {
-		if ( parent != null ) {
-			parent.deRegisterChild( this );
-		}
-		if ( newParent != null ) {
-			if ( !(newParent instanceof ServiceRegistryImplementor) ) {
-				throw new IllegalArgumentException( "ServiceRegistry parent needs to implement ServiceRegistryImplementor" );
+	public void resetParent(@Nullable BootstrapServiceRegistry newParent) {
+		lock.lock();
+		try {
+			if ( parent != null ) {
+				parent.deRegisterChild( this );
+			}
+			if ( newParent != null ) {
+				if ( !(newParent instanceof ServiceRegistryImplementor) ) {
+					throw new IllegalArgumentException( "ServiceRegistry parent needs to implement ServiceRegistryImplementor" );
+				}
+				parent = (ServiceRegistryImplementor) newParent;
+				parent.registerChild( this );
+			}
+			else {
+				parent = null;
 			}
-			parent = (ServiceRegistryImplementor) newParent;
-			parent.registerChild( this );
 		}
-		else {
-			parent = null;
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -468,9 +527,15 @@ public synchronized void resetParent(@Nullable BootstrapServiceRegistry newParen
 	 * to allow experimentation with technologies such as GraalVM, Quarkus and Cri-O.
 	 */
 	@Internal
-	public synchronized void reactivate() {
-		if ( !active.compareAndSet( false, true ) ) {
-			throw new IllegalStateException( "Was not inactive, could not reactivate" );
+	public void reactivate() {
+		lock.lock();
+		try {
+			if ( !active.compareAndSet( false, true ) ) {
+				throw new IllegalStateException( "Was not inactive, could not reactivate" );
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -6,7 +6,6 @@
 
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
 import org.hibernate.SharedSessionContract;
@@ -218,13 +217,10 @@ public boolean shouldReturnProxies() {
 		);
 
 		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long milliseconds =
-					TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
+			statistics.queryExecutedNanos(
 					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
 					getResultSize( result ),
-					milliseconds
+					System.nanoTime() - startTime
 			);
 		}
 
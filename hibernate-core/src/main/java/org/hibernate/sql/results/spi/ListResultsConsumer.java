@@ -5,13 +5,23 @@
 package org.hibernate.sql.results.spi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -147,9 +157,15 @@ public List<R> consume(
 			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader) {
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent resultProcessingEvent = eventMonitor.beginResultProcessingEvent();
 		rowReader.startLoading( rowProcessingState );
+		if ( rowProcessingState.isQueryCacheHit() ) {
+			prefetchCachedEntities( rowProcessingState, rowReader, session );
+		}
 
 		RuntimeException ex = null;
+		int readRows = 0;
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.beforeLoad();
 		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
@@ -163,7 +179,7 @@ public List<R> consume(
 			final boolean isEntityResultType = domainResultJavaType instanceof EntityJavaType;
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 			final Results<R> results = createResults( isEntityResultType, domainResultJavaType, initialCollectionSize );
-			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
+			readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
 			return transformList( rowProcessingState, results );
@@ -187,6 +203,7 @@ public List<R> consume(
 				}
 			}
 			finally {
+				eventMonitor.completeResultProcessingEvent( resultProcessingEvent, readRows, session );
 				if ( ex != null ) {
 					throw ex;
 				}
@@ -195,6 +212,86 @@ public List<R> consume(
 		throw new IllegalStateException( "Should not reach this" );
 	}
 
+	/**
+	 * When the query cache entry holds only the ids of the resulting entities,
+	 * load all entities which are not already in the persistence context using
+	 * a single multi-load per entity type, instead of loading each of them
+	 * separately while reading the rows.
+	 */
+	private static void prefetchCachedEntities(
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<?> rowReader,
+			SharedSessionContractImplementor session) {
+		final List<@Nullable JavaType<?>> resultJavaTypes = rowReader.getResultJavaTypes();
+		if ( session.isStatelessSession()
+				|| resultJavaTypes.isEmpty()
+				|| !( resultJavaTypes.get( 0 ) instanceof EntityJavaType<?> )
+				|| rowProcessingState.getQueryOptions().getLockOptions().getLockMode() != LockMode.NONE ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, List<Object>> idsByPersister = new HashMap<>();
+		while ( rowProcessingState.next() ) {
+			final EntityKey entityKey = rowReader.resolveSingleResultEntityKey( rowProcessingState );
+			if ( entityKey != null ) {
+				final EntityPersister persister = entityKey.getPersister();
+				if ( !persister.useShallowQueryCacheLayout() ) {
+					// the cache entry holds the entity data itself
+					break;
+				}
+				else if ( persistenceContext.getEntity( entityKey ) == null ) {
+					idsByPersister.computeIfAbsent( persister, key -> new ArrayList<>() )
+							.add( entityKey.getIdentifier() );
+				}
+			}
+		}
+		rowProcessingState.beforeFirst();
+		idsByPersister.forEach( (persister, ids) -> {
+			if ( ids.size() > 1 ) {
+				persister.multiLoad( ids.toArray(), session, PrefetchLoadOptions.INSTANCE );
+			}
+		} );
+	}
+
+	private static final class PrefetchLoadOptions implements MultiIdLoadOptions {
+		private static final PrefetchLoadOptions INSTANCE = new PrefetchLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return null;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	private static <R> List<R> transformList(ExecutionContext executionContext, Results<R> results) {
 		final ResultListTransformer<R> transformer = getResultListTransformer( executionContext );
 		return transformer == null ? results.getResults() : transformer.transformList( results.getResults() );
@@ -51,6 +51,18 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * An estimate of the given percentile of the recent execution
+	 * times of this query, in milliseconds.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @since 7.1
+	 */
+	default double getExecutionTimePercentile(double percentile) {
+		return 0;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
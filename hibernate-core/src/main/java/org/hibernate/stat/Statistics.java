@@ -25,6 +25,14 @@
  * supplying a {@link org.hibernate.stat.spi.StatisticsFactory} via
  * the configuration setting
  * {@value org.hibernate.cfg.StatisticsSettings#STATS_BUILDER}.
+ * <p>
+ * Unlike the counters, the latency percentiles, for example,
+ * {@link #getQueryExecutionTimePercentile(double)}, are not
+ * cumulative: they are estimated from recent durations, with the
+ * weight of a duration halving every minute, so that they follow a
+ * change in latency. A monitoring system which needs every duration,
+ * for example, to record it in a timer of its own, may register a
+ * {@link org.hibernate.stat.spi.LatencyListener}.
  *
  * @author Emmanuel Bernard
  */
@@ -176,6 +184,54 @@ public interface Statistics {
 	 */
 	@Nullable String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * An estimate of the given percentile of the execution times of
+	 * queries, in milliseconds.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @since 7.1
+	 */
+	default double getQueryExecutionTimePercentile(double percentile) {
+		return 0;
+	}
+
+	/**
+	 * An estimate of the given percentile of the times taken to load
+	 * an entity by id from the database, in milliseconds.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @since 7.1
+	 */
+	default double getEntityLoadTimePercentile(double percentile) {
+		return 0;
+	}
+
+	/**
+	 * An estimate of the given percentile of the times taken by
+	 * flushes, in milliseconds.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @since 7.1
+	 */
+	default double getFlushTimePercentile(double percentile) {
+		return 0;
+	}
+
+	/**
+	 * An estimate of the given percentile of the execution times of
+	 * JDBC batches, in milliseconds.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @since 7.1
+	 */
+	default double getBatchExecutionTimePercentile(double percentile) {
+		return 0;
+	}
+
 	/**
 	 * The global number of cached queries successfully retrieved from
 	 * the cache.
@@ -354,6 +410,20 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD}
+	 * is enabled, a map from the name of an entity or the role of a
+	 * collection to the number of sessions in which an N+1 selects
+	 * problem was detected for it.
+	 *
+	 * @since 7.1
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	default Map<String,Long> getNPlusOneSelects() {
+		return Map.of();
+	}
+
 	/**
 	 * The names of all entities.
 	 */
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free histogram of durations, in microseconds, with a fixed memory
+ * footprint, used to estimate percentiles of latencies.
+ * <p>
+ * Like an HdrHistogram, durations are counted in log-linear buckets: every
+ * power of two is divided into {@value #SUB_BUCKET_COUNT} buckets of equal
+ * width, so that the relative error of any percentile is at most 12.5%.
+ * Durations longer than {@link #MAX_TRACKABLE_MICROSECONDS} are counted in
+ * the last bucket.
+ * <p>
+ * Counts are decayed, so that the percentiles follow a change in latency:
+ * every {@linkplain #DECAY_INTERVAL_NANOS minute}, all counts are halved.
+ * A duration recorded two minutes ago thus weighs a quarter of one just
+ * recorded. Decay happens on the first access after the interval elapsed.
+ *
+ * @since 7.1
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 36;
+
+	/**
+	 * The longest duration which is counted accurately, about 38 hours.
+	 */
+	public static final long MAX_TRACKABLE_MICROSECONDS = ( 1L << ( MAX_EXPONENT + 1 ) ) - 1;
+
+	private static final int BUCKET_COUNT = bucketIndex( MAX_TRACKABLE_MICROSECONDS ) + 1;
+
+	/**
+	 * The half-life of counted durations.
+	 */
+	public static final long DECAY_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos( 1 );
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final LongSupplier nanoTime;
+	private final AtomicLong lastDecay;
+
+	public LatencyHistogram() {
+		this( System::nanoTime );
+	}
+
+	/**
+	 * @param nanoTime The source of the current time, in nanoseconds
+	 */
+	public LatencyHistogram(LongSupplier nanoTime) {
+		this.nanoTime = nanoTime;
+		this.lastDecay = new AtomicLong( nanoTime.getAsLong() );
+	}
+
+	/**
+	 * Count a duration.
+	 *
+	 * @param microseconds The duration, in microseconds
+	 */
+	public void record(long microseconds) {
+		decayIfDue();
+		counts.incrementAndGet( bucketIndex( Math.min( Math.max( microseconds, 0 ), MAX_TRACKABLE_MICROSECONDS ) ) );
+	}
+
+	/**
+	 * Estimate the given percentile of the counted durations.
+	 *
+	 * @param percentile A percentile between 0 and 100, for example, {@code 99}
+	 *
+	 * @return The estimated duration, in milliseconds, or 0 if nothing was counted
+	 */
+	public double getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		decayIfDue();
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= rank ) {
+				return highestValueInBucket( i ) / 1000.0;
+			}
+		}
+		return MAX_TRACKABLE_MICROSECONDS / 1000.0;
+	}
+
+	/**
+	 * The total number of counted durations, after decay.
+	 */
+	public long getCount() {
+		decayIfDue();
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			total += counts.get( i );
+		}
+		return total;
+	}
+
+	/**
+	 * Forget all counted durations.
+	 */
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.set( i, 0 );
+		}
+	}
+
+	/**
+	 * Halve the counts once for every interval which elapsed since they
+	 * were last decayed. Only the thread which wins the race to advance
+	 * the time of the last decay does so, and a concurrently recorded
+	 * duration is never lost, since each count is updated atomically.
+	 */
+	private void decayIfDue() {
+		final long last = lastDecay.get();
+		final long intervals = ( nanoTime.getAsLong() - last ) / DECAY_INTERVAL_NANOS;
+		if ( intervals > 0 && lastDecay.compareAndSet( last, last + intervals * DECAY_INTERVAL_NANOS ) ) {
+			final int shift = (int) Math.min( intervals, 63 );
+			for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+				counts.getAndUpdate( i, count -> count >>> shift );
+			}
+		}
+	}
+
+	private static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		else {
+			final int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+			final int subBucket = (int) ( value >>> shift ) - SUB_BUCKET_COUNT;
+			return ( shift + 1 ) * SUB_BUCKET_COUNT + subBucket;
+		}
+	}
+
+	private static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		else {
+			final int shift = index / SUB_BUCKET_COUNT - 1;
+			final long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+			return ( ( subBucket + 1 ) << shift ) - 1;
+		}
+	}
+}
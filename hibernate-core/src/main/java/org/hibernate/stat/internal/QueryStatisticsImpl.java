@@ -4,6 +4,7 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -31,6 +32,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -131,6 +133,14 @@ public long getExecutionTotalTime() {
 		return totalExecutionTime.get();
 	}
 
+	/**
+	 * estimated percentile of the time in ms taken by the execution of this query onto the DB
+	 */
+	@Override
+	public double getExecutionTimePercentile(double percentile) {
+		return executionTimes.getValueAtPercentile( percentile );
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -159,6 +169,17 @@ public long getPlanCompilationTotalMicroseconds() {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
+		executed( rows, time, TimeUnit.MILLISECONDS.toNanos( time ) );
+	}
+
+	/**
+	 * add statistics report of a DB query
+	 *
+	 * @param rows rows count returned
+	 * @param time time taken, in milliseconds
+	 * @param nanoseconds time taken, in nanoseconds
+	 */
+	void executed(long rows, long time, long nanoseconds) {
 		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
 		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
 		readLock.lock();
@@ -169,6 +190,7 @@ public void executed(long rows, long time) {
 			executionCount.increment();
 			executionRowCount.add( rows );
 			totalExecutionTime.addAndGet( time );
+			executionTimes.record( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
 		}
 		finally {
 			readLock.unlock();
@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -27,11 +28,14 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.LatencyListener;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.internal.CoreLogging.messageLogger;
 
 /**
@@ -56,15 +60,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
 
+	private final List<LatencyListener> latencyListeners = new CopyOnWriteArrayList<>();
+
 	private final LongAdder sessionOpenCount = new LongAdder();
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
+	private final LatencyHistogram flushTimes = new LatencyHistogram();
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LatencyHistogram batchExecutionTimes = new LatencyHistogram();
 
 	private final LongAdder entityLoadCount = new LongAdder();
+	private final LatencyHistogram entityLoadTimes = new LatencyHistogram();
 	private final LongAdder entityUpdateCount = new LongAdder();
 	private final LongAdder entityUpsertCount = new LongAdder();
 	private final LongAdder entityInsertCount = new LongAdder();
@@ -91,6 +100,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryExecutionCount = new LongAdder();
 	private final AtomicLong queryExecutionMaxTime = new AtomicLong();
 	private volatile @Nullable String queryExecutionMaxTimeQueryString;
+	private final LatencyHistogram queryExecutionTimes = new LatencyHistogram();
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
 	private final LongAdder queryCachePutCount = new LongAdder();
@@ -125,6 +135,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
+	private final Map<String, Long> nPlusOneSelects = new ConcurrentHashMap<>();
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -167,16 +178,19 @@ public void clear() {
 		sessionCloseCount.reset();
 		sessionOpenCount.reset();
 		flushCount.reset();
+		flushTimes.clear();
 		connectCount.reset();
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		batchExecutionTimes.clear();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
 		entityUpdateCount.reset();
 		entityUpsertCount.reset();
 		entityLoadCount.reset();
+		entityLoadTimes.clear();
 		entityFetchCount.reset();
 
 		collectionRemoveCount.reset();
@@ -189,6 +203,7 @@ public void clear() {
 		queryCacheHitCount.reset();
 		queryExecutionMaxTime.set( 0L );
 		queryExecutionMaxTimeQueryString = null;
+		queryExecutionTimes.clear();
 		queryCacheMissCount.reset();
 		queryCachePutCount.reset();
 
@@ -206,6 +221,7 @@ public void clear() {
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		nPlusOneSelects.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
@@ -728,10 +744,25 @@ public long getQueryExecutionMaxTime() {
 		return queryExecutionMaxTime.get();
 	}
 
+	@Override
+	public double getQueryExecutionTimePercentile(double percentile) {
+		return queryExecutionTimes.getValueAtPercentile( percentile );
+	}
+
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
+		queryExecutedNanos( hql, rows, MILLISECONDS.toNanos( time ) );
+	}
+
+	@Override
+	public void queryExecutedNanos(String hql, int rows, long nanoseconds) {
+		final long time = NANOSECONDS.toMillis( nanoseconds );
 		log.hql( hql, time, (long) rows );
 		queryExecutionCount.increment();
+		queryExecutionTimes.record( NANOSECONDS.toMicros( nanoseconds ) );
+		for ( LatencyListener listener : latencyListeners ) {
+			listener.queryExecuted( hql, nanoseconds );
+		}
 
 		boolean isLongestQuery;
 		//noinspection StatementWithEmptyBody
@@ -746,7 +777,7 @@ public void queryExecuted(String hql, int rows, long time) {
 		}
 
 		if ( hql != null ) {
-			getQueryStatistics( hql ).executed( rows, time );
+			getQueryStatistics( hql ).executed( rows, time, nanoseconds );
 		}
 	}
 
@@ -887,6 +918,55 @@ public void flush() {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flushExecuted(long nanoseconds) {
+		flushTimes.record( NANOSECONDS.toMicros( nanoseconds ) );
+		for ( LatencyListener listener : latencyListeners ) {
+			listener.flushExecuted( nanoseconds );
+		}
+	}
+
+	@Override
+	public double getFlushTimePercentile(double percentile) {
+		return flushTimes.getValueAtPercentile( percentile );
+	}
+
+	@Override
+	public void entityLoadExecuted(long nanoseconds) {
+		entityLoadTimes.record( NANOSECONDS.toMicros( nanoseconds ) );
+		for ( LatencyListener listener : latencyListeners ) {
+			listener.entityLoadExecuted( nanoseconds );
+		}
+	}
+
+	@Override
+	public double getEntityLoadTimePercentile(double percentile) {
+		return entityLoadTimes.getValueAtPercentile( percentile );
+	}
+
+	@Override
+	public void batchExecuted(long nanoseconds) {
+		batchExecutionTimes.record( NANOSECONDS.toMicros( nanoseconds ) );
+		for ( LatencyListener listener : latencyListeners ) {
+			listener.batchExecuted( nanoseconds );
+		}
+	}
+
+	@Override
+	public double getBatchExecutionTimePercentile(double percentile) {
+		return batchExecutionTimes.getValueAtPercentile( percentile );
+	}
+
+	@Override
+	public void addLatencyListener(LatencyListener listener) {
+		latencyListeners.add( listener );
+	}
+
+	@Override
+	public void removeLatencyListener(LatencyListener listener) {
+		latencyListeners.remove( listener );
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -1062,4 +1142,14 @@ public Map<String, Long> getSlowQueries() {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Long> getNPlusOneSelects() {
+		return nPlusOneSelects;
+	}
+
+	@Override
+	public void nPlusOneSelects(String role) {
+		nPlusOneSelects.merge( role, 1L, Long::sum );
+	}
 }
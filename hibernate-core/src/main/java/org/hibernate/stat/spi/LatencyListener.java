@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.spi;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Receives each duration measured while statistics are
+ * {@linkplain StatisticsImplementor#isStatisticsEnabled() enabled},
+ * allowing an integration to record it in a meter of its own, for
+ * example, in a timer of a metrics library. Unlike the percentiles
+ * exposed by {@link org.hibernate.stat.Statistics}, which are only
+ * estimated, a listener sees every individual duration.
+ * <p>
+ * The methods are called by the thread which measured the duration,
+ * and must return quickly.
+ *
+ * @see StatisticsImplementor#addLatencyListener(LatencyListener)
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface LatencyListener {
+	/**
+	 * A query was executed.
+	 *
+	 * @param query The query string, or {@code null} if unknown
+	 * @param nanoseconds The time taken
+	 */
+	default void queryExecuted(@Nullable String query, long nanoseconds) {
+	}
+
+	/**
+	 * An entity was loaded from the database by id.
+	 *
+	 * @param nanoseconds The time taken
+	 */
+	default void entityLoadExecuted(long nanoseconds) {
+	}
+
+	/**
+	 * A flush was executed.
+	 *
+	 * @param nanoseconds The time taken
+	 */
+	default void flushExecuted(long nanoseconds) {
+	}
+
+	/**
+	 * A JDBC batch was executed.
+	 *
+	 * @param nanoseconds The time taken
+	 */
+	default void batchExecuted(long nanoseconds) {
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -11,6 +12,7 @@
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * A service SPI for collecting statistics about various events occurring at runtime.
@@ -250,6 +252,21 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query, timed
+	 * with a resolution finer than a millisecond.
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param nanoseconds execution time
+	 *
+	 * @since 7.1
+	 */
+	default void queryExecutedNanos(String hql, int rows, long nanoseconds) {
+		//For backward compatibility
+		queryExecuted( hql, rows, NANOSECONDS.toMillis( nanoseconds ) );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -293,6 +310,39 @@ default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an entity was loaded from the database by id.
+	 *
+	 * @param nanoseconds time taken
+	 *
+	 * @since 7.1
+	 */
+	default void entityLoadExecuted(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a flush was executed.
+	 *
+	 * @param nanoseconds time taken
+	 *
+	 * @since 7.1
+	 */
+	default void flushExecuted(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a JDBC batch was executed.
+	 *
+	 * @param nanoseconds time taken
+	 *
+	 * @since 7.1
+	 */
+	default void batchExecuted(long nanoseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
@@ -300,6 +350,37 @@ default void slowQuery(String sql, long executionTime) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an N+1 selects problem was detected.
+	 *
+	 * @param role The name of the entity or the role of the collection
+	 *
+	 * @since 7.1
+	 */
+	default void nPlusOneSelects(String role) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Register a listener which receives every measured duration.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void addLatencyListener(LatencyListener listener) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Unregister a {@linkplain #addLatencyListener(LatencyListener) listener}.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void removeLatencyListener(LatencyListener listener) {
+		//For backward compatibility
+	}
+
 	@Override
 	default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
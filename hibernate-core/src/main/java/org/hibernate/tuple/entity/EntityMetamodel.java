@@ -522,9 +522,11 @@ private static boolean writePropertyValue(OnExecutionGenerator generator) {
 	}
 
 	private static Generator buildIdGenerator(String rootName, PersistentClass persistentClass, RuntimeModelCreationContext creationContext) {
-		final Generator existing = creationContext.getGenerators().get( rootName );
-		if ( existing != null ) {
-			return existing;
+		final Map<String, Generator> generators = creationContext.getGenerators();
+		if ( generators.containsKey( rootName ) ) {
+			// created for another entity of the hierarchy,
+			// or up front, by a parallel boot
+			return generators.get( rootName );
 		}
 		else {
 			final Generator idgenerator =
@@ -536,7 +538,7 @@ private static Generator buildIdGenerator(String rootName, PersistentClass persi
 									persistentClass.getIdentifierProperty(),
 									creationContext.getGeneratorSettings()
 							);
-			creationContext.getGenerators().put( rootName, idgenerator );
+			generators.put( rootName, idgenerator );
 			return idgenerator;
 		}
 	}
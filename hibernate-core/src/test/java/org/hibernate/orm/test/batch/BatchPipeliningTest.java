@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = BatchPipeliningTest.Person.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true"),
+})
+public class BatchPipeliningTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final List<Person> persons = new ArrayList<>();
+		for ( long i = 0; i < 1005; i++ ) {
+			persons.add( new Person( i, "person" + i ) );
+		}
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 50 );
+			session.insertMultiple( persons );
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Person", Long.class ).getSingleResult()
+		).isEqualTo( 1005L ) );
+	}
+
+	@Test
+	public void testPipelinedBatchesRecordedInStatistics(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.setStatisticsEnabled( true );
+		try {
+			statistics.clear();
+			final List<Person> persons = new ArrayList<>();
+			for ( long i = 0; i < 100; i++ ) {
+				persons.add( new Person( i, "person" + i ) );
+			}
+			// both batches fill up, and are executed by the pipeline
+			scope.inStatelessTransaction( session -> {
+				session.setJdbcBatchSize( 50 );
+				session.insertMultiple( persons );
+			} );
+			assertThat( statistics.getBatchExecutionTimePercentile( 100 ) ).isGreaterThan( 0 );
+		}
+		finally {
+			statistics.setStatisticsEnabled( false );
+		}
+	}
+
+	@Test
+	public void testUpdates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 95; i++ ) {
+				session.persist( new Person( i, "person" + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Person person : session.createSelectionQuery( "from Person", Person.class ).getResultList() ) {
+				person.name = "renamed" + person.id;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Person person : session.createSelectionQuery( "from Person", Person.class ).getResultList() ) {
+				assertThat( person.name ).isEqualTo( "renamed" + person.id );
+				assertThat( person.version ).isEqualTo( 1L );
+			}
+		} );
+	}
+
+	@Test
+	public void testStaleStateReportedFromEarlierBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 25; i++ ) {
+				session.persist( new Person( i, "person" + i ) );
+			}
+		} );
+
+		assertThatThrownBy( () -> scope.inTransaction( session -> {
+			final List<Person> persons =
+					session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+			// a row of the first batch is changed behind the back of the session
+			scope.inTransaction( other -> other.find( Person.class, 3L ).name = "changed" );
+			for ( Person person : persons ) {
+				person.name = "renamed" + person.id;
+			}
+		} ) ).isInstanceOf( OptimisticLockException.class );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Person.class, 3L ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Person.class, 20L ).name ).isEqualTo( "person20" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Long id;
+		private String name;
+		@Version
+		private long version;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Dynamic inserts and updates with the same shape share their SQL, and so may be batched.
+ */
+@ServiceRegistry(settings = @Setting(name = STATEMENT_BATCH_SIZE, value = "10"))
+@DomainModel(annotatedClasses = {
+		DynamicMutationShapeBatchingTest.Person.class,
+		DynamicMutationShapeBatchingTest.Customer.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class DynamicMutationShapeBatchingTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSameShapeIsBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Person( i, "person" + i, null ) );
+			}
+		} );
+		// the same insert statement was used for every row
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inTransaction( session -> {
+			final List<Person> people =
+					session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+			inspector.clear();
+			for ( Person person : people ) {
+				person.nickname = "nick" + person.id;
+			}
+		} );
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContain( "name=" );
+
+		scope.inTransaction( session -> {
+			for ( Person person : session.createSelectionQuery( "from Person", Person.class ).getResultList() ) {
+				assertThat( person.name ).isEqualTo( "person" + person.id );
+				assertThat( person.nickname ).isEqualTo( "nick" + person.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testDifferentShapes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Person( 1, "first", null ) );
+			session.persist( new Person( 2, null, "second" ) );
+			session.persist( new Person( 3, "third", null ) );
+		} );
+
+		scope.inTransaction( session -> {
+			session.find( Person.class, 1 ).nickname = "one";
+			session.find( Person.class, 2 ).name = "two";
+			session.find( Person.class, 3 ).nickname = "three";
+		} );
+
+		scope.inTransaction( session -> {
+			final Person first = session.find( Person.class, 1 );
+			assertThat( first.name ).isEqualTo( "first" );
+			assertThat( first.nickname ).isEqualTo( "one" );
+			final Person second = session.find( Person.class, 2 );
+			assertThat( second.name ).isEqualTo( "two" );
+			assertThat( second.nickname ).isEqualTo( "second" );
+			final Person third = session.find( Person.class, 3 );
+			assertThat( third.name ).isEqualTo( "third" );
+			assertThat( third.nickname ).isEqualTo( "three" );
+		} );
+	}
+
+	@Test
+	public void testPartlyNullLockedEmbeddable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Customer( 1, "first", new Address( "street", null ) ) );
+			session.persist( new Customer( 2, "second", new Address( null, "city" ) ) );
+		} );
+
+		// the old values of the address are in the where clause, and
+		// each renders a different restriction for its null column
+		scope.inTransaction( session -> {
+			session.find( Customer.class, 1 ).name = "one";
+			session.find( Customer.class, 2 ).name = "two";
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Customer.class, 1 ).name ).isEqualTo( "one" );
+			assertThat( session.find( Customer.class, 2 ).name ).isEqualTo( "two" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	@DynamicInsert
+	@DynamicUpdate
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+		private String nickname;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, String nickname) {
+			this.id = id;
+			this.name = name;
+			this.nickname = nickname;
+		}
+	}
+
+	@Entity(name = "Customer")
+	@DynamicUpdate
+	@OptimisticLocking(type = OptimisticLockType.ALL)
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+		private Address address;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.annotations.Any;
+import org.hibernate.annotations.AnyDiscriminator;
+import org.hibernate.annotations.AnyDiscriminatorValue;
+import org.hibernate.annotations.AnyKeyJavaClass;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = IdentityInsertBatchingTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_IDENTITY_INSERTS, value = "true"),
+})
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+public class IdentityInsertBatchingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertsBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final List<Person> persons = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				final Person person = new Person( "person" + i, null );
+				session.persist( person );
+				assertThat( person.id ).isNull();
+				persons.add( person );
+			}
+			session.flush();
+			for ( int i = 1; i < persons.size(); i++ ) {
+				assertThat( persons.get( i ).id ).isGreaterThan( persons.get( i - 1 ).id );
+			}
+		} );
+		// one insert statement per batch of 10
+		inspector.assertExecutedCount( 3 );
+
+		scope.inTransaction( session -> {
+			for ( Person person : persons ) {
+				assertThat( session.find( Person.class, person.id ).name ).isEqualTo( person.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testReferenceToInstanceInSameBatch(SessionFactoryScope scope) {
+		final List<Person> persons = new ArrayList<>();
+		scope.inTransaction( session -> {
+			Person mentor = null;
+			for ( int i = 0; i < 5; i++ ) {
+				final Person person = new Person( "person" + i, mentor );
+				session.persist( person );
+				persons.add( person );
+				mentor = person;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < persons.size(); i++ ) {
+				final Person person = session.find( Person.class, persons.get( i ).id );
+				assertThat( person.mentor.id ).isEqualTo( persons.get( i - 1 ).id );
+			}
+		} );
+	}
+
+	@Test
+	public void testAnyReferenceToInstanceInSameBatch(SessionFactoryScope scope) {
+		final List<Person> persons = new ArrayList<>();
+		scope.inTransaction( session -> {
+			Person favorite = null;
+			for ( int i = 0; i < 5; i++ ) {
+				final Person person = new Person( "person" + i, null );
+				person.favorite = favorite;
+				session.persist( person );
+				persons.add( person );
+				favorite = person;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < persons.size(); i++ ) {
+				final Person person = session.find( Person.class, persons.get( i ).id );
+				assertThat( ( (Person) person.favorite ).id ).isEqualTo( persons.get( i - 1 ).id );
+			}
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String name;
+		@ManyToOne
+		Person mentor;
+		@Any
+		@AnyDiscriminator(DiscriminatorType.STRING)
+		@AnyDiscriminatorValue(discriminator = "P", entity = Person.class)
+		@AnyKeyJavaClass(Long.class)
+		@Column(name = "favorite_type")
+		@JoinColumn(name = "favorite_id")
+		Object favorite;
+
+		Person() {
+		}
+
+		Person(String name, Person mentor) {
+			this.name = name;
+			this.mentor = mentor;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * N+1 selects are detected, and batch fetching is enabled for the roles involved.
+ */
+@DomainModel(annotatedClasses = {
+		NPlusOneDetectionTest.Author.class,
+		NPlusOneDetectionTest.Book.class,
+		NPlusOneDetectionTest.Publisher.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.N_PLUS_ONE_THRESHOLD, value = "3"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_SIZE, value = "10")
+})
+public class NPlusOneDetectionTest {
+	private static final int COUNT = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Author author = new Author( id, "Author " + id );
+				final Publisher publisher = new Publisher( id, "Publisher " + id );
+				session.persist( author );
+				session.persist( publisher );
+				session.persist( new Book( id, "Book " + id, author, publisher ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCollection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String role = Author.class.getName() + ".books";
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( Author author : session.createSelectionQuery( "from Author", Author.class ).getResultList() ) {
+				assertThat( author.books ).hasSize( 1 );
+			}
+		} );
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getNPlusOneSelects() ).containsEntry( role, 1L );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+			assertThat( authors.get( 0 ).books ).hasSize( 1 );
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( author.books ).hasSize( 1 );
+			}
+		} );
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNPlusOneSelects() ).isEmpty();
+	}
+
+	@Test
+	public void testProxy(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String entityName = Publisher.class.getName();
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( "from Book", Book.class ).getResultList() ) {
+				assertThat( book.publisher.getName() ).startsWith( "Publisher" );
+			}
+		} );
+		assertThat( statistics.getEntityFetchCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getNPlusOneSelects() ).containsEntry( entityName, 1L );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			for ( Book book : books ) {
+				assertThat( book.publisher.getName() ).startsWith( "Publisher" );
+			}
+		} );
+		assertThat( statistics.getEntityFetchCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNPlusOneSelects() ).isEmpty();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Long id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.hibernate.archive.scan.internal.StandardScanner;
+import org.hibernate.archive.scan.spi.ScanIndex;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+import org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer;
+import org.hibernate.orm.test.jpa.pack.defaultpar.IncrementListener;
+import org.hibernate.orm.test.jpa.pack.defaultpar.Money;
+import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.importer.ZipImporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scanning archives with a {@link ScanIndex}.
+ */
+public class ScanIndexTest extends PackagingTestCase {
+
+	@Test
+	public void testIndexBuiltFromArchive() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		final ScanIndex scanIndex = buildScanIndex( defaultPar );
+		assertThat( scanIndex.matches( defaultPar.toURL() ) ).isTrue();
+		final File indexedPar = addScanIndex( defaultPar, write( scanIndex ) );
+		addPackageToClasspath( indexedPar );
+
+		final ScanResult scanResult = scan( indexedPar );
+		assertThat( scanResult.getLocatedClasses() ).extracting( ClassDescriptor::getName )
+				.containsExactlyInAnyOrder(
+						ApplicationServer.class.getName(),
+						Money.class.getName(),
+						Version.class.getName()
+				);
+		assertThat( scanResult.getLocatedClasses() )
+				.allSatisfy( descriptor -> assertThat( descriptor.getStreamAccess() ).isNotNull() );
+		assertThat( scanResult.getLocatedMappingFiles() ).hasSize( 2 );
+	}
+
+	@Test
+	public void testIndexUsedWhenClassFilesMatch() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		// an index which deliberately lists only one of the classes
+		final String index = write( buildScanIndex( defaultPar ) ).lines()
+				.filter( line -> !line.startsWith( "model=" ) )
+				.collect( joining( "\n", "", "\nmodel=" + Version.class.getName() + "\n" ) );
+		final File indexedPar = addScanIndex( defaultPar, index );
+		addPackageToClasspath( indexedPar );
+
+		final ScanResult scanResult = scan( indexedPar );
+		assertThat( scanResult.getLocatedClasses() ).extracting( ClassDescriptor::getName )
+				.containsExactly( Version.class.getName() );
+		assertThat( scanResult.getLocatedMappingFiles() ).hasSize( 2 );
+	}
+
+	@Test
+	public void testStaleIndexIgnored() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		// an index which lists only one of the classes, and records the wrong size for another
+		final String moneyClassFile = Money.class.getName().replace( '.', '/' ) + ".class";
+		final String index = write( buildScanIndex( defaultPar ) ).lines()
+				.filter( line -> !line.startsWith( "model=" ) )
+				.map( line -> line.startsWith( "file=" ) && line.endsWith( "," + moneyClassFile )
+						? "file=1" + line.substring( line.indexOf( ',' ) )
+						: line )
+				.collect( joining( "\n", "", "\nmodel=" + Version.class.getName() + "\n" ) );
+		final File indexedPar = addScanIndex( defaultPar, index );
+		addPackageToClasspath( indexedPar );
+
+		final ScanResult scanResult = scan( indexedPar );
+		assertThat( scanResult.getLocatedClasses() ).hasSize( 3 );
+		assertThat( scanResult.getLocatedMappingFiles() ).hasSize( 2 );
+	}
+
+	@Test
+	public void testListedClassesUnchanged() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+		final ScanResult expected = scanListed( defaultPar );
+
+		final File indexedPar = addScanIndex( defaultPar, write( buildScanIndex( defaultPar ) ) );
+		addPackageToClasspath( indexedPar );
+		final ScanResult scanResult = scanListed( indexedPar );
+
+		assertThat( scanResult.getLocatedClasses() ).extracting( ClassDescriptor::getName )
+				.containsExactlyInAnyOrderElementsOf(
+						expected.getLocatedClasses().stream().map( ClassDescriptor::getName ).toList()
+				)
+				.contains( Version.class.getName() );
+		assertThat( scanResult.getLocatedMappingFiles() ).hasSameSizeAs( expected.getLocatedMappingFiles() );
+	}
+
+	private static ScanIndex buildScanIndex(File archive) throws Exception {
+		final ScanIndex.Builder builder = ScanIndex.builder();
+		try ( JarFile jarFile = new JarFile( archive ) ) {
+			final Enumeration<JarEntry> entries = jarFile.entries();
+			while ( entries.hasMoreElements() ) {
+				final JarEntry entry = entries.nextElement();
+				if ( entry.getName().endsWith( ".class" ) ) {
+					try ( InputStream inputStream = jarFile.getInputStream( entry ) ) {
+						builder.addClassFile( entry.getName(), inputStream );
+					}
+				}
+			}
+		}
+		return builder.build();
+	}
+
+	private static String write(ScanIndex scanIndex) throws Exception {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		scanIndex.write( outputStream );
+		return outputStream.toString( StandardCharsets.UTF_8 );
+	}
+
+	private File addScanIndex(File archive, String index) {
+		final JavaArchive indexedArchive = ShrinkWrap.create( ZipImporter.class, "indexedpar.par" )
+				.importFrom( archive )
+				.as( JavaArchive.class );
+		indexedArchive.add( new ByteArrayAsset( index.getBytes( StandardCharsets.UTF_8 ) ), ScanIndex.RESOURCE_NAME );
+		final File indexedPar = new File( packageTargetDir, "indexedpar.par" );
+		indexedArchive.as( ZipExporter.class ).exportTo( indexedPar, true );
+		return indexedPar;
+	}
+
+	private static ScanResult scan(File archive) throws Exception {
+		return scan( new ParsedPersistenceXmlDescriptor( archive.toURL() ) );
+	}
+
+	/**
+	 * Scan for the explicitly listed classes only, one of which is not an entity.
+	 */
+	private static ScanResult scanListed(File archive) throws Exception {
+		final ParsedPersistenceXmlDescriptor descriptor = new ParsedPersistenceXmlDescriptor( archive.toURL() );
+		descriptor.setExcludeUnlistedClasses( true );
+		descriptor.addClasses( Version.class.getName(), IncrementListener.class.getName() );
+		return scan( descriptor );
+	}
+
+	private static ScanResult scan(PersistenceUnitDescriptor descriptor) {
+		return new StandardScanner().scan(
+				new StandardJpaScanEnvironmentImpl( descriptor ),
+				new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() ),
+				StandardScanParameters.INSTANCE
+		);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that an access optimizer is generated for entities with private attributes.
+ */
+@DomainModel(annotatedClasses = {
+		NestmateAccessOptimizerTest.BaseEntity.class,
+		NestmateAccessOptimizerTest.Person.class
+})
+@SessionFactory
+public class NestmateAccessOptimizerTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testAccessOptimizer(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Person.class );
+		final ReflectionOptimizer reflectionOptimizer = persister.getRepresentationStrategy().getReflectionOptimizer();
+		assertThat( reflectionOptimizer ).isNotNull();
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = reflectionOptimizer.getAccessOptimizer();
+		assertThat( accessOptimizer ).isNotNull();
+		assertThat( accessOptimizer.getPropertyNames() ).containsExactlyInAnyOrder( "createdBy", "name", "age", "address" );
+
+		final Person person = new Person( 1L, "Gavin", 42, new Address( "Main Street", 7 ) );
+		person.setCreatedBy( "Steve" );
+		final Object[] values = accessOptimizer.getPropertyValues( person );
+		final Object[] expected = new Object[values.length];
+		final String[] propertyNames = accessOptimizer.getPropertyNames();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			switch ( propertyNames[i] ) {
+				case "createdBy" -> expected[i] = "Steve";
+				case "name" -> expected[i] = "Gavin";
+				case "age" -> expected[i] = 42;
+				case "address" -> expected[i] = person.address;
+			}
+		}
+		assertThat( values ).containsExactly( expected );
+
+		final Person copy = new Person();
+		accessOptimizer.setPropertyValues( copy, values );
+		assertThat( copy.getCreatedBy() ).isEqualTo( "Steve" );
+		assertThat( copy.name ).isEqualTo( "Gavin" );
+		assertThat( copy.age ).isEqualTo( 42 );
+		assertThat( copy.address ).isSameAs( person.address );
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Person( 1L, "Gavin", 42, new Address( "Main Street", 7 ) ) ) );
+		scope.inTransaction( session -> {
+			final Person person = session.find( Person.class, 1L );
+			assertThat( person.name ).isEqualTo( "Gavin" );
+			assertThat( person.age ).isEqualTo( 42 );
+			assertThat( person.address.street ).isEqualTo( "Main Street" );
+			assertThat( person.address.number ).isEqualTo( 7 );
+			person.age = 43;
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Person.class, 1L ).age ).isEqualTo( 43 ) );
+	}
+
+	@MappedSuperclass
+	public static abstract class BaseEntity {
+		@Id
+		private Long id;
+		private String createdBy;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getCreatedBy() {
+			return createdBy;
+		}
+
+		public void setCreatedBy(String createdBy) {
+			this.createdBy = createdBy;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person extends BaseEntity {
+		private String name;
+		private int age;
+		@Embedded
+		private Address address;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name, int age, Address address) {
+			setId( id );
+			this.name = name;
+			this.age = age;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private int number;
+
+		public Address() {
+		}
+
+		public Address(String street, int number) {
+			this.street = street;
+			this.number = number;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.CacheMissCoalescer;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent loads of data missing from the second-level cache share one database load.
+ */
+@DomainModel(annotatedClasses = {CacheMissCoalescingTest.Team.class, CacheMissCoalescingTest.Player.class})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.COALESCE_CACHE_MISSES, value = "true")
+})
+public class CacheMissCoalescingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Team team = new Team( 1L, "Hibernate" );
+			session.persist( team );
+			for ( long i = 1; i <= 3; i++ ) {
+				final Player player = new Player( i, "Player " + i );
+				session.persist( player );
+				team.players.add( player );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testLoadAfterEviction(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Team team = session.find( Team.class, 1L );
+			assertThat( team.name ).isEqualTo( "Hibernate" );
+			assertThat( team.players ).hasSize( 3 );
+		} );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 4 );
+		assertThat( statistics.getCollectionLoadCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Team team = session.find( Team.class, 1L );
+			assertThat( team.players ).hasSize( 3 );
+		} );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getCollectionLoadCount() ).isZero();
+	}
+
+	@Test
+	public void testConcurrentMissesShareOneLoad() throws Exception {
+		final CacheMissCoalescer coalescer = new CacheMissCoalescer();
+		final AtomicReference<String> cache = new AtomicReference<>();
+		final AtomicInteger databaseLoads = new AtomicInteger();
+		final CountDownLatch leaderLoading = new CountDownLatch( 1 );
+		final AtomicReference<Thread> follower = new AtomicReference<>();
+
+		final CompletableFuture<String> leaderResult = CompletableFuture.supplyAsync(
+				() -> coalescer.load( "Team", 1L, cache::get, () -> {
+					databaseLoads.incrementAndGet();
+					leaderLoading.countDown();
+					// don't finish loading until the follower is waiting for us
+					awaitWaiting( follower );
+					cache.set( "loaded" );
+					return "loaded";
+				} )
+		);
+		assertThat( leaderLoading.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		final CompletableFuture<String> followerResult = CompletableFuture.supplyAsync(
+				() -> {
+					follower.set( Thread.currentThread() );
+					return coalescer.load( "Team", 1L, cache::get, () -> {
+						databaseLoads.incrementAndGet();
+						return "reloaded";
+					} );
+				}
+		);
+
+		assertThat( leaderResult.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "loaded" );
+		assertThat( followerResult.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "loaded" );
+		assertThat( databaseLoads ).hasValue( 1 );
+	}
+
+	@Test
+	public void testDifferentRolesAreNotCoalesced() {
+		final CacheMissCoalescer coalescer = new CacheMissCoalescer();
+		final AtomicInteger databaseLoads = new AtomicInteger();
+		final String result = coalescer.load( "Team", 1L, () -> null, () ->
+				coalescer.load( "Player", 1L, () -> null, () -> {
+					databaseLoads.incrementAndGet();
+					return "player";
+				} )
+		);
+		assertThat( result ).isEqualTo( "player" );
+		assertThat( databaseLoads ).hasValue( 1 );
+	}
+
+	private static void awaitWaiting(AtomicReference<Thread> thread) {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( System.nanoTime() < deadline ) {
+			final Thread waiting = thread.get();
+			if ( waiting != null && waiting.getState() == Thread.State.TIMED_WAITING ) {
+				return;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	@Entity(name = "Team")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Team {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany
+		@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+		private Set<Player> players = new HashSet<>();
+
+		public Team() {
+		}
+
+		public Team(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Player")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Player {
+		@Id
+		private Long id;
+		private String name;
+
+		public Player() {
+		}
+
+		public Player(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
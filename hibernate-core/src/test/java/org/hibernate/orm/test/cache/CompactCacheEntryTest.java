@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Author.class,
+		CompactCacheEntryTest.Book.class,
+		CompactCacheEntryTest.SpecialEdition.class,
+})
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_COMPACT_CACHE_ENTRIES, value = "true"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+})
+public class CompactCacheEntryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", 400, LocalDate.of( 2004, 8, 1 ), Genre.TECHNICAL, author ) );
+			final SpecialEdition edition =
+					new SpecialEdition( 2L, "Java Persistence with Hibernate", 880, null, Genre.TECHNICAL, author );
+			edition.signed = true;
+			session.persist( edition );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( CompactCacheEntry.class );
+
+		// put into the cache
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+
+		scope.inSession( session -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object key = cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+			assertThat( cacheAccess.get( session, key ) ).isInstanceOf( byte[].class );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.pages ).isEqualTo( 400 );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			assertThat( book.genre ).isEqualTo( Genre.TECHNICAL );
+			assertThat( book.version ).isEqualTo( 0 );
+			assertThat( book.author.name ).isEqualTo( "Gavin" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testSubclassLoadedThroughRoot(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Book.class, 2L ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 2L );
+			assertThat( book ).isInstanceOf( SpecialEdition.class );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.published ).isNull();
+			assertThat( ( (SpecialEdition) book ).signed ).isTrue();
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	public enum Genre {
+		FICTION,
+		TECHNICAL
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private int pages;
+		private LocalDate published;
+		private Genre genre;
+		@ManyToOne
+		private Author author;
+		@Version
+		private int version;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int pages, LocalDate published, Genre genre, Author author) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+			this.published = published;
+			this.genre = genre;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "SpecialEdition")
+	public static class SpecialEdition extends Book {
+		private boolean signed;
+
+		public SpecialEdition() {
+		}
+
+		public SpecialEdition(Long id, String title, int pages, LocalDate published, Genre genre, Author author) {
+			super( id, title, pages, published, genre, author );
+		}
+	}
+}
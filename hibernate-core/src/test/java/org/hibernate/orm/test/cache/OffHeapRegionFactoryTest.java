@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = CacheSettings.OFF_HEAP_REGION_SIZE, value = "65536"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+})
+public class OffHeapRegionFactoryTest {
+	private static final String REGION = "item";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCacheHit(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getServiceRegistry().getService( RegionFactory.class ) )
+				.isInstanceOf( OffHeapRegionFactory.class );
+
+		scope.inTransaction( session -> session.persist( new Item( 1L, "first" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertThat( item.name ).isEqualTo( "first" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+
+		scope.inTransaction( session -> session.find( Item.class, 1L ).name = "renamed" );
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "renamed" ) );
+	}
+
+	@Test
+	public void testEvictionKeepsRegionWithinBudget(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 1000; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+			}
+		} );
+
+		final OffHeapStorageAccess storageAccess = (OffHeapStorageAccess)
+				( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( REGION ) )
+						.getCacheStorageAccess();
+		assertThat( storageAccess.getSizeInBytes() ).isLessThanOrEqualTo( 65536 );
+		assertThat( storageAccess.getElementCount() ).isGreaterThan( 0 ).isLessThan( 1000 );
+
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 1000; i++ ) {
+				assertThat( session.find( Item.class, i ).name ).isEqualTo( "item" + i );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION)
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
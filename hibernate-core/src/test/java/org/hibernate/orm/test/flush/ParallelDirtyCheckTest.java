@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.Session;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Parent.class,
+		ParallelDirtyCheckTest.Child.class,
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"))
+public class ParallelDirtyCheckTest {
+
+	// the threads which read the state of a Child during a flush
+	private static final Set<Thread> READING_THREADS = ConcurrentHashMap.newKeySet();
+	private static volatile boolean recording;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent first = new Parent( 1L, "first" );
+			final Parent second = new Parent( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( long i = 0; i < 500; i++ ) {
+				session.persist( new Child( i, "child" + i, first ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNothingDirty(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Child join fetch parent", Child.class ).getResultList();
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testCheckedInParallel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Child join fetch parent", Child.class ).getResultList();
+			flushRecordingThreads( session );
+		} );
+		assertThat( READING_THREADS ).anyMatch( thread -> thread instanceof ForkJoinWorkerThread );
+	}
+
+	@Test
+	public void testBelowThresholdCheckedSequentially(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Child> children =
+					session.createSelectionQuery( "from Child c join fetch c.parent where c.id < 5", Child.class )
+							.getResultList();
+			assertThat( children ).hasSize( 5 );
+			flushRecordingThreads( session );
+		} );
+		assertThat( READING_THREADS ).containsExactly( Thread.currentThread() );
+	}
+
+	private static void flushRecordingThreads(Session session) {
+		READING_THREADS.clear();
+		recording = true;
+		try {
+			session.flush();
+		}
+		finally {
+			recording = false;
+		}
+	}
+
+	@Test
+	public void testSomeDirty(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Child> children =
+					session.createSelectionQuery( "from Child join fetch parent order by id", Child.class )
+							.getResultList();
+			final Parent second = session.find( Parent.class, 2L );
+			int expectedUpdates = 0;
+			for ( Child child : children ) {
+				boolean dirty = false;
+				if ( child.id % 7 == 0 ) {
+					child.name = "renamed" + child.id;
+					dirty = true;
+				}
+				if ( child.id % 11 == 0 ) {
+					child.parent = second;
+					dirty = true;
+				}
+				if ( dirty ) {
+					expectedUpdates++;
+				}
+			}
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).hasSize( expectedUpdates )
+					.allMatch( sql -> sql.startsWith( "update " ) );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Child child : session.createSelectionQuery( "from Child join fetch parent", Child.class )
+					.getResultList() ) {
+				assertThat( child.name )
+						.isEqualTo( child.id % 7 == 0 ? "renamed" + child.id : "child" + child.id );
+				assertThat( child.parent.id ).isEqualTo( child.id % 11 == 0 ? 2L : 1L );
+			}
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		private Long id;
+		private String name;
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+
+		@Id
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			if ( recording ) {
+				READING_THREADS.add( Thread.currentThread() );
+				// give the common pool the time to take part
+				LockSupport.parkNanos( 100_000 );
+			}
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@ManyToOne
+		public Parent getParent() {
+			return parent;
+		}
+
+		public void setParent(Parent parent) {
+			this.parent = parent;
+		}
+	}
+}
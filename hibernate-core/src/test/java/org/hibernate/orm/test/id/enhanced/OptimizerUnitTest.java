@@ -4,11 +4,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.Properties;
+
+import org.hibernate.cfg.MappingSettings;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledPrefetchOptimizer;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 
 import org.hibernate.testing.orm.junit.BaseUnitTest;
@@ -302,6 +306,113 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicPooledPrefetchOptimizerUsage() {
+		Long next;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledPrefetchOptimizer( -1, 10 );
+		assertEquals( 5, ( (PooledPrefetchOptimizer) optimizer ).getLowWaterMark() );
+
+		// the first value defines a pool of its own
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		for ( int i = 2; i <= 5; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		// 6 leaves 5 values in the pool 2-11, so the pool 12-21 is prefetched
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 16, next.intValue() );
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 31, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledPrefetchOptimizerLowWaterMark() {
+		final Properties parameters = new Properties();
+		parameters.put( MappingSettings.PREFETCH_LOW_WATER_MARK, "1" );
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_PREFETCH, Long.class, 3, 1, parameters );
+		assertEquals( 1, ( (PooledPrefetchOptimizer) optimizer ).getLowWaterMark() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+
+		// 3 leaves 1 value in the pool 2-4
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 7, sequence.getCurrentValue() );
+
+		for ( int i = 4; i <= 6; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 10, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledPrefetchOptimizerPrefetchFailure() {
+		final SourceMock sequence = new SourceMock( 1, 10 ) {
+			private boolean failed;
+
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				if ( getTimesCalled() == 2 && !failed ) {
+					// the prefetch fails, without consuming a database value
+					failed = true;
+					throw new IllegalStateException( "prefetch failure" );
+				}
+				return super.getNextValue();
+			}
+		};
+		final Optimizer optimizer = buildPooledPrefetchOptimizer( -1, 10 );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// 6 leaves 5 values in the pool 2-11, and the prefetch fails,
+		// but the value taken from the pool is still handed out
+		assertEquals( 6, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		for ( int i = 7; i <= 11; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// the next pool is fetched when the current pool runs out
+		assertEquals( 12, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +433,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.id.enhanced.PooledPrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The low-water mark of the pooled-prefetch optimizer may be set globally.
+ */
+@DomainModel(annotatedClasses = PooledPrefetchLowWaterMarkSettingTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = MappingSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-prefetch"),
+		@Setting(name = MappingSettings.PREFETCH_LOW_WATER_MARK, value = "2")
+})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsSequences.class)
+public class PooledPrefetchLowWaterMarkSettingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLowWaterMarkSetting(SessionFactoryScope scope) {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator)
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Item.class ).getGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( PooledPrefetchOptimizer.class );
+		assertThat( ( (PooledPrefetchOptimizer) generator.getOptimizer() ).getLowWaterMark() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Item() );
+			}
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(distinct id) from Item", Long.class )
+						.getSingleResult() ).isEqualTo( 25L ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(generator = "item_seq")
+		@SequenceGenerator(name = "item_seq", allocationSize = 10)
+		private Long id;
+	}
+}
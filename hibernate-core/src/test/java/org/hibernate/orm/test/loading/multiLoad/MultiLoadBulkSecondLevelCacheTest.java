@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.CacheMode;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A multi-load looks up all the entities in the second-level cache with a single bulk operation.
+ */
+@DomainModel(annotatedClasses = MultiLoadBulkSecondLevelCacheTest.Event.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+public class MultiLoadBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Event( i, "text" + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSingleCacheLookup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 4 );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CacheGetCounter counter = new CacheGetCounter();
+		scope.inSession( session -> {
+			session.addEventListeners( counter );
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( events ).extracting( event -> event.text )
+					.containsExactly( "text1", "text2", "text3", "text4", "text5" );
+		} );
+		assertThat( counter.gets ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testManagedEntitiesAreSkipped(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			final Event managed = session.find( Event.class, 2 );
+			statistics.clear();
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.enableSessionCheck( true )
+					.multiLoad( 1, 2, 3 );
+			assertThat( events ).hasSize( 3 );
+			assertThat( events.get( 1 ) ).isSameAs( managed );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+	}
+
+	private static class CacheGetCounter implements SessionEventListener {
+		private int gets;
+
+		@Override
+		public void cacheGetStart() {
+			gets++;
+		}
+	}
+
+	@Entity(name = "Event")
+	@Cacheable
+	public static class Event {
+		@Id
+		private Integer id;
+		private String text;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		PartitionedEntityMapTest.LongEntity.class,
+		PartitionedEntityMapTest.UuidEntity.class,
+		PartitionedEntityMapTest.StringEntity.class,
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PARTITIONED_ENTITY_MAP, value = "true"))
+public class PartitionedEntityMapTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testManyEntities(SessionFactoryScope scope) {
+		final List<UUID> uuids = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 1000; i++ ) {
+				session.persist( new LongEntity( i, "long" + i ) );
+				final UUID uuid = UUID.randomUUID();
+				uuids.add( uuid );
+				session.persist( new UuidEntity( uuid, "uuid" + i ) );
+				session.persist( new StringEntity( "id" + i, "string" + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from LongEntity", LongEntity.class ).getResultList();
+			session.createSelectionQuery( "from UuidEntity", UuidEntity.class ).getResultList();
+			session.createSelectionQuery( "from StringEntity", StringEntity.class ).getResultList();
+			assertThat( session.getStatistics().getEntityCount() ).isEqualTo( 3000 );
+
+			// remove every third entity, which shifts entries around in the hash tables
+			for ( long i = 0; i < 1000; i += 3 ) {
+				session.remove( session.find( LongEntity.class, i ) );
+				session.remove( session.find( UuidEntity.class, uuids.get( (int) i ) ) );
+				session.remove( session.find( StringEntity.class, "id" + i ) );
+			}
+			session.flush();
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister longPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( LongEntity.class );
+			final EntityPersister uuidPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( UuidEntity.class );
+			final EntityPersister stringPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( StringEntity.class );
+			for ( long i = 0; i < 1000; i++ ) {
+				final boolean removed = i % 3 == 0;
+				final LongEntity longEntity = (LongEntity) persistenceContext.getEntity( longPersister, i );
+				final UuidEntity uuidEntity =
+						(UuidEntity) persistenceContext.getEntity( uuidPersister, uuids.get( (int) i ) );
+				final StringEntity stringEntity =
+						(StringEntity) persistenceContext.getEntity( stringPersister, "id" + i );
+				if ( removed ) {
+					assertThat( longEntity ).isNull();
+					assertThat( uuidEntity ).isNull();
+					assertThat( stringEntity ).isNull();
+				}
+				else {
+					assertThat( longEntity.name ).isEqualTo( "long" + i );
+					assertThat( uuidEntity.name ).isEqualTo( "uuid" + i );
+					assertThat( stringEntity.name ).isEqualTo( "string" + i );
+					assertThat( session.find( LongEntity.class, i ) ).isSameAs( longEntity );
+				}
+			}
+			assertThat( session.getStatistics().getEntityCount() ).isEqualTo( 3 * 666 );
+
+			session.clear();
+			assertThat( persistenceContext.getEntity( longPersister, 1L ) ).isNull();
+		} );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		private Long id;
+		private String name;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "UuidEntity")
+	public static class UuidEntity {
+		@Id
+		private UUID id;
+		private String name;
+
+		public UuidEntity() {
+		}
+
+		public UuidEntity(UUID id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		private String id;
+		private String name;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
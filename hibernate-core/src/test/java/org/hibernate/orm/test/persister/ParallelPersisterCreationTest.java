@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persisters instantiated in parallel are registered as in a sequential boot.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterCreationTest.Owner.class,
+		ParallelPersisterCreationTest.Animal.class,
+		ParallelPersisterCreationTest.Dog.class,
+		ParallelPersisterCreationTest.Cat.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_PERSISTER_CREATION, value = "true"))
+public class ParallelPersisterCreationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersisters(SessionFactoryScope scope) {
+		final MappingMetamodelImplementor metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final EntityPersister animal = metamodel.getEntityDescriptor( Animal.class );
+		final EntityPersister dog = metamodel.getEntityDescriptor( Dog.class );
+		final EntityPersister cat = metamodel.getEntityDescriptor( Cat.class );
+		assertThat( dog.getSuperMappingType() ).isSameAs( animal );
+		assertThat( cat.getSuperMappingType() ).isSameAs( animal );
+		assertThat( metamodel.getCollectionDescriptor( Owner.class.getName() + ".pets" ).getElementPersister() )
+				.isSameAs( animal );
+		assertThat( metamodel.getCollectionDescriptor( Owner.class.getName() + ".nicknames" ) ).isNotNull();
+		assertThat( metamodel.getCollectionRolesByEntityParticipant( Animal.class.getName() ) )
+				.containsExactly( Owner.class.getName() + ".pets" );
+	}
+
+	@Test
+	public void testPersistAndQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1L );
+			owner.nicknames.add( "Bob" );
+			session.persist( owner );
+			session.persist( new Dog( 1L, owner, true ) );
+			session.persist( new Cat( 2L, owner, 9 ) );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1L );
+			assertThat( owner.nicknames ).containsExactly( "Bob" );
+			assertThat( owner.pets ).hasSize( 2 ).hasAtLeastOneElementOfType( Dog.class )
+					.hasAtLeastOneElementOfType( Cat.class );
+			assertThat( session.createSelectionQuery( "from Cat where lives = 9", Cat.class ).getResultList() )
+					.hasSize( 1 );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+		@OneToMany(mappedBy = "owner")
+		private Set<Animal> pets = new HashSet<>();
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Owner owner;
+
+		public Animal() {
+		}
+
+		public Animal(Long id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		private boolean goodBoy;
+
+		public Dog() {
+		}
+
+		public Dog(Long id, Owner owner, boolean goodBoy) {
+			super( id, owner );
+			this.goodBoy = goodBoy;
+		}
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat extends Animal {
+		private int lives;
+
+		public Cat() {
+		}
+
+		public Cat(Long id, Owner owner, int lives) {
+			super( id, owner );
+			this.lives = lives;
+		}
+	}
+}
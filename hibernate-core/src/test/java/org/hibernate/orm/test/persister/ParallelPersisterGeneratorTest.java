@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.CollectionId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each of many independent hierarchies gets its own identifier generator
+ * when the persisters are instantiated in parallel.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterGeneratorTest.Entity0.class,
+		ParallelPersisterGeneratorTest.Entity1.class,
+		ParallelPersisterGeneratorTest.Entity2.class,
+		ParallelPersisterGeneratorTest.Entity3.class,
+		ParallelPersisterGeneratorTest.Entity4.class,
+		ParallelPersisterGeneratorTest.Entity5.class,
+		ParallelPersisterGeneratorTest.Entity6.class,
+		ParallelPersisterGeneratorTest.Entity7.class,
+		ParallelPersisterGeneratorTest.Entity8.class,
+		ParallelPersisterGeneratorTest.Entity9.class,
+		ParallelPersisterGeneratorTest.Entity10.class,
+		ParallelPersisterGeneratorTest.Entity11.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_PERSISTER_CREATION, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsSequences.class)
+public class ParallelPersisterGeneratorTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testGenerators(SessionFactoryScope scope) {
+		final MappingMetamodelImplementor metamodel = scope.getSessionFactory().getMappingMetamodel();
+		for ( int i = 0; i < 12; i++ ) {
+			final Generator generator = metamodel.getEntityDescriptor( "Entity" + i ).getGenerator();
+			assertThat( generator ).isInstanceOf( SequenceStyleGenerator.class );
+			final SequenceStyleGenerator sequenceGenerator = (SequenceStyleGenerator) generator;
+			assertThat( sequenceGenerator.getDatabaseStructure().getPhysicalName().getObjectName().getText() )
+					.isEqualToIgnoringCase( "seq_" + i );
+			assertThat( sequenceGenerator.getDatabaseStructure().getIncrementSize() ).isEqualTo( i + 1 );
+		}
+	}
+
+	@Test
+	public void testPersist(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Entity0 entity = new Entity0();
+			entity.tags.add( "first" );
+			entity.tags.add( "second" );
+			session.persist( entity );
+			session.persist( new Entity11() );
+		} );
+		scope.inTransaction( session -> {
+			final Entity0 entity = session.createSelectionQuery( "from Entity0", Entity0.class ).getSingleResult();
+			assertThat( entity.id ).isNotNull();
+			assertThat( entity.tags ).containsExactlyInAnyOrder( "first", "second" );
+			assertThat( session.createSelectionQuery( "from Entity11", Entity11.class ).getSingleResult().id )
+					.isNotNull();
+		} );
+	}
+
+	@Entity(name = "Entity0")
+	@SequenceGenerator(name = "seq_0", sequenceName = "seq_0", allocationSize = 1)
+	public static class Entity0 {
+		@Id
+		@GeneratedValue(generator = "seq_0")
+		private Long id;
+		@ElementCollection
+		@CollectionId(column = @Column(name = "tag_id"), generator = "increment")
+		private List<String> tags = new ArrayList<>();
+	}
+
+	@Entity(name = "Entity1")
+	@SequenceGenerator(name = "seq_1", sequenceName = "seq_1", allocationSize = 2)
+	public static class Entity1 {
+		@Id
+		@GeneratedValue(generator = "seq_1")
+		private Long id;
+	}
+
+	@Entity(name = "Entity2")
+	@SequenceGenerator(name = "seq_2", sequenceName = "seq_2", allocationSize = 3)
+	public static class Entity2 {
+		@Id
+		@GeneratedValue(generator = "seq_2")
+		private Long id;
+	}
+
+	@Entity(name = "Entity3")
+	@SequenceGenerator(name = "seq_3", sequenceName = "seq_3", allocationSize = 4)
+	public static class Entity3 {
+		@Id
+		@GeneratedValue(generator = "seq_3")
+		private Long id;
+	}
+
+	@Entity(name = "Entity4")
+	@SequenceGenerator(name = "seq_4", sequenceName = "seq_4", allocationSize = 5)
+	public static class Entity4 {
+		@Id
+		@GeneratedValue(generator = "seq_4")
+		private Long id;
+	}
+
+	@Entity(name = "Entity5")
+	@SequenceGenerator(name = "seq_5", sequenceName = "seq_5", allocationSize = 6)
+	public static class Entity5 {
+		@Id
+		@GeneratedValue(generator = "seq_5")
+		private Long id;
+	}
+
+	@Entity(name = "Entity6")
+	@SequenceGenerator(name = "seq_6", sequenceName = "seq_6", allocationSize = 7)
+	public static class Entity6 {
+		@Id
+		@GeneratedValue(generator = "seq_6")
+		private Long id;
+	}
+
+	@Entity(name = "Entity7")
+	@SequenceGenerator(name = "seq_7", sequenceName = "seq_7", allocationSize = 8)
+	public static class Entity7 {
+		@Id
+		@GeneratedValue(generator = "seq_7")
+		private Long id;
+	}
+
+	@Entity(name = "Entity8")
+	@SequenceGenerator(name = "seq_8", sequenceName = "seq_8", allocationSize = 9)
+	public static class Entity8 {
+		@Id
+		@GeneratedValue(generator = "seq_8")
+		private Long id;
+	}
+
+	@Entity(name = "Entity9")
+	@SequenceGenerator(name = "seq_9", sequenceName = "seq_9", allocationSize = 10)
+	public static class Entity9 {
+		@Id
+		@GeneratedValue(generator = "seq_9")
+		private Long id;
+	}
+
+	@Entity(name = "Entity10")
+	@SequenceGenerator(name = "seq_10", sequenceName = "seq_10", allocationSize = 11)
+	public static class Entity10 {
+		@Id
+		@GeneratedValue(generator = "seq_10")
+		private Long id;
+	}
+
+	@Entity(name = "Entity11")
+	@SequenceGenerator(name = "seq_11", sequenceName = "seq_11", allocationSize = 12)
+	public static class Entity11 {
+		@Id
+		@GeneratedValue(generator = "seq_11")
+		private Long id;
+	}
+}
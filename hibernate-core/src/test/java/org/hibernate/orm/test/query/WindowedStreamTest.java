@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		WindowedStreamTest.Owner.class,
+		WindowedStreamTest.Item.class,
+})
+@SessionFactory
+public class WindowedStreamTest {
+	private static final int ITEMS = 1000;
+	private static final int WINDOW = 50;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1L, "owner" );
+			session.persist( owner );
+			for ( long i = 0; i < ITEMS; i++ ) {
+				session.persist( new Item( i, "item" + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersistenceContextStaysBounded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// already managed before the stream begins, so it must stay managed
+			final Owner owner = session.find( Owner.class, 1L );
+			final AtomicInteger count = new AtomicInteger();
+			final AtomicInteger maxManaged = new AtomicInteger();
+			try ( Stream<Item> stream =
+						session.createSelectionQuery( "from Item join fetch owner order by id", Item.class )
+								.stream( WINDOW ) ) {
+				stream.forEach( item -> {
+					assertThat( item.name ).isEqualTo( "item" + count.getAndIncrement() );
+					assertThat( item.owner ).isSameAs( owner );
+					maxManaged.accumulateAndGet( session.getStatistics().getEntityCount(), Math::max );
+				} );
+			}
+			assertThat( count ).hasValue( ITEMS );
+			assertThat( maxManaged.get() ).isLessThanOrEqualTo( WINDOW + 1 );
+			assertThat( session.contains( owner ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testFlushedChangesAreKept(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Item> stream =
+						session.createSelectionQuery( "from Item order by id", Item.class ).stream( WINDOW ) ) {
+				stream.forEach( item -> {
+					item.name = "renamed" + item.id;
+					if ( ( item.id + 1 ) % WINDOW == 0 ) {
+						session.flush();
+					}
+				} );
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item where name like 'renamed%'", Long.class )
+						.getSingleResult()
+		).isEqualTo( (long) ITEMS ) );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria.plan;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Structurally identical criteria queries share a query plan.
+ */
+@DomainModel(annotatedClasses = {CriteriaPlanSharingTest.Author.class, CriteriaPlanSharingTest.Book.class})
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.CRITERIA_COPY_TREE, value = "true"),
+				@Setting(name = AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@SessionFactory
+class CriteriaPlanSharingTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author gavin = new Author( 1L, "Gavin" );
+			final Author steve = new Author( 2L, "Steve" );
+			session.persist( gavin );
+			session.persist( steve );
+			session.persist( new Book( 1L, "Hibernate in Action", 400, gavin ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", 880, gavin ) );
+			session.persist( new Book( 3L, "Hibernate Search in Action", 488, steve ) );
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	void testValuesShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( byAuthorAndPages( session, "Gavin", 500 ) )
+					.containsExactly( "Java Persistence with Hibernate" );
+			assertThat( byAuthorAndPages( session, "Steve", 100 ) )
+					.containsExactly( "Hibernate Search in Action" );
+			assertThat( byAuthorAndPages( session, "Gavin", 100 ) )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testParametersShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( byAuthorParameter( session, "Gavin" ) ).hasSize( 2 );
+			assertThat( byAuthorParameter( session, "Steve" ) ).containsExactly( "Hibernate Search in Action" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testDifferentStructureDoesNotShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Book> book = query.from( Book.class );
+			query.select( book.get( "title" ) )
+					.where( cb.greaterThan( book.get( "pages" ), 500 ) );
+			assertThat( session.createQuery( query ).getResultList() )
+					.containsExactly( "Java Persistence with Hibernate" );
+
+			assertThat( byAuthorAndPages( session, "Steve", 100 ) )
+					.containsExactly( "Hibernate Search in Action" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isZero();
+	}
+
+	@Test
+	void testRepeatedValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			// equal values are bound to one parameter, so
+			// these queries do not have the same structure
+			assertThat( byPages( session, 400, 400, 880 ) )
+					.containsExactly( "Hibernate in Action" );
+			assertThat( byPages( session, 400, 880, 880 ) )
+					.containsExactly( "Hibernate in Action", "Hibernate Search in Action" );
+			assertThat( byPages( session, 488, 488, 400 ) )
+					.containsExactly( "Hibernate Search in Action" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> byPages(SessionImplementor session, int min, int max, int excluded) {
+		final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> book = query.from( Book.class );
+		query.select( book.get( "title" ) )
+				.where(
+						cb.greaterThanOrEqualTo( book.get( "pages" ), min ),
+						cb.lessThanOrEqualTo( book.get( "pages" ), max ),
+						cb.notEqual( book.get( "pages" ), excluded )
+				)
+				.orderBy( cb.asc( book.get( "id" ) ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	private static List<String> byAuthorAndPages(SessionImplementor session, String author, int pages) {
+		final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> book = query.from( Book.class );
+		query.select( book.get( "title" ) )
+				.where(
+						cb.equal( book.get( "author" ).get( "name" ), author ),
+						cb.greaterThan( book.get( "pages" ), pages )
+				)
+				.orderBy( cb.asc( book.get( "id" ) ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	private static List<String> byAuthorParameter(SessionImplementor session, String author) {
+		final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> book = query.from( Book.class );
+		final JpaParameterExpression<String> name = cb.parameter( String.class );
+		query.select( book.get( "title" ) )
+				.where( cb.equal( book.get( "author" ).get( "name" ), name ) )
+				.orderBy( cb.asc( book.get( "id" ) ) );
+		return session.createQuery( query ).setParameter( name, author ).getResultList();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private int pages;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int pages, Author author) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+			this.author = author;
+		}
+	}
+}
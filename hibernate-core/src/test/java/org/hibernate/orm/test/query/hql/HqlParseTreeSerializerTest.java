@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.HqlParseTreeSerializer;
+import org.hibernate.query.hql.internal.SemanticQueryBuilder;
+import org.hibernate.query.hql.spi.SqmCreationOptions;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HqlParseTreeSerializer}.
+ */
+@DomainModel(annotatedClasses = HqlParseTreeSerializerTest.MyEntity.class)
+@SessionFactory
+public class HqlParseTreeSerializerTest {
+
+	private static final SqmCreationOptions CREATION_OPTIONS = new SqmCreationOptions() {
+	};
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"select e from MyEntity e where e.name = :name order by e.id desc nulls last",
+			"select cast(e.amount as java.lang.String), upper(e.name) from MyEntity e",
+			"from MyEntity where id in (select max(id) from MyEntity group by name having count(*) > 1)",
+			"select new map(e.id as id, e.name as name)\nfrom MyEntity e\nwhere e.amount > ?1",
+			"select e.name, count(e) from MyEntity e group by e.name order by 2",
+			"update MyEntity set name = 'x' where amount between 1 and 5",
+			"delete from MyEntity e where e.name like 'a%' escape '!'",
+			"insert into MyEntity (id, name, amount) values (1, 'one', 1)"
+	})
+	public void testRoundTrip(String hql, SessionFactoryScope scope) {
+		final HqlParser parser = parser( hql );
+		final HqlParser.StatementContext parseTree = parser.statement();
+
+		final String serialized = HqlParseTreeSerializer.serialize( hql, parseTree );
+		assertThat( serialized ).isNotNull();
+		final HqlParser.StatementContext deserialized = HqlParseTreeSerializer.deserialize( hql, serialized );
+		assertThat( deserialized ).isNotNull();
+
+		assertThat( deserialized.toStringTree( parser ) ).isEqualTo( parseTree.toStringTree( parser ) );
+		assertThat( deserialized.getStart().getText() ).isEqualTo( parseTree.getStart().getText() );
+		assertThat( deserialized.getStop().getType() ).isEqualTo( parseTree.getStop().getType() );
+		assertThat( toHqlString( deserialized, hql, scope ) ).isEqualTo( toHqlString( parseTree, hql, scope ) );
+	}
+
+	@Test
+	public void testSyntaxErrorNotSerialized() {
+		final String hql = "select e from MyEntity e where";
+		final HqlParser parser = parser( hql );
+		parser.removeErrorListeners();
+		assertThat( HqlParseTreeSerializer.serialize( hql, parser.statement() ) ).isNull();
+	}
+
+	@Test
+	public void testOtherVersionIgnored() {
+		final String hql = "from MyEntity";
+		final String serialized = HqlParseTreeSerializer.serialize( hql, parser( hql ).statement() );
+		assertThat( serialized ).isNotNull();
+		final String otherVersion = "0.0.0" + serialized.substring( serialized.indexOf( ';' ) );
+		assertThat( HqlParseTreeSerializer.deserialize( hql, otherVersion ) ).isNull();
+		assertThat( HqlParseTreeSerializer.deserialize( hql, serialized + "(" ) ).isNull();
+	}
+
+	@Test
+	public void testOtherQueryIgnored() {
+		final String hql = "from MyEntity where amount > 10";
+		final String serialized = HqlParseTreeSerializer.serialize( hql, parser( hql ).statement() );
+		assertThat( serialized ).isNotNull();
+		assertThat( HqlParseTreeSerializer.deserialize( hql, serialized ) ).isNotNull();
+		// same length, different operator
+		assertThat( HqlParseTreeSerializer.deserialize( "from MyEntity where amount < 10", serialized ) ).isNull();
+		assertThat( HqlParseTreeSerializer.deserialize( "from MyEntity where amount > 100", serialized ) ).isNull();
+	}
+
+	private static HqlParser parser(String hql) {
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		return HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, lexer );
+	}
+
+	private static String toHqlString(HqlParser.StatementContext parseTree, String hql, SessionFactoryScope scope) {
+		return SemanticQueryBuilder.buildSemanticModel(
+				parseTree,
+				null,
+				CREATION_OPTIONS,
+				scope.getSessionFactory().getQueryEngine().getCriteriaBuilder(),
+				hql
+		).toHqlString();
+	}
+
+	@Entity(name = "MyEntity")
+	public static class MyEntity {
+		@Id
+		private Long id;
+		private String name;
+		private Integer amount;
+	}
+}
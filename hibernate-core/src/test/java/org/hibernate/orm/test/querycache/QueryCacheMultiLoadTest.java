@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.QueryCacheLayout;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entities referenced by a query cache entry are loaded using a single multi-load.
+ */
+@DomainModel(annotatedClasses = QueryCacheMultiLoadTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class QueryCacheMultiLoadTest {
+	private static final String QUERY = "from Book order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+		// put the query results in the query cache
+		scope.inTransaction( session -> assertThat( listBooks( session ) ).hasSize( 5 ) );
+		scope.getSessionFactory().getCache().evictEntityData( Book.class );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSingleSelect(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Book> books = listBooks( session );
+			assertThat( books ).extracting( book -> book.title )
+					.containsExactly( "Book 1", "Book 2", "Book 3", "Book 4", "Book 5" );
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testManagedEntitiesAreNotReloaded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Book managed = session.find( Book.class, 3L );
+			statistics.clear();
+			final List<Book> books = listBooks( session );
+			assertThat( books ).extracting( book -> book.title )
+					.containsExactly( "Book 1", "Book 2", "Book 3", "Book 4", "Book 5" );
+			assertThat( books.get( 2 ) ).isSameAs( managed );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	private static List<Book> listBooks(SessionImplementor session) {
+		return session.createSelectionQuery( QUERY, Book.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@QueryCacheLayout(layout = CacheLayout.SHALLOW)
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The last update timestamps of all the query spaces of a cached query are read using a single cache lookup.
+ */
+@DomainModel(annotatedClasses = {QueryCacheTimestampsBulkLookupTest.Author.class, QueryCacheTimestampsBulkLookupTest.Book.class})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class QueryCacheTimestampsBulkLookupTest {
+	private static final String QUERY =
+			"select b.title from Book b join b.author a where a.name = 'Gavin' order by b.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author gavin = new Author( 1L, "Gavin" );
+			final Author anotherGavin = new Author( 2L, "Gavin" );
+			session.persist( gavin );
+			session.persist( anotherGavin );
+			session.persist( new Book( 1L, "Hibernate in Action", gavin ) );
+			session.persist( new Book( 2L, "Hibernate Search in Action", anotherGavin ) );
+		} );
+		// put the query results in the query cache
+		scope.inTransaction( session -> assertThat( listBooks( session ) ).hasSize( 2 ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSingleTimestampsLookup(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CacheGetCounter counter = new CacheGetCounter();
+		scope.inTransaction( session -> {
+			session.addEventListeners( counter );
+			assertThat( listBooks( session ) ).containsExactly( "Hibernate in Action", "Hibernate Search in Action" );
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() ).isEqualTo( 2 );
+		// one lookup of the query results, and one of the timestamps
+		assertThat( counter.gets ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesCachedResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Author.class, 2L ).name = "Emmanuel" );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session ->
+				assertThat( listBooks( session ) ).containsExactly( "Hibernate in Action" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> listBooks(SessionImplementor session) {
+		return session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static class CacheGetCounter implements SessionEventListener {
+		private int gets;
+
+		@Override
+		public void cacheGetStart() {
+			gets++;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
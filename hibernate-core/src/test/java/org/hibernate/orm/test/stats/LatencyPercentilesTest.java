@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.internal.LatencyHistogram;
+import org.hibernate.stat.spi.LatencyListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Percentiles of latencies estimated from {@link LatencyHistogram}s.
+ */
+@DomainModel(annotatedClasses = LatencyPercentilesTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class LatencyPercentilesTest {
+	private static final String QUERY = "from Item";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isZero();
+		for ( long millis = 1; millis <= 1000; millis++ ) {
+			histogram.record( millis * 1000 );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isCloseTo( 500, within( 500 * 0.125 ) );
+		assertThat( histogram.getValueAtPercentile( 95 ) ).isCloseTo( 950, within( 950 * 0.125 ) );
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isCloseTo( 990, within( 990 * 0.125 ) );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isGreaterThanOrEqualTo( 1000 );
+
+		histogram.clear();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isZero();
+	}
+
+	@Test
+	public void testDecay() {
+		final AtomicLong now = new AtomicLong();
+		final LatencyHistogram histogram = new LatencyHistogram( now::get );
+		for ( int i = 0; i < 1000; i++ ) {
+			histogram.record( 100_000 );
+		}
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isCloseTo( 100, within( 100 * 0.125 ) );
+
+		// a minute later, the old durations weigh half as much
+		now.addAndGet( LatencyHistogram.DECAY_INTERVAL_NANOS );
+		assertThat( histogram.getCount() ).isEqualTo( 500 );
+
+		// so that the percentiles follow a change in latency
+		for ( int i = 0; i < 1000; i++ ) {
+			histogram.record( 1_000 );
+		}
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isCloseTo( 1, within( 1 * 0.125 ) );
+
+		// until the durations are eventually forgotten
+		now.addAndGet( 64 * LatencyHistogram.DECAY_INTERVAL_NANOS );
+		assertThat( histogram.getCount() ).isZero();
+	}
+
+	@Test
+	public void testOutOfRangeValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( -1 );
+		histogram.record( Long.MAX_VALUE );
+		assertThat( histogram.getValueAtPercentile( 0 ) ).isZero();
+		assertThat( histogram.getValueAtPercentile( 100 ) )
+				.isEqualTo( LatencyHistogram.MAX_TRACKABLE_MICROSECONDS / 1000.0 );
+		assertThatThrownBy( () -> histogram.getValueAtPercentile( 101 ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	@Test
+	public void testStatistics(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final LongAdder queryExecutions = new LongAdder();
+		final LatencyListener listener = new LatencyListener() {
+			@Override
+			public void queryExecuted(String query, long nanoseconds) {
+				assertThat( nanoseconds ).isPositive();
+				queryExecutions.increment();
+			}
+		};
+		( (StatisticsImplementor) statistics ).addLatencyListener( listener );
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 5; id++ ) {
+				session.persist( new Item( id, "Item " + id ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			session.find( Item.class, 1L );
+			assertThat( session.createSelectionQuery( QUERY, Item.class ).getResultList() ).hasSize( 5 );
+		} );
+
+		assertThat( statistics.getFlushTimePercentile( 50 ) )
+				.isLessThanOrEqualTo( statistics.getFlushTimePercentile( 99 ) );
+		assertThat( statistics.getEntityLoadTimePercentile( 99 ) ).isPositive();
+		assertThat( statistics.getQueryExecutionTimePercentile( 100 ) )
+				.isGreaterThanOrEqualTo( statistics.getQueryExecutionMaxTime() );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getExecutionTimePercentile( 100 ) )
+				.isGreaterThanOrEqualTo( queryStatistics.getExecutionMaxTime() );
+
+		( (StatisticsImplementor) statistics ).removeLatencyListener( listener );
+		assertThat( queryExecutions.sum() ).isEqualTo( statistics.getQueryExecutionCount() );
+
+		statistics.clear();
+		assertThat( statistics.getEntityLoadTimePercentile( 99 ) ).isZero();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
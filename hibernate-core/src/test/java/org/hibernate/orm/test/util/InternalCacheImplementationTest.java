@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InternalCacheImplementationTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "tinylfu", "caffeine" })
+	public void testBoundedAndCounted(String implementation) {
+		try ( StandardServiceRegistry registry = registry( implementation ) ) {
+			final InternalCache<Integer, String> cache =
+					registry.requireService( InternalCacheFactory.class ).createInternalCache( 100 );
+
+			for ( int i = 0; i < 1000; i++ ) {
+				cache.put( i, "value" + i );
+			}
+			assertThat( cache.heldElementsEstimate() ).isLessThanOrEqualTo( 100 );
+			assertThat( cache.getEvictionCount() ).isGreaterThanOrEqualTo( 900 );
+
+			cache.clear();
+			assertThat( cache.get( 1 ) ).isNull();
+			assertThat( cache.computeIfAbsent( 1, k -> "one" ) ).isEqualTo( "one" );
+			assertThat( cache.get( 1 ) ).isEqualTo( "one" );
+			assertThat( cache.getHitCount() ).isEqualTo( 1 );
+			assertThat( cache.getMissCount() ).isEqualTo( 2 );
+		}
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		try ( StandardServiceRegistry registry = registry( "tinylfu" ) ) {
+			final InternalCache<Integer, String> cache =
+					registry.requireService( InternalCacheFactory.class ).createInternalCache( 100 );
+
+			for ( int i = 0; i < 50; i++ ) {
+				cache.put( i, "hot" + i );
+			}
+			for ( int round = 0; round < 20; round++ ) {
+				for ( int i = 0; i < 50; i++ ) {
+					cache.get( i );
+				}
+			}
+			// a scan of one-off keys must not flush the hot entries
+			for ( int i = 1000; i < 11000; i++ ) {
+				cache.put( i, "cold" + i );
+			}
+
+			int retained = 0;
+			for ( int i = 0; i < 50; i++ ) {
+				if ( cache.get( i ) != null ) {
+					retained++;
+				}
+			}
+			assertThat( retained ).isGreaterThan( 40 );
+		}
+	}
+
+	@Test
+	public void testComputeIfAbsentComputesOnce() {
+		try ( StandardServiceRegistry registry = registry( "tinylfu" ) ) {
+			final InternalCache<String, String> cache =
+					registry.requireService( InternalCacheFactory.class ).createInternalCache( 10 );
+			final AtomicInteger computations = new AtomicInteger();
+			for ( int i = 0; i < 5; i++ ) {
+				cache.computeIfAbsent( "key", k -> {
+					computations.incrementAndGet();
+					return "value";
+				} );
+			}
+			assertThat( computations ).hasValue( 1 );
+		}
+	}
+
+	@Test
+	public void testLegacyDoesNotCount() {
+		try ( StandardServiceRegistry registry = registry( "legacy" ) ) {
+			final InternalCache<String, String> cache =
+					registry.requireService( InternalCacheFactory.class ).createInternalCache( 10 );
+			cache.put( "key", "value" );
+			assertThat( cache.get( "key" ) ).isEqualTo( "value" );
+			assertThat( cache.getHitCount() ).isEqualTo( -1L );
+			assertThat( cache.getEvictionCount() ).isEqualTo( -1L );
+		}
+	}
+
+	@Test
+	public void testUnknownImplementation() {
+		assertThatThrownBy( () -> {
+			try ( StandardServiceRegistry registry = registry( "lru" ) ) {
+				registry.requireService( InternalCacheFactory.class );
+			}
+		} ).hasRootCauseInstanceOf( ConfigurationException.class );
+	}
+
+	private static StandardServiceRegistry registry(String implementation) {
+		final StandardServiceRegistryBuilder builder = ServiceRegistryUtil.serviceRegistryBuilder();
+		builder.applySetting( QuerySettings.QUERY_PLAN_CACHE_IMPLEMENTATION, implementation );
+		return builder.build();
+	}
+}
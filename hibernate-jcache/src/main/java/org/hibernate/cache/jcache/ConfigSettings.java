@@ -42,4 +42,38 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of entries held by the near cache of each region, a local
+	 * copy of recently read entries kept in front of the JCache {@link javax.cache.Cache}.
+	 * A near cache avoids a network round trip for every read when the JCache provider
+	 * is remote.
+	 * <p>
+	 * Only regions in which all data is cached using
+	 * {@link org.hibernate.cache.spi.access.AccessType#READ_ONLY READ_ONLY} or
+	 * {@link org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE NONSTRICT_READ_WRITE}
+	 * access have a near cache. Entries are invalidated when they are removed through
+	 * Hibernate, and when the JCache provider reports that they were updated, removed,
+	 * or expired.
+	 * <p>
+	 * Default value is {@code 0}, meaning that there is no near cache.
+	 *
+	 * @since 7.1
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = PROP_PREFIX + "near_cache.max_entries";
+
+	/**
+	 * The time in milliseconds after which an entry of a near cache is discarded, and
+	 * read again from the JCache {@link javax.cache.Cache}. This bounds the staleness of
+	 * near cache entries whose invalidation is never reported by the JCache provider,
+	 * for example, after {@link javax.cache.Cache#clear()}.
+	 * <p>
+	 * Default value is {@code 0}, meaning that entries are kept until they are evicted
+	 * or invalidated.
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.1
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = PROP_PREFIX + "near_cache.time_to_live";
 }
@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -36,11 +39,21 @@ public Object getFromCache(Object key, SharedSessionContractImplementor session)
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( keys instanceof Set<?> ? (Set<?>) keys : Set.copyOf( keys ) );
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( entries );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
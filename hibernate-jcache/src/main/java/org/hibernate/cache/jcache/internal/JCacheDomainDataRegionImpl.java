@@ -5,6 +5,7 @@
 package org.hibernate.cache.jcache.internal;
 
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
@@ -34,6 +35,35 @@ public JCacheDomainDataRegionImpl(
 		super( regionConfig, regionFactory, domainDataStorageAccess, defaultKeysFactory, buildingContext );
 	}
 
+	/**
+	 * Determine whether the given region may have a near cache: all its data must
+	 * be cached using an access type which does not lock entries in the cache.
+	 *
+	 * @see NearCachingJCacheAccessImpl
+	 */
+	public static boolean isNearCacheable(DomainDataRegionConfig regionConfig) {
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getEntityCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getNaturalIdCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getCollectionCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isNearCacheable(AccessType accessType) {
+		return accessType == AccessType.READ_ONLY || accessType == AccessType.NONSTRICT_READ_WRITE;
+	}
+
 	@Override
 	protected EntityDataAccess generateTransactionalEntityDataAccess(EntityDataCachingConfig entityAccessConfig) {
 		L2CACHE_LOGGER.nonStandardSupportForAccessType(
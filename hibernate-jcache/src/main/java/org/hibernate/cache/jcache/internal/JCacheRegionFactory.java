@@ -33,6 +33,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 
 /**
  * @author Alex Snaps
@@ -42,6 +44,8 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile int nearCacheMaxEntries;
+	private volatile long nearCacheTimeToLive;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -78,9 +82,14 @@ public DomainDataRegion buildDomainDataRegion(
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
-		);
+		final Cache<Object, Object> cache =
+				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() );
+		if ( nearCacheMaxEntries > 0 && JCacheDomainDataRegionImpl.isNearCacheable( regionConfig ) ) {
+			return new NearCachingJCacheAccessImpl( cache, nearCacheMaxEntries, nearCacheTimeToLive );
+		}
+		else {
+			return new JCacheAccessImpl( cache );
+		}
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -190,6 +199,8 @@ protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object>
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.nearCacheMaxEntries = getInt( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, configValues, 0 );
+		this.nearCacheTimeToLive = getLong( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, configValues, 0 );
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
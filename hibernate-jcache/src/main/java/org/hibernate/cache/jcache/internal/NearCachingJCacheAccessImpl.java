@@ -0,0 +1,362 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.cache.Cache;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link JCacheAccessImpl} which keeps a bounded local copy of recently read
+ * entries, so that repeated reads of the same data do not each need a round trip
+ * to a remote JCache provider.
+ * <p>
+ * A local entry is invalidated when it is removed or evicted through Hibernate,
+ * and when the JCache provider notifies a listener that the entry was updated,
+ * removed, or expired, which covers changes made by other JVMs. Since not every
+ * change is reported by every provider, entries may also be given a time to live.
+ * Since a provider may serialize the listener, the listener refers to the near
+ * caches by the name of the underlying cache.
+ * <p>
+ * This is only safe for data cached using {@code READ_ONLY} or
+ * {@code NONSTRICT_READ_WRITE} access, since the other access types rely on
+ * locking entries in the underlying cache.
+ *
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 7.1
+ */
+public class NearCachingJCacheAccessImpl extends JCacheAccessImpl {
+	private static final int SEGMENTS = 16;
+
+	/**
+	 * The near caches of each underlying cache, by name, for the listeners
+	 */
+	private static final Map<String, Set<NearCachingJCacheAccessImpl>> NEAR_CACHES = new ConcurrentHashMap<>();
+
+	private final Segment[] segments;
+	private final long timeToLiveNanos;
+	private final LongAdder hits = new LongAdder();
+	private final MutableCacheEntryListenerConfiguration<Object, Object> listenerConfiguration;
+
+	public NearCachingJCacheAccessImpl(Cache<Object, Object> underlyingCache, int maxEntries, long timeToLiveMillis) {
+		super( underlyingCache );
+		final int segmentCount = maxEntries >= SEGMENTS * SEGMENTS ? SEGMENTS : 1;
+		segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( Math.max( 1, maxEntries / segmentCount ) );
+		}
+		timeToLiveNanos = timeToLiveMillis > 0 ? TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis ) : Long.MAX_VALUE;
+		NEAR_CACHES.compute( underlyingCache.getName(), (name, nearCaches) -> {
+			final Set<NearCachingJCacheAccessImpl> result =
+					nearCaches == null ? ConcurrentHashMap.newKeySet() : nearCaches;
+			result.add( this );
+			return result;
+		} );
+		listenerConfiguration = registerInvalidationListener( underlyingCache );
+	}
+
+	private static MutableCacheEntryListenerConfiguration<Object, Object> registerInvalidationListener(Cache<Object, Object> cache) {
+		final MutableCacheEntryListenerConfiguration<Object, Object> configuration =
+				new MutableCacheEntryListenerConfiguration<>(
+						FactoryBuilder.factoryOf( new InvalidationListener( cache.getName() ) ),
+						null,
+						false,
+						false
+				);
+		try {
+			cache.registerCacheEntryListener( configuration );
+			return configuration;
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.warnf(
+					"Unable to register near cache invalidation listener for cache '%s', changes made by other JVMs will not be seen until entries expire: %s",
+					cache.getName(),
+					e.getMessage()
+			);
+			return null;
+		}
+	}
+
+	private Segment segment(Object key) {
+		final int hash = key.hashCode();
+		return segments[( hash ^ ( hash >>> 16 ) ) & ( segments.length - 1 )];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Segment segment = segment( key );
+		final Object nearValue = segment.get( key );
+		if ( nearValue != null ) {
+			hits.increment();
+			return nearValue;
+		}
+		final long invalidations = segment.invalidations();
+		final Object value = super.getFromCache( key, session );
+		if ( value != null ) {
+			// unless the key was invalidated while we were reading it
+			segment.put( key, value, invalidations, System.nanoTime() + timeToLiveNanos );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		final Map<Object, Long> missing = new HashMap<>();
+		for ( Object key : keys ) {
+			final Segment segment = segment( key );
+			final Object nearValue = segment.get( key );
+			if ( nearValue != null ) {
+				hits.increment();
+				result.put( key, nearValue );
+			}
+			else {
+				missing.put( key, segment.invalidations() );
+			}
+		}
+		if ( !missing.isEmpty() ) {
+			final Map<Object, Object> values = super.getAllFromCache( missing.keySet(), session );
+			final long expiresAt = System.nanoTime() + timeToLiveNanos;
+			for ( Map.Entry<Object, Object> entry : values.entrySet() ) {
+				final Object key = entry.getKey();
+				// unless the key was invalidated while we were reading it
+				segment( key ).put( key, entry.getValue(), missing.get( key ), expiresAt );
+				result.put( key, entry.getValue() );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final Segment segment = segment( key );
+		final long invalidations = segment.invalidations();
+		super.putIntoCache( key, value, session );
+		segment.put( key, value, invalidations, System.nanoTime() + timeToLiveNanos );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		final Map<Object, Long> invalidations = new HashMap<>( entries.size() );
+		for ( Object key : entries.keySet() ) {
+			invalidations.put( key, segment( key ).invalidations() );
+		}
+		super.putAllIntoCache( entries, session );
+		final long expiresAt = System.nanoTime() + timeToLiveNanos;
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			final Object key = entry.getKey();
+			segment( key ).put( key, entry.getValue(), invalidations.get( key ), expiresAt );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		super.removeFromCache( key, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		super.evictData( key );
+		invalidate( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		super.clearCache( session );
+		invalidateAll();
+	}
+
+	@Override
+	public void evictData() {
+		super.evictData();
+		invalidateAll();
+	}
+
+	@Override
+	public void release() {
+		invalidateAll();
+		NEAR_CACHES.computeIfPresent( getUnderlyingCache().getName(), (name, nearCaches) -> {
+			nearCaches.remove( this );
+			return nearCaches.isEmpty() ? null : nearCaches;
+		} );
+		if ( listenerConfiguration != null ) {
+			try {
+				getUnderlyingCache().deregisterCacheEntryListener( listenerConfiguration );
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.debugf( "Unable to deregister near cache invalidation listener: %s", e.getMessage() );
+			}
+		}
+		super.release();
+	}
+
+	/**
+	 * Discard the local copy of the entry with the given key, if any.
+	 */
+	public void invalidate(Object key) {
+		segment( key ).invalidate( key );
+	}
+
+	/**
+	 * Discard all local copies.
+	 */
+	public void invalidateAll() {
+		for ( Segment segment : segments ) {
+			segment.invalidateAll();
+		}
+	}
+
+	/**
+	 * The number of reads which were served by the near cache.
+	 */
+	public long getNearCacheHitCount() {
+		return hits.sum();
+	}
+
+	private record NearEntry(Object value, long expiresAt) {
+	}
+
+	private static final class Segment {
+		private final Lock lock = new ReentrantLock();
+		private final Map<Object, NearEntry> entries;
+		private long invalidations;
+
+		private Segment(int maxEntries) {
+			entries = new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, NearEntry> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		Object get(Object key) {
+			lock.lock();
+			try {
+				final NearEntry entry = entries.get( key );
+				if ( entry == null ) {
+					return null;
+				}
+				else if ( entry.expiresAt - System.nanoTime() < 0 ) {
+					entries.remove( key );
+					return null;
+				}
+				else {
+					return entry.value;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		long invalidations() {
+			lock.lock();
+			try {
+				return invalidations;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void put(Object key, Object value, long expectedInvalidations, long expiresAt) {
+			lock.lock();
+			try {
+				if ( invalidations == expectedInvalidations ) {
+					entries.put( key, new NearEntry( value, expiresAt ) );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void invalidate(Object key) {
+			lock.lock();
+			try {
+				invalidations++;
+				entries.remove( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void invalidateAll() {
+			lock.lock();
+			try {
+				invalidations++;
+				entries.clear();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Invalidates local copies when the JCache provider reports a change
+	 * to an entry, including a change made by another JVM. The near caches
+	 * are looked up by name, so that a copy of the listener which has been
+	 * serialized by the provider still finds them.
+	 */
+	private static final class InvalidationListener
+			implements CacheEntryUpdatedListener<Object, Object>, CacheEntryRemovedListener<Object, Object>,
+					CacheEntryExpiredListener<Object, Object>, Serializable {
+		private final String cacheName;
+
+		private InvalidationListener(String cacheName) {
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		private void invalidate(Iterable<CacheEntryEvent<?, ?>> events) {
+			final Set<NearCachingJCacheAccessImpl> nearCaches = NEAR_CACHES.get( cacheName );
+			if ( nearCaches != null ) {
+				for ( CacheEntryEvent<?, ?> event : events ) {
+					for ( NearCachingJCacheAccessImpl nearCache : nearCaches ) {
+						nearCache.invalidate( event.getKey() );
+					}
+				}
+			}
+		}
+	}
+}
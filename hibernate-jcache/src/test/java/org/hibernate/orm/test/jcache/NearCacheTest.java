@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Factory;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.EventType;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.NearCachingJCacheAccessImpl;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { NearCacheTest.Country.class, NearCacheTest.Customer.class } )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "jcache" ),
+		@Setting( name = ConfigSettings.MISSING_CACHE_STRATEGY, value = "create" ),
+		@Setting( name = ConfigSettings.NEAR_CACHE_MAX_ENTRIES, value = "100" )
+} )
+public class NearCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( 1L, "France" ) );
+			session.persist( new Customer( 1L, "Gavin" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOnlyNonLockingRegionsAreNearCached(SessionFactoryScope scope) {
+		assertThat( storageAccess( scope, "countries" ) ).isInstanceOf( NearCachingJCacheAccessImpl.class );
+		assertThat( storageAccess( scope, "customers" ) ).isExactlyInstanceOf( JCacheAccessImpl.class );
+	}
+
+	@Test
+	public void testReadsServedLocally(SessionFactoryScope scope) {
+		final NearCachingJCacheAccessImpl access = (NearCachingJCacheAccessImpl) storageAccess( scope, "countries" );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		final long hitsBefore = access.getNearCacheHitCount();
+		statistics.clear();
+		for ( int i = 0; i < 10; i++ ) {
+			scope.inTransaction( session -> assertThat( session.find( Country.class, 1L ).name ).isEqualTo( "France" ) );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( access.getNearCacheHitCount() - hitsBefore ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testEvictionInvalidatesNearCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+
+		scope.getSessionFactory().getCache().evictEntityData( Country.class, 1L );
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testSerializedListenerInvalidatesNearCache(SessionFactoryScope scope) throws Exception {
+		final NearCachingJCacheAccessImpl access = (NearCachingJCacheAccessImpl) storageAccess( scope, "countries" );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+
+		@SuppressWarnings("unchecked")
+		final javax.cache.Cache<Object, Object> cache = access.getUnderlyingCache();
+		final Object key = cache.iterator().next().getKey();
+		@SuppressWarnings("unchecked")
+		final CompleteConfiguration<Object, Object> cacheConfiguration =
+				cache.getConfiguration( CompleteConfiguration.class );
+		// notify a serialized copy of the listener, as a provider might
+		int notified = 0;
+		for ( CacheEntryListenerConfiguration<Object, Object> configuration :
+				cacheConfiguration.getCacheEntryListenerConfigurations() ) {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+				out.writeObject( configuration.getCacheEntryListenerFactory() );
+			}
+			try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+				@SuppressWarnings("unchecked")
+				final Factory<CacheEntryListener<Object, Object>> factory =
+						(Factory<CacheEntryListener<Object, Object>>) in.readObject();
+				if ( factory.create() instanceof CacheEntryRemovedListener<Object, Object> listener ) {
+					listener.onRemoved( List.of( new RemovedEvent( cache, key ) ) );
+					notified++;
+				}
+			}
+		}
+		assertThat( notified ).isEqualTo( 1 );
+
+		final long hitsBefore = access.getNearCacheHitCount();
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		// read from the underlying cache
+		assertThat( access.getNearCacheHitCount() ).isEqualTo( hitsBefore );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	private static DomainDataStorageAccess storageAccess(SessionFactoryScope scope, String regionName) {
+		return ( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( regionName ) )
+				.getCacheStorageAccess();
+	}
+
+	private static class RemovedEvent extends CacheEntryEvent<Object, Object> {
+		private final Object key;
+
+		private RemovedEvent(javax.cache.Cache<Object, Object> source, Object key) {
+			super( source, EventType.REMOVED );
+			this.key = key;
+		}
+
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public Object getValue() {
+			return null;
+		}
+
+		@Override
+		public Object getOldValue() {
+			return null;
+		}
+
+		@Override
+		public boolean isOldValueAvailable() {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clazz) {
+			throw new IllegalArgumentException( "Cannot unwrap to " + clazz );
+		}
+	}
+
+	@Entity( name = "Country" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries" )
+	public static class Country {
+		@Id
+		private Long id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Customer" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers" )
+	public static class Customer {
+		@Id
+		private Long id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
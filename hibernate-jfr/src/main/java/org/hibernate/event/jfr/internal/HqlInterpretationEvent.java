@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(HqlInterpretationEvent.NAME)
+@Label("HQL Interpretation")
+@Category("Hibernate ORM")
+@Description("HQL Interpretation")
+@StackTrace
+@AllowNonPortable
+public class HqlInterpretationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.HqlInterpretationEvent";
+
+	@Label("Query Hash")
+	public int queryHash;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -50,6 +50,11 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType hqlInterpretationEventType = EventType.getEventType( HqlInterpretationEvent.class );
+	private static final EventType queryPlanCacheMissEventType = EventType.getEventType( QueryPlanCacheMissEvent.class );
+	private static final EventType sqmTranslationEventType = EventType.getEventType( SqmTranslationEvent.class );
+	private static final EventType sqlRenderingEventType = EventType.getEventType( SqlRenderingEvent.class );
+	private static final EventType resultProcessingEventType = EventType.getEventType( ResultProcessingEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -779,10 +784,137 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public HqlInterpretationEvent beginHqlInterpretationEvent() {
+		if ( hqlInterpretationEventType.isEnabled() ) {
+			final HqlInterpretationEvent hqlInterpretationEvent = new HqlInterpretationEvent();
+			hqlInterpretationEvent.begin();
+			return hqlInterpretationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeHqlInterpretationEvent(DiagnosticEvent event, String queryString) {
+		if ( event != null ) {
+			final HqlInterpretationEvent hqlInterpretationEvent = (HqlInterpretationEvent) event;
+			hqlInterpretationEvent.end();
+			if ( hqlInterpretationEvent.shouldCommit() ) {
+				hqlInterpretationEvent.queryHash = hash( queryString );
+				hqlInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public QueryPlanCacheMissEvent beginQueryPlanCacheMissEvent() {
+		if ( queryPlanCacheMissEventType.isEnabled() ) {
+			final QueryPlanCacheMissEvent queryPlanCacheMissEvent = new QueryPlanCacheMissEvent();
+			queryPlanCacheMissEvent.begin();
+			return queryPlanCacheMissEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryPlanCacheMissEvent(DiagnosticEvent event, String queryString) {
+		if ( event != null ) {
+			final QueryPlanCacheMissEvent queryPlanCacheMissEvent = (QueryPlanCacheMissEvent) event;
+			queryPlanCacheMissEvent.end();
+			if ( queryPlanCacheMissEvent.shouldCommit() ) {
+				queryPlanCacheMissEvent.queryHash = hash( queryString );
+				queryPlanCacheMissEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public SqmTranslationEvent beginSqmTranslationEvent() {
+		if ( sqmTranslationEventType.isEnabled() ) {
+			final SqmTranslationEvent sqmTranslationEvent = new SqmTranslationEvent();
+			sqmTranslationEvent.begin();
+			return sqmTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SqmTranslationEvent sqmTranslationEvent = (SqmTranslationEvent) event;
+			sqmTranslationEvent.end();
+			if ( sqmTranslationEvent.shouldCommit() ) {
+				sqmTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqmTranslationEvent.queryHash = hash( queryString );
+				sqmTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public SqlRenderingEvent beginSqlRenderingEvent() {
+		if ( sqlRenderingEventType.isEnabled() ) {
+			final SqlRenderingEvent sqlRenderingEvent = new SqlRenderingEvent();
+			sqlRenderingEvent.begin();
+			return sqlRenderingEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(DiagnosticEvent event, String queryString, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SqlRenderingEvent sqlRenderingEvent = (SqlRenderingEvent) event;
+			sqlRenderingEvent.end();
+			if ( sqlRenderingEvent.shouldCommit() ) {
+				sqlRenderingEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqlRenderingEvent.queryHash = hash( queryString );
+				sqlRenderingEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public ResultProcessingEvent beginResultProcessingEvent() {
+		if ( resultProcessingEventType.isEnabled() ) {
+			final ResultProcessingEvent resultProcessingEvent = new ResultProcessingEvent();
+			resultProcessingEvent.begin();
+			return resultProcessingEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultProcessingEvent(DiagnosticEvent event, int rowCount, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final ResultProcessingEvent resultProcessingEvent = (ResultProcessingEvent) event;
+			resultProcessingEvent.end();
+			if ( resultProcessingEvent.shouldCommit() ) {
+				resultProcessingEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultProcessingEvent.rowCount = rowCount;
+				resultProcessingEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		return session == null ? null : session.getSessionIdentifier().toString();
 	}
 
+	private static int hash(String string) {
+		return string == null ? 0 : string.hashCode();
+	}
+
 	private String getEntityName(EntityPersister persister) {
 		return StatsHelper.getRootEntityRole( persister ).getFullPath();
 	}
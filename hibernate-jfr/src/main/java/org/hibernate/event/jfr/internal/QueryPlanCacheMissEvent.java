@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryPlanCacheMissEvent.NAME)
+@Label("Query Plan Cache Miss")
+@Category("Hibernate ORM")
+@Description("Query Plan Cache Miss")
+@StackTrace
+@AllowNonPortable
+public class QueryPlanCacheMissEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryPlanCacheMissEvent";
+
+	@Label("Query Hash")
+	public int queryHash;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ResultProcessingEvent.NAME)
+@Label("Result Processing")
+@Category("Hibernate ORM")
+@Description("Result Processing")
+@StackTrace
+@AllowNonPortable
+public class ResultProcessingEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ResultProcessingEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Row Count")
+	public int rowCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqlRenderingEvent.NAME)
+@Label("SQL Rendering")
+@Category("Hibernate ORM")
+@Description("SQL Rendering")
+@StackTrace
+@AllowNonPortable
+public class SqlRenderingEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SqlRenderingEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query Hash")
+	public int queryHash;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqmTranslationEvent.NAME)
+@Label("SQM Translation")
+@Category("Hibernate ORM")
+@Description("SQM Translation")
+@StackTrace
+@AllowNonPortable
+public class SqmTranslationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SqmTranslationEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query Hash")
+	public int queryHash;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
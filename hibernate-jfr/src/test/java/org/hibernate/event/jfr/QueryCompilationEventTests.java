@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.HqlInterpretationEvent;
+import org.hibernate.event.jfr.internal.QueryPlanCacheMissEvent;
+import org.hibernate.event.jfr.internal.ResultProcessingEvent;
+import org.hibernate.event.jfr.internal.SqlRenderingEvent;
+import org.hibernate.event.jfr.internal.SqmTranslationEvent;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryCompilationEventTests.TestEntity.class
+})
+@SessionFactory
+public class QueryCompilationEventTests {
+	private static final String QUERY = "from TestEntity where name like :name order by id";
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(HqlInterpretationEvent.NAME)
+	@EnableEvent(QueryPlanCacheMissEvent.NAME)
+	@EnableEvent(SqmTranslationEvent.NAME)
+	@EnableEvent(SqlRenderingEvent.NAME)
+	@EnableEvent(ResultProcessingEvent.NAME)
+	public void testQueryCompilationEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( QUERY, TestEntity.class )
+										.setParameter( "name", "name_%" )
+										.getResultList() ).hasSize( 3 );
+					assertThat( session.createSelectionQuery( QUERY, TestEntity.class )
+										.setParameter( "name", "name_1" )
+										.getResultList() ).hasSize( 1 );
+				}
+		);
+
+		final List<RecordedEvent> hqlInterpretationEvents = events( HqlInterpretationEvent.NAME );
+		assertThat( hqlInterpretationEvents ).hasSize( 1 );
+		assertThat( hqlInterpretationEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( QUERY.hashCode() );
+
+		final List<RecordedEvent> queryPlanCacheMissEvents = events( QueryPlanCacheMissEvent.NAME );
+		assertThat( queryPlanCacheMissEvents ).hasSize( 1 );
+		assertThat( queryPlanCacheMissEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( QUERY.hashCode() );
+
+		final List<RecordedEvent> sqmTranslationEvents = events( SqmTranslationEvent.NAME );
+		assertThat( sqmTranslationEvents ).hasSize( 1 );
+		assertThat( sqmTranslationEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( QUERY.hashCode() );
+		assertThat( sqmTranslationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isNotNull();
+
+		final List<RecordedEvent> sqlRenderingEvents = events( SqlRenderingEvent.NAME );
+		assertThat( sqlRenderingEvents ).hasSize( 1 );
+		assertThat( sqlRenderingEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( QUERY.hashCode() );
+
+		final List<RecordedEvent> resultProcessingEvents = events( ResultProcessingEvent.NAME );
+		assertThat( resultProcessingEvents ).hasSize( 2 );
+		assertThat( resultProcessingEvents.get( 0 ).getInt( "rowCount" ) ).isEqualTo( 3 );
+		assertThat( resultProcessingEvents.get( 1 ).getInt( "rowCount" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@EnableEvent(QueryPlanCacheMissEvent.NAME)
+	@EnableEvent(SqmTranslationEvent.NAME)
+	@EnableEvent(SqlRenderingEvent.NAME)
+	public void testCriteriaQueryCompilationEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+					final JpaCriteriaQuery<TestEntity> query = builder.createQuery( TestEntity.class );
+					final JpaRoot<TestEntity> root = query.from( TestEntity.class );
+					query.where( builder.like( root.get( "name" ), "name_%" ) );
+					assertThat( session.createSelectionQuery( query )
+										.setQueryPlanCacheable( true )
+										.getResultList() ).hasSize( 3 );
+				}
+		);
+
+		final List<RecordedEvent> queryPlanCacheMissEvents = events( QueryPlanCacheMissEvent.NAME );
+		assertThat( queryPlanCacheMissEvents ).hasSize( 1 );
+		final int queryHash = queryPlanCacheMissEvents.get( 0 ).getInt( "queryHash" );
+		assertThat( queryHash ).isNotZero();
+
+		final List<RecordedEvent> sqmTranslationEvents = events( SqmTranslationEvent.NAME );
+		assertThat( sqmTranslationEvents ).hasSize( 1 );
+		assertThat( sqmTranslationEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( queryHash );
+
+		final List<RecordedEvent> sqlRenderingEvents = events( SqlRenderingEvent.NAME );
+		assertThat( sqlRenderingEvents ).hasSize( 1 );
+		assertThat( sqlRenderingEvents.get( 0 ).getInt( "queryHash" ) ).isEqualTo( queryHash );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs many sessions concurrently on virtual threads, and verifies that none
+ * of them ever pins its carrier thread.
+ */
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTests.TestEntity.class,
+})
+@SessionFactory
+public class VirtualThreadPinningTests {
+	private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+	private static final int THREADS = 10_000;
+	private static final int ENTITIES = 100;
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ENTITIES; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(VIRTUAL_THREAD_PINNED)
+	public void testNoPinningDuringLoadAndFlush(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = virtualThreadPerTaskExecutor();
+		jfrEvents.reset();
+		// the connection pool is tiny, and fails rather than waits when it is exhausted
+		final Semaphore connections = new Semaphore( 2 );
+		final List<Future<?>> futures = new ArrayList<>( THREADS );
+		try {
+			for ( int i = 0; i < THREADS; i++ ) {
+				final int id = i % ENTITIES;
+				futures.add( executor.submit( () -> {
+					connections.acquireUninterruptibly();
+					try {
+						scope.inTransaction(
+								session -> {
+									final TestEntity entity = session.find( TestEntity.class, id );
+									entity.counter++;
+									session.createSelectionQuery( "from TestEntity where id < :id", TestEntity.class )
+											.setParameter( "id", id )
+											.getResultList();
+								}
+						);
+					}
+					finally {
+						connections.release();
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+			assertThat( executor.awaitTermination( 1, TimeUnit.MINUTES ) ).isTrue();
+		}
+
+		jfrEvents.awaitEvents();
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( VIRTUAL_THREAD_PINNED ) )
+				.toList();
+		assertThat( events )
+				.as( () -> "Virtual threads were pinned:\n" + events )
+				.isEmpty();
+	}
+
+	private static ExecutorService virtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			assumeTrue( false, "Virtual threads are not supported by this JDK" );
+			return null;
+		}
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+		private String name;
+		private long counter;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -11,31 +11,44 @@
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.stat.spi.LatencyListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
  * same statistics as would be exposed when calling {@link Statistics#logSummary()}.
+ * <p>
+ * The durations of flushes, JDBC batches, entity loads, and queries are recorded in
+ * {@link Timer}s, through a {@link LatencyListener}, which is unregistered by
+ * {@link #close()}.
  */
 @NonNullApi
 @NonNullFields
-public class HibernateMetrics implements MeterBinder {
+public class HibernateMetrics implements MeterBinder, AutoCloseable {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
 	private final @Nullable Statistics statistics;
 
+	private final List<LatencyListener> latencyListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Create {@code HibernateMetrics} and bind to the specified meter registry.
 	 *
@@ -335,6 +348,78 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Latencies
+		timers( registry );
+	}
+
+	private Timer timer(MeterRegistry registry, String name, String description) {
+		return Timer.builder( name )
+				.tags( tags )
+				.description( description )
+				.publishPercentiles( PERCENTILES )
+				.register( registry );
+	}
+
+	private void timers(MeterRegistry registry) {
+		if ( !( statistics instanceof StatisticsImplementor statisticsImplementor ) ) {
+			return;
+		}
+
+		final Timer flushes = timer( registry,
+				"hibernate.flushes.duration",
+				"The time taken by flushes"
+		);
+		final Timer batches = timer( registry,
+				"hibernate.statements.batches.duration",
+				"The execution time of JDBC batches"
+		);
+		final Timer entityLoads = timer( registry,
+				"hibernate.entities.loads.duration",
+				"The time taken to load an entity by id from the database"
+		);
+		final Timer queryExecutions = timer( registry,
+				"hibernate.query.executions.duration",
+				"The execution time of queries"
+		);
+
+		final LatencyListener listener = new LatencyListener() {
+			@Override
+			public void queryExecuted(@Nullable String query, long nanoseconds) {
+				queryExecutions.record( nanoseconds, TimeUnit.NANOSECONDS );
+			}
+
+			@Override
+			public void entityLoadExecuted(long nanoseconds) {
+				entityLoads.record( nanoseconds, TimeUnit.NANOSECONDS );
+			}
+
+			@Override
+			public void flushExecuted(long nanoseconds) {
+				flushes.record( nanoseconds, TimeUnit.NANOSECONDS );
+			}
+
+			@Override
+			public void batchExecuted(long nanoseconds) {
+				batches.record( nanoseconds, TimeUnit.NANOSECONDS );
+			}
+		};
+		statisticsImplementor.addLatencyListener( listener );
+		latencyListeners.add( listener );
+	}
+
+	/**
+	 * Stop recording durations in the {@link Timer}s of every registry this binder
+	 * was bound to.
+	 */
+	@Override
+	public void close() {
+		if ( statistics instanceof StatisticsImplementor statisticsImplementor ) {
+			for ( LatencyListener listener : latencyListeners ) {
+				statisticsImplementor.removeLatencyListener( listener );
+			}
+		}
+		latencyListeners.clear();
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -15,7 +15,15 @@
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.stat.spi.LatencyListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,17 +33,24 @@
  * <p>
  * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
  * application when considering using this {@link MeterBinder}.
+ * <p>
+ * The execution times of each query are recorded in a {@link Timer}, through a
+ * {@link LatencyListener}, which is unregistered by {@link #close()}.
  */
 @NonNullApi
 @NonNullFields
-public class HibernateQueryMetrics implements MeterBinder {
+public class HibernateQueryMetrics implements MeterBinder, AutoCloseable {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
 
+	private final List<LatencyListener> latencyListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Create {@code HibernateQueryMetrics} and bind to the specified meter registry.
 	 *
@@ -87,6 +102,52 @@ public void bindTo(MeterRegistry meterRegistry) {
 			MetricsEventHandler metricsEventHandler = new MetricsEventHandler( meterRegistry );
 			eventListenerRegistry.appendListeners( EventType.POST_LOAD, metricsEventHandler );
 		}
+		if ( sessionFactory.getStatistics() instanceof StatisticsImplementor statistics ) {
+			final LatencyListener listener = new QueryTimers( meterRegistry );
+			statistics.addLatencyListener( listener );
+			latencyListeners.add( listener );
+		}
+	}
+
+	/**
+	 * Stop recording execution times in the {@link Timer}s of every registry this
+	 * binder was bound to.
+	 */
+	@Override
+	public void close() {
+		if ( sessionFactory.getStatistics() instanceof StatisticsImplementor statistics ) {
+			for ( LatencyListener listener : latencyListeners ) {
+				statistics.removeLatencyListener( listener );
+			}
+		}
+		latencyListeners.clear();
+	}
+
+	class QueryTimers implements LatencyListener {
+
+		private final MeterRegistry meterRegistry;
+		private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+		QueryTimers(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+		}
+
+		@Override
+		public void queryExecuted(@Nullable String query, long nanoseconds) {
+			if ( query != null ) {
+				timers.computeIfAbsent( query, this::registerTimer )
+						.record( nanoseconds, TimeUnit.NANOSECONDS );
+			}
+		}
+
+		private Timer registerTimer(String query) {
+			return Timer.builder( "hibernate.query.execution.duration" )
+					.tags( tags )
+					.tags( "query", query )
+					.description( "Query execution time" )
+					.publishPercentiles( PERCENTILES )
+					.register( meterRegistry );
+		}
 	}
 
 	class MetricsEventHandler implements PostLoadEventListener {
@@ -58,6 +58,7 @@ public void setUpMetrics() {
 
 	@After
 	public void cleanUpMetrics() {
+		hibernateMetrics.close();
 		registry.clear();
 	}
 
@@ -71,6 +72,8 @@ public void testMicrometerMetrics() {
 
 		Assert.assertNotNull(registry.get("hibernate.optimistic.failures").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.flushes").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.flushes.duration").timer());
+		Assert.assertNotNull(registry.get("hibernate.statements.batches.duration").timer());
 		Assert.assertNotNull(registry.get("hibernate.connections.obtained").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
@@ -84,6 +87,7 @@ public void testMicrometerMetrics() {
 		Assert.assertNotNull(registry.get("hibernate.entities.fetches").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.inserts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.loads").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.entities.loads.duration").timer());
 		Assert.assertNotNull(registry.get("hibernate.entities.updates").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.upserts").functionCounter());
 
@@ -101,6 +105,7 @@ public void testMicrometerMetrics() {
 
 		Assert.assertNotNull(registry.get("hibernate.query.executions").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.query.executions.max").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.query.executions.duration").timer());
 
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "miss").functionCounter());
@@ -124,6 +129,8 @@ public void testMicrometerMetrics() {
 		Assert.assertEquals( 1, registry.get("hibernate.sessions.closed").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.entities.inserts").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
+		Assert.assertEquals( 1, registry.get("hibernate.flushes").functionCounter().count(), 0 );
+		Assert.assertEquals( 1, registry.get("hibernate.flushes.duration").timer().count() );
 
 		// clean up
 		session = openSession();
@@ -136,6 +143,17 @@ public void testMicrometerMetrics() {
 		Assert.assertEquals( 2, registry.get("hibernate.sessions.closed").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.entities.deletes").functionCounter().count(), 0 );
 		Assert.assertEquals( 2, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
+
+		// once closed, the binder no longer records durations
+		hibernateMetrics.close();
+		session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 2 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		Assert.assertEquals( 3, registry.get("hibernate.flushes").functionCounter().count(), 0 );
+		Assert.assertEquals( 2, registry.get("hibernate.flushes.duration").timer().count() );
 	}
 
 	void verifyMeterNotFoundException(String name) {
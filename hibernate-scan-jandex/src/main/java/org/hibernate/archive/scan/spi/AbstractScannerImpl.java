@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.archive.scan.internal.ClassDescriptorImpl;
 import org.hibernate.archive.scan.internal.NoopEntryHandler;
 import org.hibernate.archive.scan.internal.ScanResultCollector;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
@@ -21,12 +22,17 @@
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
 import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
 
+import org.jboss.logging.Logger;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractScannerImpl implements Scanner {
+	private static final Logger LOG = Logger.getLogger( AbstractScannerImpl.class );
+
 	private final ArchiveDescriptorFactory archiveDescriptorFactory;
 	private final Map<URL, ArchiveDescriptorInfo> archiveDescriptorCache = new HashMap<>();
 
@@ -42,20 +48,45 @@ public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanPar
 		if ( nonRootUrls != null ) {
 			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : nonRootUrls ) {
-				buildArchiveDescriptor( url, environment, false )
-						.visitArchive( context );
+				visitArchive( url, buildArchiveDescriptor( url, environment, false ), context, collector );
 			}
 		}
 
 		final URL rootUrl = environment.getRootUrl();
 		if ( rootUrl != null ) {
-			buildArchiveDescriptor( rootUrl, environment, true )
-					.visitArchive( new ArchiveContextImpl( true, collector ) );
+			visitArchive( rootUrl, buildArchiveDescriptor( rootUrl, environment, true ),
+					new ArchiveContextImpl( true, collector ), collector );
 		}
 
 		return collector.toScanResult();
 	}
 
+	/**
+	 * Visit the given archive, using its {@linkplain ScanIndex scan index}, if it has
+	 * one which matches its class files, instead of indexing its classes with Jandex.
+	 */
+	private static void visitArchive(
+			URL url,
+			ArchiveDescriptor descriptor,
+			ArchiveContext context,
+			ScanResultCollector collector) {
+		final ScanIndex scanIndex = ScanIndex.locate( url );
+		if ( scanIndex == null ) {
+			descriptor.visitArchive( context );
+		}
+		else if ( scanIndex.matches( url ) ) {
+			LOG.debugf( "Using scan index of archive [%s]", url );
+			final IndexedArchiveContextImpl indexedContext =
+					new IndexedArchiveContextImpl( context.isRootUrl(), collector, scanIndex );
+			descriptor.visitArchive( indexedContext );
+			indexedContext.applyScanIndex();
+		}
+		else {
+			LOG.warnf( "Ignoring scan index of archive [%s], which does not match its class files", url );
+			descriptor.visitArchive( context );
+		}
+	}
+
 
 	private ArchiveDescriptor buildArchiveDescriptor(
 			URL url,
@@ -107,6 +138,61 @@ protected void validateReuse(ArchiveDescriptorInfo descriptor, boolean root) {
 	}
 
 
+	/**
+	 * Handles the packages and mapping files of an archive which has a
+	 * {@link ScanIndex}, and locates the class files listed by the index.
+	 */
+	private static class IndexedArchiveContextImpl implements ArchiveContext {
+		private final boolean isRootUrl;
+		private final ScanResultCollector collector;
+		private final ScanIndex scanIndex;
+
+		private final Map<String, InputStreamAccess> indexedClassFiles = new HashMap<>();
+
+		private final PackageInfoArchiveEntryHandler packageEntryHandler;
+		private final ArchiveEntryHandler fileEntryHandler;
+
+		private IndexedArchiveContextImpl(boolean isRootUrl, ScanResultCollector collector, ScanIndex scanIndex) {
+			this.isRootUrl = isRootUrl;
+			this.collector = collector;
+			this.scanIndex = scanIndex;
+
+			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( collector );
+			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( collector );
+		}
+
+		@Override
+		public boolean isRootUrl() {
+			return isRootUrl;
+		}
+
+		@Override
+		public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
+			final String nameWithinArchive = entry.getNameWithinArchive();
+
+			if ( nameWithinArchive.endsWith( "package-info.class" ) ) {
+				return packageEntryHandler;
+			}
+			else if ( scanIndex.isIndexed( nameWithinArchive ) ) {
+				return (classEntry, context) -> indexedClassFiles.put( nameWithinArchive, classEntry.getStreamAccess() );
+			}
+			else if ( nameWithinArchive.endsWith( ".class" ) ) {
+				return NoopEntryHandler.NOOP_INSTANCE;
+			}
+			else {
+				return fileEntryHandler;
+			}
+		}
+
+		private void applyScanIndex() {
+			scanIndex.visitClasses( (className, categorization) -> {
+				final InputStreamAccess streamAccess =
+						indexedClassFiles.get( className.replace( '.', '/' ) + ".class" );
+				collector.handleClass( new ClassDescriptorImpl( className, categorization, streamAccess ), isRootUrl );
+			} );
+		}
+	}
+
 	public static class ArchiveContextImpl implements ArchiveContext {
 		private final boolean isRootUrl;
 
@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.archive.scan.spi;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor.Categorization;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+/**
+ * An index of the entities, mapped superclasses, embeddables, and converters
+ * of an archive, written at build time by the Hibernate Gradle and Maven plugins
+ * to {@value #RESOURCE_NAME}, so that the scanner does not need to index every
+ * class of the archive with Jandex when the application starts.
+ * <p>
+ * The index records the size and CRC-32 of each class file of the archive.
+ * Before the index is used, it is {@linkplain #matches(URL) checked} against
+ * the class files of the archive, without reading them when the archive is a
+ * JAR, since the size and CRC-32 of its entries are recorded in its central
+ * directory. When the class files no longer match, the index is ignored, and
+ * the archive is scanned as usual.
+ *
+ * @since 7.1
+ */
+public final class ScanIndex {
+	/**
+	 * The name of the index within the archive.
+	 */
+	public static final String RESOURCE_NAME = "META-INF/hibernate-scan.idx";
+
+	private static final Logger LOG = Logger.getLogger( ScanIndex.class );
+
+	private static final String HEADER = "# Hibernate ORM scan index";
+	private static final int VERSION = 2;
+
+	/**
+	 * The size, CRC-32, and last modification time of a class file.
+	 */
+	private record ClassFile(long size, long crc, long lastModified) {
+	}
+
+	private final Map<String, ClassFile> classFiles;
+	private final Map<String, Categorization> classes;
+
+	private ScanIndex(Map<String, ClassFile> classFiles, Map<String, Categorization> classes) {
+		this.classFiles = classFiles;
+		this.classes = classes;
+	}
+
+	/**
+	 * Visit the names and categorizations of the indexed classes.
+	 */
+	public void visitClasses(BiConsumer<String, Categorization> consumer) {
+		classes.forEach( consumer );
+	}
+
+	/**
+	 * Is the class file with the given name within the archive indexed?
+	 */
+	public boolean isIndexed(String nameWithinArchive) {
+		return nameWithinArchive.endsWith( ".class" )
+			&& classes.containsKey( nameWithinArchive.substring( 0, nameWithinArchive.length() - 6 ).replace( '/', '.' ) );
+	}
+
+	/**
+	 * Do the class files of the archive with the given URL match the class
+	 * files recorded by this index?
+	 * <p>
+	 * The class files of a JAR are checked against the size and CRC-32 of
+	 * its entries. The class files of a directory are checked against their
+	 * size and last modification time, and only read to compute their CRC-32
+	 * when they were modified after the index was written.
+	 *
+	 * @return {@code false} if the class files do not match, or if the archive
+	 *         is neither a directory nor a JAR
+	 */
+	public boolean matches(URL archiveUrl) {
+		try {
+			if ( "file".equals( archiveUrl.getProtocol() ) ) {
+				final Path path = Path.of( archiveUrl.toURI() );
+				if ( Files.isDirectory( path ) ) {
+					return matches( path );
+				}
+				else {
+					try ( ZipFile zipFile = new ZipFile( path.toFile() ) ) {
+						return matches( zipFile, "" );
+					}
+				}
+			}
+			else if ( archiveUrl.openConnection() instanceof JarURLConnection connection ) {
+				connection.setUseCaches( false );
+				final String entryName = connection.getEntryName();
+				// the class files of a directory within the JAR
+				final String prefix = entryName == null || entryName.endsWith( "/" ) ? entryName : entryName + '/';
+				try ( JarFile jarFile = connection.getJarFile() ) {
+					return matches( jarFile, prefix == null ? "" : prefix );
+				}
+			}
+			else {
+				LOG.debugf( "Unable to check the class files of archive [%s] against its scan index", archiveUrl );
+				return false;
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			throw new ArchiveException( "Could not check scan index of archive [" + archiveUrl + "]", e );
+		}
+	}
+
+	private boolean matches(ZipFile zipFile, String prefix) {
+		int count = 0;
+		final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+		while ( entries.hasMoreElements() ) {
+			final ZipEntry entry = entries.nextElement();
+			final String name = entry.getName();
+			if ( !entry.isDirectory() && name.endsWith( ".class" ) && name.startsWith( prefix ) ) {
+				final ClassFile classFile = classFiles.get( name.substring( prefix.length() ) );
+				if ( classFile == null || classFile.size != entry.getSize() || classFile.crc != entry.getCrc() ) {
+					return false;
+				}
+				count++;
+			}
+		}
+		return count == classFiles.size();
+	}
+
+	private boolean matches(Path directory) throws IOException {
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			final Iterator<Path> iterator = files.iterator();
+			int count = 0;
+			while ( iterator.hasNext() ) {
+				final Path file = iterator.next();
+				if ( file.toString().endsWith( ".class" ) ) {
+					final BasicFileAttributes attributes = Files.readAttributes( file, BasicFileAttributes.class );
+					if ( attributes.isRegularFile() ) {
+						final String name = directory.relativize( file ).toString().replace( File.separatorChar, '/' );
+						final ClassFile classFile = classFiles.get( name );
+						if ( classFile == null
+								|| classFile.size != attributes.size()
+								|| classFile.lastModified != attributes.lastModifiedTime().toMillis()
+										&& classFile.crc != crc( Files.readAllBytes( file ) ) ) {
+							return false;
+						}
+						count++;
+					}
+				}
+			}
+			return count == classFiles.size();
+		}
+	}
+
+	public void write(OutputStream outputStream) throws IOException {
+		final Writer writer = new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 );
+		writer.write( HEADER + '\n' );
+		writer.write( "version=" + VERSION + '\n' );
+		for ( Map.Entry<String, ClassFile> entry : classFiles.entrySet() ) {
+			final ClassFile classFile = entry.getValue();
+			writer.write( "file=" + classFile.size + ',' + Long.toHexString( classFile.crc ) + ','
+					+ classFile.lastModified + ',' + entry.getKey() + '\n' );
+		}
+		for ( Map.Entry<String, Categorization> entry : classes.entrySet() ) {
+			writer.write( entry.getValue().name().toLowerCase( Locale.ROOT ) + '=' + entry.getKey() + '\n' );
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Read an index written by {@link #write(OutputStream)}.
+	 *
+	 * @return the index, or {@code null} if it was written by an incompatible version
+	 */
+	public static ScanIndex read(InputStream inputStream) throws IOException {
+		final BufferedReader reader = new BufferedReader( new InputStreamReader( inputStream, StandardCharsets.UTF_8 ) );
+		boolean compatible = false;
+		final Map<String, ClassFile> classFiles = new HashMap<>();
+		final Map<String, Categorization> classes = new TreeMap<>();
+		String line;
+		while ( ( line = reader.readLine() ) != null ) {
+			if ( line.isBlank() || line.startsWith( "#" ) ) {
+				continue;
+			}
+			final int separator = line.indexOf( '=' );
+			if ( separator < 0 ) {
+				return null;
+			}
+			final String key = line.substring( 0, separator );
+			final String value = line.substring( separator + 1 );
+			switch ( key ) {
+				case "version" -> compatible = Integer.toString( VERSION ).equals( value );
+				case "file" -> {
+					final String[] fields = value.split( ",", 4 );
+					if ( !compatible || fields.length != 4 ) {
+						return null;
+					}
+					try {
+						classFiles.put( fields[3], new ClassFile(
+								Long.parseLong( fields[0] ),
+								Long.parseLong( fields[1], 16 ),
+								Long.parseLong( fields[2] )
+						) );
+					}
+					catch (NumberFormatException e) {
+						return null;
+					}
+				}
+				case "model" -> classes.put( value, Categorization.MODEL );
+				case "converter" -> classes.put( value, Categorization.CONVERTER );
+				default -> {
+					return null;
+				}
+			}
+		}
+		return compatible ? new ScanIndex( classFiles, classes ) : null;
+	}
+
+	/**
+	 * Read the index of the archive with the given URL, if it has one.
+	 *
+	 * @return the index, or {@code null} if the archive has no usable index
+	 */
+	public static ScanIndex locate(URL archiveUrl) {
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { archiveUrl }, null ) ) {
+			final URL indexUrl = classLoader.findResource( RESOURCE_NAME );
+			if ( indexUrl == null ) {
+				return null;
+			}
+			final URLConnection connection = indexUrl.openConnection();
+			// do not keep the archive open
+			connection.setUseCaches( false );
+			try ( InputStream inputStream = connection.getInputStream() ) {
+				return read( inputStream );
+			}
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not read scan index of archive [" + archiveUrl + "]", e );
+		}
+	}
+
+	/**
+	 * Create a builder of the index of an archive, which categorizes the class
+	 * files added to it with Jandex.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private static long crc(byte[] bytes) {
+		final CRC32 crc = new CRC32();
+		crc.update( bytes );
+		return crc.getValue();
+	}
+
+	/**
+	 * Records and categorizes the class files of an archive.
+	 */
+	public static final class Builder {
+		private final Map<String, ClassFile> classFiles = new TreeMap<>();
+		private final Map<String, Categorization> classes = new TreeMap<>();
+		private final Indexer indexer = new Indexer();
+
+		private Builder() {
+		}
+
+		/**
+		 * Add a class file of the archive.
+		 *
+		 * @param nameWithinArchive the path of the class file within the archive,
+		 * using {@code /} as the separator
+		 */
+		public Builder addClassFile(String nameWithinArchive, InputStream inputStream) throws IOException {
+			return addClassFile( nameWithinArchive, -1, inputStream );
+		}
+
+		/**
+		 * Add a class file of the archive, along with its last modification
+		 * time, which allows a directory to be checked against the index
+		 * without reading the class files.
+		 *
+		 * @param nameWithinArchive the path of the class file within the archive,
+		 * using {@code /} as the separator
+		 * @param lastModified the last modification time of the class file, in
+		 * milliseconds since the epoch
+		 */
+		public Builder addClassFile(String nameWithinArchive, long lastModified, InputStream inputStream)
+				throws IOException {
+			final byte[] bytes = inputStream.readAllBytes();
+			classFiles.put( nameWithinArchive, new ClassFile( bytes.length, crc( bytes ), lastModified ) );
+			if ( !nameWithinArchive.endsWith( "package-info.class" )
+					&& !nameWithinArchive.endsWith( "module-info.class" ) ) {
+				final String className =
+						indexer.indexWithSummary( new ByteArrayInputStream( bytes ) ).name().toString();
+				final Categorization categorization =
+						ClassFileArchiveEntryHandler.categorize( indexer.complete() );
+				if ( categorization != Categorization.OTHER ) {
+					classes.put( className, categorization );
+				}
+			}
+			return this;
+		}
+
+		public ScanIndex build() {
+			return new ScanIndex( classFiles, classes );
+		}
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.io.File;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Set;
 
 import org.gradle.api.Action;
@@ -17,8 +18,10 @@
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.plugins.JavaPluginExtension;
 import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskProvider;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
+import org.hibernate.orm.tooling.gradle.index.ScanIndexTask;
 
 /**
  * Hibernate ORM Gradle plugin
@@ -36,6 +39,7 @@ public void apply(Project project) {
 
 			prepareEnhancement( ormDsl, project );
 			prepareHbmTransformation( ormDsl, project );
+			prepareScanIndex( ormDsl, project );
 
 
 			//noinspection ConstantConditions
@@ -92,6 +96,32 @@ public void execute(Task t) {
 		} );
 	}
 
+	private void prepareScanIndex(HibernateOrmSpec ormDsl, Project project) {
+		project.afterEvaluate( (p) -> {
+			if ( !ormDsl.getScanIndex().get() ) {
+				return;
+			}
+
+			final SourceSet sourceSet = resolveSourceSet( ormDsl.getSourceSet().get(), project );
+			final TaskProvider<ScanIndexTask> scanIndexTask = project.getTasks().register(
+					sourceSet.getTaskName( "generate", "HibernateScanIndex" ),
+					ScanIndexTask.class,
+					(task) -> {
+						task.setDescription( "Writes the Hibernate scan index of the `" + sourceSet.getName() + "` classes" );
+						// the classes are enhanced by the compile tasks which produce them
+						task.getClassesDirectories().from( sourceSet.getOutput().getClassesDirs() );
+						task.getOutputDirectory().convention(
+								project.getLayout().getBuildDirectory().dir( "generated/hibernate/scan-index/" + sourceSet.getName() )
+						);
+					}
+			);
+			sourceSet.getOutput().dir(
+					Map.of( "builtBy", scanIndexTask ),
+					scanIndexTask.flatMap( ScanIndexTask::getOutputDirectory )
+			);
+		} );
+	}
+
 	private SourceSet resolveSourceSet(String name, Project project) {
 		final JavaPluginExtension javaPluginExtension = project.getExtensions().getByType( JavaPluginExtension.class );
 		return javaPluginExtension.getSourceSets().getByName( name );
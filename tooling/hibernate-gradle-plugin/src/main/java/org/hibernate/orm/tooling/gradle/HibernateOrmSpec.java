@@ -28,6 +28,7 @@ public HibernateOrmSpec() {
 		getUseSameVersion().convention( true );
 		getSourceSet().convention( SourceSet.MAIN_SOURCE_SET_NAME );
 		getLanguages().convention( Arrays.asList( "java", "kotlin" ) );
+		getScanIndex().convention( false );
 	}
 
 	@Inject
@@ -65,6 +66,16 @@ public HibernateOrmSpec() {
 	 */
 	abstract public SetProperty<String> getLanguages();
 
+	/**
+	 * Should the plugin write a {@linkplain org.hibernate.archive.scan.spi.ScanIndex scan index}
+	 * of the classes of the {@linkplain #getSourceSet() source-set}, so that they are not indexed
+	 * with Jandex when the application starts?  Only useful when classes are discovered by scanning,
+	 * using {@code hibernate-scan-jandex}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	abstract public Property<Boolean> getScanIndex();
+
 	/**
 	 * @see #getEnhancement()
 	 */
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.gradle.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.archive.scan.spi.ScanIndex;
+
+/**
+ * Task to write the {@linkplain ScanIndex scan index} of the classes of a
+ * source set, so that the entity classes are not indexed with Jandex when
+ * the application starts.
+ * <p>
+ * The index is written to {@value ScanIndex#RESOURCE_NAME} under the
+ * {@linkplain #getOutputDirectory() output directory}, which is added to
+ * the output of the source set.
+ */
+@CacheableTask
+public abstract class ScanIndexTask extends DefaultTask {
+
+	/**
+	 * The directories containing the class files, after enhancement.
+	 */
+	@InputFiles
+	@PathSensitive(PathSensitivity.RELATIVE)
+	abstract public ConfigurableFileCollection getClassesDirectories();
+
+	@OutputDirectory
+	abstract public DirectoryProperty getOutputDirectory();
+
+	@TaskAction
+	public void writeScanIndex() {
+		final ScanIndex.Builder builder = ScanIndex.builder();
+		for ( File classesDirectory : getClassesDirectories().getFiles() ) {
+			if ( classesDirectory.isDirectory() ) {
+				addClassFiles( builder, classesDirectory.toPath() );
+			}
+		}
+
+		final File indexFile = getOutputDirectory().file( ScanIndex.RESOURCE_NAME ).get().getAsFile();
+		try {
+			Files.createDirectories( indexFile.getParentFile().toPath() );
+			try ( OutputStream outputStream = Files.newOutputStream( indexFile.toPath() ) ) {
+				builder.build().write( outputStream );
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write scan index `" + indexFile + "`", e );
+		}
+	}
+
+	private static void addClassFiles(ScanIndex.Builder builder, Path classesDirectory) {
+		try ( Stream<Path> files = Files.walk( classesDirectory ) ) {
+			final Iterator<Path> classFiles = files
+					.filter( file -> Files.isRegularFile( file ) && file.toString().endsWith( ".class" ) )
+					.iterator();
+			while ( classFiles.hasNext() ) {
+				final Path classFile = classFiles.next();
+				final String nameWithinArchive =
+						classesDirectory.relativize( classFile ).toString().replace( File.separatorChar, '/' );
+				try ( InputStream inputStream = Files.newInputStream( classFile ) ) {
+					builder.addClassFile(
+							nameWithinArchive,
+							Files.getLastModifiedTime( classFile ).toMillis(),
+							inputStream
+					);
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to index classes in `" + classesDirectory + "`", e );
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.archive.scan.spi.ScanIndex;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+
+/**
+ * Functional tests for {@link org.hibernate.orm.tooling.gradle.index.ScanIndexTask}
+ */
+class ScanIndexTests {
+	@Test
+	void testScanIndex(@TempDir Path projectDir) throws Exception {
+		Copier.copyProject( "scan-index/build.gradle", projectDir );
+
+		System.out.println( "Starting execution ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~" );
+		final GradleRunner gradleRunner = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "generateHibernateScanIndex", "--stacktrace", "--no-build-cache", "--configuration-cache" )
+				.forwardOutput();
+		final BuildResult result = gradleRunner.build();
+
+		final BuildTask task = result.task( ":generateHibernateScanIndex" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( SUCCESS );
+
+		final File targetDir = new File( projectDir.toFile(), "build" );
+		final File indexFile = new File( targetDir, "generated/hibernate/scan-index/main/" + ScanIndex.RESOURCE_NAME );
+		assertThat( indexFile ).exists();
+
+		final String indexContent = Files.readString( indexFile.toPath() );
+		assertThat( indexContent ).contains( ",TheEntity.class\n" );
+		assertThat( indexContent ).contains( ",TheHelper.class\n" );
+		assertThat( indexContent ).contains( "model=TheEntity\n" );
+		assertThat( indexContent ).doesNotContain( "=TheHelper\n" );
+
+		// the index is valid for the classes it was written from
+		final File classesDir = new File( targetDir, "classes/java/main" );
+		try ( InputStream inputStream = Files.newInputStream( indexFile.toPath() ) ) {
+			assertThat( ScanIndex.read( inputStream ).matches( classesDir.toURI().toURL() ) ).isTrue();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.hibernate.archive.scan.spi.ScanIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Maven mojo for writing the {@linkplain ScanIndex scan index} of the classes
+ * directory, so that the entity classes are not indexed with Jandex when the
+ * application starts. When classes are also enhanced, this goal must be
+ * executed after the {@code enhance} goal.
+ */
+@Mojo(name = "scan-index", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class HibernateScanIndexMojo extends AbstractMojo {
+
+	@Parameter(
+			defaultValue = "${project.build.directory}/classes",
+			required = true)
+	private File classesDirectory;
+
+	public void execute() throws MojoExecutionException {
+		if (!classesDirectory.isDirectory()) {
+			getLog().debug(SKIPPING_MISSING_CLASSES_DIRECTORY.formatted(classesDirectory));
+			return;
+		}
+		final Path classesPath = classesDirectory.toPath();
+		final ScanIndex.Builder builder = ScanIndex.builder();
+		try (Stream<Path> files = Files.walk(classesPath)) {
+			final Iterator<Path> classFiles = files
+					.filter(file -> Files.isRegularFile(file) && file.toString().endsWith(".class"))
+					.iterator();
+			while (classFiles.hasNext()) {
+				final Path classFile = classFiles.next();
+				try (InputStream inputStream = Files.newInputStream(classFile)) {
+					builder.addClassFile(
+							classesPath.relativize(classFile).toString().replace(File.separatorChar, '/'),
+							Files.getLastModifiedTime(classFile).toMillis(),
+							inputStream);
+				}
+			}
+			final Path indexFile = classesPath.resolve(ScanIndex.RESOURCE_NAME);
+			Files.createDirectories(indexFile.getParent());
+			try (OutputStream outputStream = Files.newOutputStream(indexFile)) {
+				builder.build().write(outputStream);
+			}
+			getLog().info(WROTE_SCAN_INDEX.formatted(indexFile));
+		}
+		catch (IOException e) {
+			throw new MojoExecutionException(UNABLE_TO_WRITE_SCAN_INDEX.formatted(classesDirectory), e);
+		}
+	}
+
+	static final String SKIPPING_MISSING_CLASSES_DIRECTORY = "Skipping scan index, classes directory does not exist: %s";
+	static final String WROTE_SCAN_INDEX = "Wrote scan index: %s";
+	static final String UNABLE_TO_WRITE_SCAN_INDEX = "Unable to write scan index of classes directory: %s";
+
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.hibernate.archive.scan.spi.ScanIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+
+public class HibernateScanIndexMojoTest {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void testExecute() throws Exception {
+		File classesDirectory = new File(tempDir, "classes");
+		File fooFolder = new File(classesDirectory, "org/foo");
+		fooFolder.mkdirs();
+		File barJavaFile = new File(fooFolder, "Bar.java");
+		Files.writeString(barJavaFile.toPath(), "package org.foo; @jakarta.persistence.Entity public class Bar { @jakarta.persistence.Id Long id; }");
+		File fooJavaFile = new File(fooFolder, "Foo.java");
+		Files.writeString(fooJavaFile.toPath(), "package org.foo; public class Foo {}");
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		URL url = Entity.class.getProtectionDomain().getCodeSource().getLocation();
+		String classpath = new File(url.toURI()).getAbsolutePath();
+		compiler.run(null, null, null, List.of(
+				"-cp",
+				classpath,
+				barJavaFile.getAbsolutePath(),
+				fooJavaFile.getAbsolutePath()).toArray(new String[] {}));
+
+		HibernateScanIndexMojo scanIndexMojo = new HibernateScanIndexMojo();
+		Field classesDirectoryField = HibernateScanIndexMojo.class.getDeclaredField("classesDirectory");
+		classesDirectoryField.setAccessible(true);
+		classesDirectoryField.set(scanIndexMojo, classesDirectory);
+		scanIndexMojo.execute();
+
+		File indexFile = new File(classesDirectory, ScanIndex.RESOURCE_NAME);
+		assertTrue(indexFile.exists());
+		String index = Files.readString(indexFile.toPath());
+		assertTrue(index.contains("model=org.foo.Bar"));
+		assertFalse(index.contains("org.foo.Foo"));
+		assertTrue(index.contains(",org/foo/Foo.class"));
+		try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+			assertTrue(ScanIndex.read(inputStream).matches(classesDirectory.toURI().toURL()));
+		}
+	}
+
+}
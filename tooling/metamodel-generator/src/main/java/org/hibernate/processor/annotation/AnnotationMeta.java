@@ -33,6 +33,8 @@
 import static org.hibernate.processor.util.SqmTypeUtils.resultType;
 
 public abstract class AnnotationMeta implements Metamodel {
+	// a string constant is limited to 65535 bytes in the class file
+	private static final int MAX_CONSTANT_LENGTH = 65_535;
 
 	void addAuxiliaryMembers() {
 		addAuxiliaryMembersForAnnotation( NAMED_QUERY, "QUERY_" );
@@ -105,7 +107,9 @@ private void handleNamedQuery(AnnotationMirror mirror, boolean checkHql) {
 										reportErrors, checkHql ),
 								ProcessorSessionFactory.create( context.getProcessingEnvironment(),
 										context.getEntityNameMappings(), context.getEnumTypesByValue(),
-										context.isIndexing() )
+										context.isIndexing() ),
+								0,
+								parseTree -> addParseTree( name, parseTree )
 						);
 				if ( !isJakartaDataStyle()
 					&& statement instanceof SqmSelectStatement<?> selectStatement ) {
@@ -140,6 +144,37 @@ private void handleNamedQuery(AnnotationMirror mirror, boolean checkHql) {
 		}
 	}
 
+	/**
+	 * Record the parse tree of a named query in the static metamodel, so
+	 * that Hibernate does not need to parse the query again at startup.
+	 */
+	private void addParseTree(String name, String parseTree) {
+		if ( !isJakartaDataStyle() && constantLength( parseTree ) <= MAX_CONSTANT_LENGTH ) {
+			putMember( "PARSE_TREE_" + name, new ParseTreeMetaAttribute( this, name, parseTree ) );
+		}
+	}
+
+	/**
+	 * The length of the given string as a constant in the class file,
+	 * that is, in the modified UTF-8 encoding.
+	 */
+	private static int constantLength(String string) {
+		int length = 0;
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char character = string.charAt( i );
+			if ( character != 0 && character < 0x80 ) {
+				length++;
+			}
+			else if ( character < 0x800 ) {
+				length += 2;
+			}
+			else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
 	private static boolean isQueryMethodName(String name) {
 		return name.length() >= 2
 			&& name.charAt(0) == '#'
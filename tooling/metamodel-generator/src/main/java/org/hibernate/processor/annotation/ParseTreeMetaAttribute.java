@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.processor.annotation;
+
+import org.hibernate.processor.model.MetaAttribute;
+import org.hibernate.processor.model.Metamodel;
+
+import static org.hibernate.processor.util.Constants.STRING;
+import static org.hibernate.processor.util.StringUtil.nameToFieldName;
+import static org.hibernate.processor.util.StringUtil.nameToMethodName;
+
+/**
+ * Represents the serialized parse tree of a named HQL query, which
+ * is read by Hibernate at startup instead of parsing the query.
+ *
+ * @see org.hibernate.query.hql.internal.HqlParseTreeSerializer
+ */
+class ParseTreeMetaAttribute implements MetaAttribute {
+	private final Metamodel annotationMetaEntity;
+	private final String name;
+	private final String parseTree;
+
+	public ParseTreeMetaAttribute(Metamodel annotationMetaEntity, String name, String parseTree) {
+		this.annotationMetaEntity = annotationMetaEntity;
+		this.name = name;
+		this.parseTree = parseTree;
+	}
+
+	@Override
+	public boolean hasTypedAttribute() {
+		return true;
+	}
+
+	@Override
+	public boolean hasStringAttribute() {
+		return false;
+	}
+
+	@Override
+	public String getAttributeDeclarationString() {
+		return new StringBuilder()
+				.append("\n/**")
+				.append("\n * The parse tree of the query named {@value QUERY_")
+				.append(nameToFieldName(name.charAt(0) == '#' ? name.substring(1) : name))
+				.append("},\n * used by Hibernate to avoid parsing the query at startup.")
+				.append("\n **/\n")
+				.append("public static final ")
+				.append(annotationMetaEntity.importType(STRING))
+				.append(" _")
+				.append(nameToMethodName(name))
+				.append("_parseTree_ = \"")
+				.append(parseTree)
+				.append("\";")
+				.toString();
+	}
+
+	@Override
+	public String getAttributeNameDeclarationString() {
+		throw new UnsupportedOperationException("operation not supported");
+	}
+
+	@Override
+	public String getMetaType() {
+		throw new UnsupportedOperationException("operation not supported");
+	}
+
+	@Override
+	public String getPropertyName() {
+		return name;
+	}
+
+	@Override
+	public String getTypeDeclaration() {
+		return STRING;
+	}
+
+	@Override
+	public Metamodel getHostingEntity() {
+		return annotationMetaEntity;
+	}
+}
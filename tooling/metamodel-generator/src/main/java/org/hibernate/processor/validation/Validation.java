@@ -16,6 +16,7 @@
 import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.HqlParseTreeSerializer;
 import org.hibernate.query.hql.internal.SemanticQueryBuilder;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.sqm.EntityTypeException;
@@ -30,6 +31,8 @@
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 
+import java.util.function.Consumer;
+
 import static org.hibernate.processor.validation.ProcessorSessionFactory.getHibernateEntityName;
 import static org.hibernate.processor.validation.ProcessorSessionFactory.isEntity;
 
@@ -64,10 +67,34 @@ public interface Handler extends ANTLRErrorListener {
 			Handler handler,
 			SessionFactoryImplementor factory,
 			int errorOffset) {
+		return validate( hql, returnType, checkTyping, handler, factory, errorOffset, null );
+	}
+
+	/**
+	 * Validate the given HQL, and, if it is free of errors, pass the
+	 * {@linkplain HqlParseTreeSerializer serialized form} of its parse
+	 * tree to the given consumer.
+	 */
+	public static @Nullable SqmStatement<?> validate(
+			String hql,
+			@Nullable TypeMirror returnType,
+			boolean checkTyping,
+			Handler handler,
+			SessionFactoryImplementor factory,
+			int errorOffset,
+			@Nullable Consumer<String> parseTreeConsumer) {
 		try {
 			final HqlParser.StatementContext statementContext = parseAndCheckSyntax( hql, handler );
 			if ( checkTyping && handler.getErrorCount() == 0 ) {
-				return checkTyping( hql, returnType, handler, factory, errorOffset, statementContext );
+				final SqmStatement<?> statement =
+						checkTyping( hql, returnType, handler, factory, errorOffset, statementContext );
+				if ( parseTreeConsumer != null && statement != null && handler.getErrorCount() == 0 ) {
+					final String parseTree = HqlParseTreeSerializer.serialize( hql, statementContext );
+					if ( parseTree != null ) {
+						parseTreeConsumer.accept( parseTree );
+					}
+				}
+				return statement;
 			}
 		}
 		catch (Exception e) {
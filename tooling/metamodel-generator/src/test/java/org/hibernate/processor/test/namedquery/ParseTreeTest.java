@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.processor.test.namedquery;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.processor.test.util.CompilationTest;
+import org.hibernate.processor.test.util.WithClasses;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.HqlParseTreeSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.processor.test.util.TestUtil.assertMetamodelClassGeneratedFor;
+import static org.hibernate.processor.test.util.TestUtil.assertPresenceOfFieldInMetamodelFor;
+import static org.hibernate.processor.test.util.TestUtil.getFieldFromMetamodelFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@CompilationTest
+class ParseTreeTest {
+	@Test
+	@WithClasses({ Book.class })
+	void test() throws Exception {
+		assertMetamodelClassGeneratedFor( Book.class );
+		checkParseTree( "_booksByTitle_parseTree_", "from Book where title = ?1" );
+		checkParseTree( "__findByTitleAndType_parseTree_",
+				"select book from Book book where book.title like :titlePattern and book.type = :type" );
+		checkParseTree( "_titlesAndIsbnsAsRecord_parseTree_",
+				"select new org.hibernate.processor.test.namedquery.TitleAndIsbn(title,isbn) from Book" );
+	}
+
+	private static void checkParseTree(String name, String hql) throws Exception {
+		assertPresenceOfFieldInMetamodelFor( Book.class, name, "Missing parse tree." );
+		final String serialized = (String) getFieldFromMetamodelFor( Book.class, name ).get( null );
+		final HqlParser.StatementContext parseTree = HqlParseTreeSerializer.deserialize( hql, serialized );
+		assertNotNull( parseTree );
+
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, lexer );
+		assertEquals( parser.statement().toStringTree( parser ), parseTree.toStringTree( parser ) );
+	}
+}